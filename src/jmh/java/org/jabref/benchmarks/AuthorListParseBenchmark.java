@@ -0,0 +1,83 @@
+package org.jabref.benchmarks;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jabref.logic.importer.AuthorListParser;
+import org.jabref.model.entry.AuthorList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Parses author strings of a library from several threads, as done by the parallel streams sorting and formatting
+ * names. Compare the throughput of the single-threaded and the multi-threaded benchmarks to see how parsing scales.
+ * The benchmarks with {@code synchronizedWeakMap} use a global synchronized map with weak keys as cache.
+ */
+@State(Scope.Benchmark)
+public class AuthorListParseBenchmark {
+
+    private static final Map<String, AuthorList> SYNCHRONIZED_WEAK_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Param({"10000"})
+    private int numberOfAuthorStrings;
+
+    private String[] authorStrings;
+
+    @Setup
+    public void init() {
+        authorStrings = new String[numberOfAuthorStrings];
+        for (int i = 0; i < numberOfAuthorStrings; i++) {
+            authorStrings[i] = "Firstname Lastname" + i + " and M{\\\"u}ller, Hans and von Neumann, John and Other Author" + (i % 100);
+        }
+    }
+
+    private String nextAuthorString() {
+        return authorStrings[ThreadLocalRandom.current().nextInt(authorStrings.length)];
+    }
+
+    @Benchmark
+    @Threads(1)
+    public AuthorList parseSingleThread() {
+        return AuthorList.parse(nextAuthorString());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public AuthorList parseAllThreads() {
+        return AuthorList.parse(nextAuthorString());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public AuthorList parseLatexFreeAllThreads() {
+        return AuthorList.parseLatexFree(nextAuthorString());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public AuthorList synchronizedWeakMapSingleThread() {
+        return parseUsingSynchronizedWeakMap(nextAuthorString());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public AuthorList synchronizedWeakMapAllThreads() {
+        return parseUsingSynchronizedWeakMap(nextAuthorString());
+    }
+
+    private static AuthorList parseUsingSynchronizedWeakMap(String authors) {
+        AuthorList authorList = SYNCHRONIZED_WEAK_CACHE.get(authors);
+        if (authorList == null) {
+            authorList = new AuthorListParser().parse(authors);
+            SYNCHRONIZED_WEAK_CACHE.put(authors, authorList);
+        }
+        return authorList;
+    }
+}
@@ -0,0 +1,148 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.jabref.gui.autosaveandbackup.BackupJournal;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+
+import com.google.common.eventbus.Subscribe;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares a backup tick writing the whole library with a tick appending the changes to the backup journal.
+ * In both cases, a single field has been changed since the last tick. The bytes written and the CPU time used are
+ * reported as auxiliary counters.
+ */
+@State(Scope.Thread)
+public class BackupBenchmark {
+
+    @Param({"1000", "10000"})
+    private int numberOfEntries;
+
+    private final Random randomizer = new Random(42);
+    private final FieldPreferences fieldPreferences = mock(FieldPreferences.class);
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+            .withMakeBackup(false)
+            .withSaveOrder(SaveOrder.getDefaultSaveOrder());
+    private BibDatabaseContext databaseContext;
+    private Path backupDirectory;
+    private BackupJournal journal;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class WrittenData {
+        public long bytesWritten;
+        public long cpuTimeNanos;
+    }
+
+    @Setup
+    public void init() throws IOException {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and Other Author")
+                    .withField(StandardField.TITLE, "This is title number " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + randomizer.nextInt(50))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + randomizer.nextInt(30))));
+        }
+        databaseContext = new BibDatabaseContext(database, new MetaData());
+        backupDirectory = Files.createTempDirectory("jabref-backup-benchmark");
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                if (event instanceof EntriesEvent entriesEvent) {
+                    journal.record(entriesEvent);
+                }
+            }
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void startJournal() throws IOException {
+        journal = new BackupJournal(backupDirectory.resolve("library.bib.bak"), databaseContext.getDatabase().getEntries());
+        journal.writeHeader();
+    }
+
+    @TearDown
+    public void deleteBackups() throws IOException {
+        try (var files = Files.list(backupDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(backupDirectory);
+    }
+
+    private void changeRandomEntry() {
+        BibEntry entry = databaseContext.getDatabase().getEntries().get(randomizer.nextInt(numberOfEntries));
+        entry.setField(StandardField.NOTE, "Changed " + randomizer.nextInt());
+    }
+
+    @Benchmark
+    public void fullBackupTick(WrittenData writtenData) throws IOException {
+        changeRandomEntry();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long cpuTimeBefore = threadBean.getCurrentThreadCpuTime();
+
+        Path backupPath = backupDirectory.resolve("library.bib--full.bak");
+        try (Writer writer = new AtomicFileWriter(backupPath, StandardCharsets.UTF_8, false)) {
+            new BibtexDatabaseWriter(
+                    new BibWriter(writer, OS.NEWLINE),
+                    saveConfiguration,
+                    fieldPreferences,
+                    citationKeyPatternPreferences,
+                    entryTypesManager)
+                    .saveDatabase(databaseContext);
+        }
+
+        writtenData.cpuTimeNanos += threadBean.getCurrentThreadCpuTime() - cpuTimeBefore;
+        writtenData.bytesWritten += Files.size(backupPath);
+    }
+
+    @Benchmark
+    public void journalBackupTick(WrittenData writtenData) throws IOException {
+        changeRandomEntry();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long cpuTimeBefore = threadBean.getCurrentThreadCpuTime();
+
+        long bytesWritten = journal.flush();
+
+        writtenData.cpuTimeNanos += threadBean.getCurrentThreadCpuTime() - cpuTimeBefore;
+        writtenData.bytesWritten += bytesWritten;
+    }
+}
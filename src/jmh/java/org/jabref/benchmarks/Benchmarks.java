@@ -19,6 +19,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.EntrySearchIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
@@ -38,6 +39,7 @@ import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -48,8 +50,12 @@ import static org.mockito.Mockito.mock;
 @State(Scope.Thread)
 public class Benchmarks {
 
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
+    private EntrySearchIndex searchIndex;
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -58,7 +64,7 @@ public class Benchmarks {
         Globals.prefs = JabRefPreferences.getInstance();
 
         Random randomizer = new Random();
-        for (int i = 0; i < 1000; i++) {
+        for (int i = 0; i < numberOfEntries; i++) {
             BibEntry entry = new BibEntry();
             entry.setCitationKey("id" + i);
             entry.setField(StandardField.TITLE, "This is my title " + i);
@@ -70,6 +76,8 @@ public class Benchmarks {
             database.insertEntry(entry);
         }
 
+        searchIndex = new EntrySearchIndex(database);
+
         bibtexString = getOutputWriter().toString();
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
@@ -96,6 +104,12 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parallelParse() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parseInParallel(new StringReader(bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -115,6 +129,36 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
+        return searchIndex.getMatches(searchQuery);
+    }
+
+    @Benchmark
+    public List<BibEntry> indexedGrammarSearch() {
+        SearchQuery searchQuery = new SearchQuery("journal=\"Journal Title 500\" and author=LastnameB", EnumSet.noneOf(SearchFlags.class));
+        return searchIndex.getMatches(searchQuery);
+    }
+
+    @Benchmark
+    public List<BibEntry> grammarSearch() {
+        SearchQuery searchQuery = new SearchQuery("journal=\"Journal Title 500\" and author=LastnameB", EnumSet.noneOf(SearchFlags.class));
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> complexGrammarSearch() {
+        SearchQuery searchQuery = new SearchQuery("(journal=\"Journal Title 500\" or anyfield=testkeyword) and not year=1999 and editor!=Someone", EnumSet.noneOf(SearchFlags.class));
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> regexGrammarSearch() {
+        SearchQuery searchQuery = new SearchQuery("journal=\"Journal Title 5.*\" and author=LastnameB?", EnumSet.of(SearchFlags.REGULAR_EXPRESSION));
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -0,0 +1,53 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shows that looking up entries by citation key does not depend on the size of the library
+ */
+@State(Scope.Thread)
+public class CitationKeyLookupBenchmark {
+
+    @Param({"1000", "10000", "80000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private String lastKey;
+
+    @Setup
+    public void init() {
+        database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry()
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i));
+        }
+        lastKey = "key" + (numberOfEntries - 1);
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByCitationKey() {
+        return database.getEntryByCitationKey(lastKey);
+    }
+
+    @Benchmark
+    public List<BibEntry> getEntriesByCitationKey() {
+        return database.getEntriesByCitationKey(lastKey);
+    }
+
+    @Benchmark
+    public boolean isDuplicateCitationKeyExisting() {
+        return database.isDuplicateCitationKeyExisting(lastKey);
+    }
+}
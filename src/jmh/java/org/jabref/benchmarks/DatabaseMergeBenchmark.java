@@ -0,0 +1,86 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.database.DatabaseMerger;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Merges the results of a crawl into a library, as done by {@link org.jabref.logic.crawler.StudyRepository}.
+ * <p>
+ * Every fifth entry of the batch is a slightly modified copy of an entry of the library. Checking each entry of the
+ * batch against every entry of the library would need 500 million comparisons for the default sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DatabaseMergeBenchmark {
+
+    @Param({"50000"})
+    private int numberOfEntriesInLibrary;
+
+    @Param({"10000"})
+    private int numberOfEntriesInBatch;
+
+    private final List<BibEntry> libraryEntries = new ArrayList<>();
+    private final List<BibEntry> batchEntries = new ArrayList<>();
+    private BibDatabase library;
+    private List<BibEntry> batch;
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(42);
+        libraryEntries.clear();
+        for (int i = 0; i < numberOfEntriesInLibrary; i++) {
+            libraryEntries.add(createEntry(randomizer, i));
+        }
+        batchEntries.clear();
+        for (int i = 0; i < numberOfEntriesInBatch; i++) {
+            if ((i % 5) == 0) {
+                BibEntry existingEntry = libraryEntries.get(randomizer.nextInt(numberOfEntriesInLibrary));
+                batchEntries.add(new BibEntry(StandardEntryType.Article)
+                        .withFields(existingEntry.getFieldMap())
+                        .withField(StandardField.TITLE, existingEntry.getField(StandardField.TITLE).orElse("") + "."));
+            } else {
+                batchEntries.add(createEntry(randomizer, numberOfEntriesInLibrary + i));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createLibrary() {
+        // copies, as the merge adds the entries to the library and thus registers listeners at them
+        library = new BibDatabase(libraryEntries.stream().map(entry -> (BibEntry) entry.clone()).toList());
+        batch = batchEntries.stream().map(entry -> (BibEntry) entry.clone()).toList();
+    }
+
+    @Benchmark
+    public int mergeEntries() {
+        new DatabaseMerger(',').mergeEntries(library, batch);
+        return library.getEntryCount();
+    }
+
+    private static BibEntry createEntry(Random randomizer, int number) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Firstname Lastname" + randomizer.nextInt(10000) + " and Other Author")
+                .withField(StandardField.TITLE, "This is title number " + number + " about topic " + randomizer.nextInt(100))
+                .withField(StandardField.JOURNAL, "Journal Title " + randomizer.nextInt(50))
+                .withField(StandardField.YEAR, String.valueOf(1990 + randomizer.nextInt(30)));
+    }
+}
@@ -0,0 +1,71 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFinder;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the exhaustive pairwise duplicate scan with the search based on blocking keys
+ */
+@State(Scope.Thread)
+public class DuplicateSearchBenchmark {
+
+    @Param({"500", "2000"})
+    private int numberOfEntries;
+
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final List<BibEntry> entries = new ArrayList<>();
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(42);
+        entries.clear();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + randomizer.nextInt(numberOfEntries / 4) + " and Other Author")
+                    .withField(StandardField.TITLE, "This is title number " + i + " about topic " + randomizer.nextInt(100))
+                    .withField(StandardField.JOURNAL, "Journal Title " + randomizer.nextInt(50))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + randomizer.nextInt(30)));
+            entries.add(entry);
+            if ((i % 10) == 0) {
+                // every tenth entry has a slightly modified duplicate
+                entries.add(new BibEntry(StandardEntryType.Article)
+                        .withFields(entry.getFieldMap())
+                        .withField(StandardField.TITLE, entry.getField(StandardField.TITLE).orElse("") + "."));
+            }
+        }
+    }
+
+    @Benchmark
+    public int exhaustivePairwiseScan() {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        int duplicates = 0;
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    duplicates++;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public int blockingKeySearch() {
+        return new DuplicateFinder(entryTypesManager).findDuplicates(entries, BibDatabaseMode.BIBTEX).size();
+    }
+}
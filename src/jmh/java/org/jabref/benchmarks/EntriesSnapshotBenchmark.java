@@ -0,0 +1,95 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Background tasks reading the entries of a library while entries are added and removed, as it happens if a search or
+ * integrity check runs while the user edits the library. Three readers scan all entries, one writer adds or removes an
+ * entry every few milliseconds.
+ * <p>
+ * The "copy" group copies the live list of entries for each scan, which is the safe way to read it, but holds the lock
+ * of the list during the copy. The "snapshot" group reads {@link BibDatabase#getEntriesSnapshot()}, which is copied at
+ * most once per change.
+ */
+@State(Scope.Group)
+public class EntriesSnapshotBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibEntry changingEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2000");
+    private boolean changingEntryInserted;
+
+    @Setup
+    public void init() {
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "This is title number " + i)
+                    .withField(StandardField.YEAR, String.valueOf(1990 + (i % 30))));
+        }
+    }
+
+    private static long countEntriesOf2000(List<BibEntry> entries) {
+        return entries.stream()
+                      .filter(entry -> entry.getField(StandardField.YEAR).filter("2000"::equals).isPresent())
+                      .count();
+    }
+
+    @Benchmark
+    @Group("copy")
+    @GroupThreads(3)
+    public long readCopy() {
+        return countEntriesOf2000(List.copyOf(database.getEntries()));
+    }
+
+    @Benchmark
+    @Group("copy")
+    @GroupThreads(1)
+    public void writeWhileCopying() {
+        toggleChangingEntry();
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(3)
+    public long readSnapshot() {
+        return countEntriesOf2000(database.getEntriesSnapshot());
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public void writeWhileReadingSnapshots() {
+        toggleChangingEntry();
+    }
+
+    /**
+     * Only called by the single writer thread of a group
+     */
+    private void toggleChangingEntry() {
+        // changes are much less frequent than reads, a change on every call would make every snapshot outdated
+        Blackhole.consumeCPU(1_000_000);
+        if (changingEntryInserted) {
+            database.removeEntry(changingEntry);
+        } else {
+            database.insertEntry(changingEntry);
+        }
+        changingEntryInserted = !changingEntryInserted;
+    }
+}
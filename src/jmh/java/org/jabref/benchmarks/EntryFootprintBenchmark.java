@@ -0,0 +1,110 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Heap footprint of a parsed library.
+ * <p>
+ * {@link #retainedSize(Footprint)} reports the bytes retained by the library per entry as auxiliary counter, measured
+ * by walking the object graph with JOL. {@link #parse()} parses the library; run it with {@code -prof gc} to get the
+ * bytes allocated while parsing ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class EntryFootprintBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private String bibtexString;
+    private BibDatabase parsedDatabase;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long bytesPerEntry;
+    }
+
+    @Setup
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        Random randomizer = new Random(42);
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and Other Author")
+                    .withField(StandardField.TITLE, "This is title number " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + randomizer.nextInt(50))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + randomizer.nextInt(30)))
+                    .withField(StandardField.VOLUME, String.valueOf(randomizer.nextInt(100)))
+                    .withField(StandardField.PAGES, randomizer.nextInt(100) + "--" + randomizer.nextInt(100))
+                    .withField(StandardField.KEYWORDS, "keyword" + randomizer.nextInt(20) + ", keyword" + randomizer.nextInt(20))
+                    .withField(StandardField.DOI, "10.1000/" + i)
+                    .withField(new UnknownField("custom"), "Custom value " + randomizer.nextInt(10)));
+        }
+
+        StringWriter outputWriter = new StringWriter();
+        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
+                new BibWriter(outputWriter, OS.NEWLINE),
+                mock(SelfContainedSaveConfiguration.class),
+                mock(FieldPreferences.class),
+                mock(CitationKeyPatternPreferences.class),
+                new BibEntryTypesManager());
+        databaseWriter.savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+        bibtexString = outputWriter.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void parseLibrary() throws IOException {
+        parsedDatabase = parse();
+    }
+
+    @Benchmark
+    public BibDatabase parse() throws IOException {
+        return new BibtexParser(Globals.prefs.getImportFormatPreferences())
+                .parse(new StringReader(bibtexString))
+                .getDatabase();
+    }
+
+    @Benchmark
+    public long retainedSize(Footprint footprint) {
+        footprint.bytesPerEntry = GraphLayout.parseInstance(parsedDatabase).totalSize() / numberOfEntries;
+        return footprint.bytesPerEntry;
+    }
+}
@@ -0,0 +1,91 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures loading the built-in journal list and looking up journal names in it
+ */
+@State(Scope.Benchmark)
+public class JournalAbbreviationBenchmark {
+
+    private static final List<String> JOURNAL_NAMES = List.of(
+            "Physical Review B",
+            "Phys. Rev. B",
+            "american journal of public health",
+            "ACS Applied Materials \\& Interfaces",
+            "Am. J. Public Health",
+            "Journal of Unknown Results",
+            "Unknown");
+
+    private JournalAbbreviationRepository repository;
+    private Path journalList;
+    private int next;
+
+    @Setup
+    public void init() throws IOException {
+        // the loader opens the built-in list once only, thus it is opened directly for measuring the loading
+        journalList = Files.createTempFile("journal-list", ".mv");
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            Files.copy(resourceAsStream, journalList, StandardCopyOption.REPLACE_EXISTING);
+        }
+        repository = JournalAbbreviationLoader.loadBuiltInRepository();
+        // load the index
+        repository.isKnownName("Physical Review B");
+    }
+
+    @TearDown
+    public void close() throws IOException {
+        repository.close();
+        Files.deleteIfExists(journalList);
+    }
+
+    /**
+     * Time until the first journal name is abbreviated after startup
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Optional<String> loadAndLookupFirstName() {
+        try (JournalAbbreviationRepository loadedRepository = new JournalAbbreviationRepository(journalList)) {
+            return loadedRepository.getDefaultAbbreviation("Physical Review B");
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean isKnownName() {
+        return repository.isKnownName(nextJournalName());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Optional<String> getAbbreviation() {
+        return repository.getDefaultAbbreviation(nextJournalName());
+    }
+
+    private String nextJournalName() {
+        next = (next + 1) % JOURNAL_NAMES.size();
+        return JOURNAL_NAMES.get(next);
+    }
+}
@@ -0,0 +1,201 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.http.JabrefMediaType;
+import org.jabref.http.dto.GsonFactory;
+import org.jabref.http.server.LibraryCache;
+import org.jabref.http.server.LibraryResource;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.preferences.GuiPreferences;
+import org.jabref.preferences.JabRefPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import com.google.gson.Gson;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test of the http server serving a large library.
+ * <p>
+ * Each invocation requests the whole library and reads the response completely. The time to the first byte and the
+ * peak heap usage while serving are reported as auxiliary counters. The peak heap usage is the sum of the peaks of
+ * the heap memory pools, thus an upper bound. With {@code libraryModified}, the library is touched before each request,
+ * so that the server has to parse it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LibraryStreamingBenchmark {
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+    @Param({MediaType.APPLICATION_JSON, JabrefMediaType.NDJSON, JabrefMediaType.JSON_CSL_ITEM})
+    private String mediaType;
+
+    @Param({"false", "true"})
+    private boolean libraryModified;
+
+    private Path library;
+    private HttpServer server;
+    private HttpClient httpClient;
+    private URI libraryUri;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Measurement {
+        public long timeToFirstByteMillis;
+        public long peakHeapMegabytes;
+    }
+
+    @Setup
+    public void init() throws Exception {
+        library = Files.createTempFile("jabref-benchmark", ".bib");
+        Files.writeString(library, createLibrary());
+
+        JabRefPreferences jabRefPreferences = JabRefPreferences.getInstance();
+        PreferencesService preferences = mock(PreferencesService.class);
+        when(preferences.getImportFormatPreferences()).thenReturn(jabRefPreferences.getImportFormatPreferences());
+        when(preferences.getFieldPreferences()).thenReturn(jabRefPreferences.getFieldPreferences());
+        when(preferences.getCustomEntryTypesRepository()).thenReturn(new BibEntryTypesManager());
+        GuiPreferences guiPreferences = mock(GuiPreferences.class);
+        when(guiPreferences.getLastFilesOpened()).thenReturn(FXCollections.observableArrayList(List.of(library)));
+        when(preferences.getGuiPreferences()).thenReturn(guiPreferences);
+
+        ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(preferences).to(PreferencesService.class);
+                bind(new GsonFactory().provide()).to(Gson.class);
+                bind(new LibraryCache()).to(LibraryCache.class);
+            }
+        });
+        URI baseUri = URI.create("http://localhost:" + getFreePort() + "/");
+        server = GrizzlyHttpServerFactory.createHttpServer(baseUri, resourceConfig);
+
+        httpClient = HttpClient.newHttpClient();
+        libraryUri = baseUri.resolve("libraries/" + LibraryCache.getId(library));
+        // the first request parses the library
+        request(new Measurement());
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareRequest() throws IOException {
+        if (libraryModified) {
+            Files.setLastModifiedTime(library, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        System.gc();
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        server.shutdownNow();
+        Files.delete(library);
+    }
+
+    @Benchmark
+    public long request(Measurement measurement) throws IOException, InterruptedException {
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                         .filter(pool -> pool.getType() == MemoryType.HEAP)
+                         .forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(libraryUri).header(HttpHeaders.ACCEPT, mediaType).build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        long bytesRead = 0;
+        try (InputStream body = response.body()) {
+            byte[] buffer = new byte[8192];
+            int read = body.read(buffer);
+            measurement.timeToFirstByteMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            while (read >= 0) {
+                bytesRead += read;
+                read = body.read(buffer);
+            }
+        }
+
+        long peakHeapUsage = ManagementFactory.getMemoryPoolMXBeans().stream()
+                                              .filter(pool -> pool.getType() == MemoryType.HEAP)
+                                              .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                                              .sum();
+        measurement.peakHeapMegabytes = peakHeapUsage / (1024 * 1024);
+        return bytesRead;
+    }
+
+    private String createLibrary() throws IOException {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and Other Author")
+                    .withField(StandardField.TITLE, "This is title number " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 50))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + (i % 30)))
+                    .withField(StandardField.PAGES, (i % 100) + "--" + (i % 100 + 10)));
+        }
+
+        StringWriter outputWriter = new StringWriter();
+        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
+                new BibWriter(outputWriter, OS.NEWLINE),
+                mock(SelfContainedSaveConfiguration.class),
+                mock(FieldPreferences.class),
+                mock(CitationKeyPatternPreferences.class),
+                new BibEntryTypesManager());
+        databaseWriter.savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+        return outputWriter.toString();
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures saving a library read from a file after one field has been edited. Without reformatting, only the edited
+ * entry is serialized again, all other entries are written as they were read.
+ */
+@State(Scope.Thread)
+public class SaveBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private final Random randomizer = new Random(42);
+    private final FieldPreferences fieldPreferences = mock(FieldPreferences.class);
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private String bibtexString;
+    private BibDatabaseContext databaseContext;
+    private Path targetFile;
+
+    @Setup
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and Other Author")
+                    .withField(StandardField.TITLE, "This is title number " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + randomizer.nextInt(50))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + randomizer.nextInt(30))));
+        }
+        StringWriter bibtex = new StringWriter();
+        save(new BibDatabaseContext(database, new MetaData()), bibtex, true);
+        bibtexString = bibtex.toString();
+        targetFile = Files.createTempFile("jabref-save-benchmark", ".bib");
+    }
+
+    /**
+     * Parsing stores the serialization of each entry, which is reused when saving. We parse again for each iteration
+     * so that the number of changed entries stays small.
+     */
+    @Setup(Level.Iteration)
+    public void parse() throws IOException {
+        ParserResult result = new BibtexParser(Globals.prefs.getImportFormatPreferences()).parse(new StringReader(bibtexString));
+        databaseContext = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(targetFile);
+    }
+
+    private void save(BibDatabaseContext context, Writer writer, boolean reformat) throws IOException {
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withSaveOrder(SaveOrder.getDefaultSaveOrder())
+                .withReformatOnSave(reformat);
+        new BibtexDatabaseWriter(
+                new BibWriter(writer, OS.NEWLINE),
+                saveConfiguration,
+                fieldPreferences,
+                citationKeyPatternPreferences,
+                entryTypesManager)
+                .saveDatabase(context);
+    }
+
+    private void saveAfterEdit(boolean reformat) throws IOException {
+        BibEntry entry = databaseContext.getDatabase().getEntries().get(randomizer.nextInt(numberOfEntries));
+        entry.setField(StandardField.NOTE, "Changed " + randomizer.nextInt());
+        try (Writer writer = new AtomicFileWriter(targetFile, StandardCharsets.UTF_8, false)) {
+            save(databaseContext, writer, reformat);
+        }
+    }
+
+    @Benchmark
+    public void saveChangedEntries() throws IOException {
+        saveAfterEdit(false);
+    }
+
+    @Benchmark
+    public void saveReformatted() throws IOException {
+        saveAfterEdit(true);
+    }
+}
@@ -0,0 +1,121 @@
+package org.jabref.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.shared.DBMSConnectionProperties;
+import org.jabref.logic.shared.DBMSConnectionPropertiesBuilder;
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSType;
+import org.jabref.logic.shared.DatabaseConnection;
+import org.jabref.logic.shared.DatabaseConnectionProperties;
+import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares updating the entries of a shared library one by one with updating them in one change set, as it happens
+ * if a cleanup is run on all entries. An embedded H2 database in MySQL compatibility mode is used as the shared
+ * database, so the numbers show the number of statements rather than the network latency of a real server.
+ */
+@State(Scope.Thread)
+public class SharedDatabaseBenchmark {
+
+    @Param({"1000", "10000"})
+    private int numberOfEntries;
+
+    private Connection connection;
+    private DBMSProcessor dbmsProcessor;
+    private final List<BibEntry> entries = new ArrayList<>();
+    private int round;
+
+    @Setup
+    public void init() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jabref-benchmark;MODE=MySQL");
+        DBMSConnectionProperties properties = new DBMSConnectionPropertiesBuilder()
+                .setType(DBMSType.MYSQL)
+                .setDatabase("jabref-benchmark")
+                .createDBMSConnectionProperties();
+        dbmsProcessor = DBMSProcessor.getProcessorInstance(new DatabaseConnection() {
+            @Override
+            public DatabaseConnectionProperties getProperties() {
+                return properties;
+            }
+
+            @Override
+            public Connection getConnection() {
+                return connection;
+            }
+        });
+        dbmsProcessor.setupSharedDatabase();
+
+        for (int i = 0; i < numberOfEntries; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and Other Author")
+                    .withField(StandardField.TITLE, "This is title number " + i)
+                    .withField(StandardField.YEAR, String.valueOf(1990 + (i % 30))));
+        }
+        // the number of parameters of a statement is limited
+        for (List<BibEntry> partition : Lists.partition(entries, 500)) {
+            dbmsProcessor.insertEntries(partition);
+        }
+    }
+
+    @TearDown
+    public void closeConnection() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Changes a field of every entry and adds a new field to every tenth entry
+     */
+    private void changeAllEntries() {
+        round++;
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            entry.setField(StandardField.TITLE, "This is title number " + i + " in round " + round);
+            if ((i % 10) == 0) {
+                entry.setField(StandardField.NOTE, "Note of round " + round);
+            }
+        }
+    }
+
+    /**
+     * Each update increases the shared version, which is usually pulled by the synchronizer
+     */
+    private void increaseLocalVersions() {
+        for (BibEntry entry : entries) {
+            entry.getSharedBibEntryData().setVersion(entry.getSharedBibEntryData().getVersion() + 1);
+        }
+    }
+
+    @Benchmark
+    public void updateEntriesOneByOne() throws SQLException, OfflineLockException {
+        changeAllEntries();
+        for (BibEntry entry : entries) {
+            dbmsProcessor.updateEntry(entry);
+        }
+        increaseLocalVersions();
+    }
+
+    @Benchmark
+    public List<OfflineLockException> updateEntriesInOneChangeSet() throws SQLException {
+        changeAllEntries();
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(entries);
+        increaseLocalVersions();
+        return refusedUpdates;
+    }
+}
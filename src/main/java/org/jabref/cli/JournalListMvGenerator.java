@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationIndex;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 
 import org.h2.mvstore.MVMap;
@@ -70,6 +71,8 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+            System.out.println("Indexing " + fullToAbbreviation.size() + " journals...");
+            JournalAbbreviationIndex.write(store);
         }
     }
 }
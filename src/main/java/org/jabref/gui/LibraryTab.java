@@ -24,6 +24,7 @@ import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.Label;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.Tab;
@@ -58,6 +59,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.database.PersistentEntryCount;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
@@ -81,6 +83,7 @@ import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
@@ -152,6 +155,11 @@ public class LibraryTab extends Tab {
     private final IndexingTaskManager indexingTaskManager;
     private final TaskExecutor taskExecutor;
 
+    /**
+     * The number of entries is read and written by background tasks, one at a time
+     */
+    private final Object persistentEntryCountLock = new Object();
+
     private LibraryTab(BibDatabaseContext bibDatabaseContext,
                       LibraryTabContainer tabContainer,
                       DialogService dialogService,
@@ -175,7 +183,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, taskExecutor);
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
@@ -235,7 +243,7 @@ public class LibraryTab extends Tab {
     /**
      * The layout to display in the tab when it is loading
      */
-    private Node createLoadingAnimationLayout() {
+    private BorderPane createLoadingAnimationLayout() {
         ProgressIndicator progressIndicator = new ProgressIndicator(ProgressIndicator.INDETERMINATE_PROGRESS);
         BorderPane pane = new BorderPane();
         pane.setCenter(progressIndicator);
@@ -243,8 +251,23 @@ public class LibraryTab extends Tab {
     }
 
     private void onDatabaseLoadingStarted() {
-        Node loadingLayout = createLoadingAnimationLayout();
+        BorderPane loadingLayout = createLoadingAnimationLayout();
         getMainTable().placeholderProperty().setValue(loadingLayout);
+
+        // The number of entries stored when the library was last loaded or saved is available before the library is parsed
+        Optional<Path> entryCountPath = bibDatabaseContext.getEntryCountPath();
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath();
+        if (preferencesService.getFilePreferences().shouldPersistEntryCount() && entryCountPath.isPresent() && databasePath.isPresent()) {
+            BackgroundTask.wrap(() -> {
+                              synchronized (persistentEntryCountLock) {
+                                  return PersistentEntryCount.read(entryCountPath.get(), databasePath.get());
+                              }
+                          })
+                          .onSuccess(numberOfEntries -> numberOfEntries.ifPresent(number ->
+                                  loadingLayout.setBottom(new Label(Localization.lang("Loading %0 entries...", number)))))
+                          .onFailure(exception -> LOGGER.debug("Could not read the number of entries", exception))
+                          .executeWith(taskExecutor);
+        }
     }
 
     private void onDatabaseLoadingSucceed(ParserResult result) {
@@ -252,6 +275,7 @@ public class LibraryTab extends Tab {
         OpenDatabaseAction.performPostOpenActions(result, dialogService);
 
         setDatabaseContext(context);
+        updatePersistentEntryCount();
 
         if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
             try {
@@ -297,7 +321,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, taskExecutor);
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
 
@@ -1063,10 +1087,19 @@ public class LibraryTab extends Tab {
 
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
+            updateIndexedFiles(new FieldChange(fieldChangedEvent.getBibEntry(), fieldChangedEvent.getField(), fieldChangedEvent.getOldValue(), fieldChangedEvent.getNewValue()));
+        }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent fieldsChangedEvent) {
+            fieldsChangedEvent.getChanges().forEach(this::updateIndexedFiles);
+        }
+
+        private void updateIndexedFiles(FieldChange fieldChange) {
             if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
-                if (fieldChangedEvent.getField().equals(StandardField.FILE)) {
-                    List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChangedEvent.getOldValue());
-                    List<LinkedFile> newFileList = FileFieldParser.parse(fieldChangedEvent.getNewValue());
+                if (fieldChange.getField().equals(StandardField.FILE)) {
+                    List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChange.getOldValue());
+                    List<LinkedFile> newFileList = FileFieldParser.parse(fieldChange.getNewValue());
 
                     List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
                     addedFiles.remove(oldFileList);
@@ -1075,7 +1108,7 @@ public class LibraryTab extends Tab {
 
                     try {
                         PdfIndexer indexer = PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences());
-                        indexingTaskManager.addToIndex(indexer, fieldChangedEvent.getBibEntry(), addedFiles);
+                        indexingTaskManager.addToIndex(indexer, fieldChange.getEntry(), addedFiles);
                         indexingTaskManager.removeFromIndex(indexer, removedFiles);
                     } catch (IOException e) {
                         LOGGER.warn("I/O error when writing lucene index", e);
@@ -1085,6 +1118,27 @@ public class LibraryTab extends Tab {
         }
     }
 
+    /**
+     * Stores the number of entries of the library file, so that it can be shown while the library is loading the next
+     * time it is opened. Has to be called after the library was loaded or saved.
+     */
+    public void updatePersistentEntryCount() {
+        Optional<Path> entryCountPath = bibDatabaseContext.getEntryCountPath();
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath();
+        if (!preferencesService.getFilePreferences().shouldPersistEntryCount() || entryCountPath.isEmpty() || databasePath.isEmpty()) {
+            return;
+        }
+        int numberOfEntries = bibDatabaseContext.getDatabase().getEntryCount();
+        BackgroundTask.wrap(() -> {
+                          synchronized (persistentEntryCountLock) {
+                              PersistentEntryCount.write(entryCountPath.get(), databasePath.get(), numberOfEntries);
+                          }
+                          return null;
+                      })
+                      .onFailure(exception -> LOGGER.warn("Could not store the number of entries", exception))
+                      .executeWith(taskExecutor);
+    }
+
     public IndexingTaskManager getIndexingTaskManager() {
         return indexingTaskManager;
     }
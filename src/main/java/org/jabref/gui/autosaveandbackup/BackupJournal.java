@@ -0,0 +1,361 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of the changes of the entries of a library since its last full backup (the "snapshot").
+ * <p>
+ * The journal is stored next to the snapshot and refers to entries by number: the entries of the snapshot are numbered
+ * in the order they are written to the snapshot file, entries added afterwards get the following numbers. Thus, the
+ * journal can be replayed onto the library parsed from the snapshot file, even though the parsed entries have
+ * different internal ids.
+ * <p>
+ * Changes are collected in memory by {@link #record(EntriesEvent)} and appended to the file by {@link #flush()}.
+ * Consecutive changes of the same field are collapsed into one record.
+ */
+public class BackupJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final int MAGIC_NUMBER = 0x4A524A31;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final byte ENTRY_ADDED = 1;
+    private static final byte ENTRY_REMOVED = 2;
+    private static final byte FIELD_SET = 3;
+    private static final byte FIELD_CLEARED = 4;
+
+    private final Path journalPath;
+    private final int numberOfSnapshotEntries;
+    private final Map<BibEntry, Integer> entryNumbers = new IdentityHashMap<>();
+    // Entries of the library which are not part of the full backup, because they were empty when it was written
+    private final Set<BibEntry> emptyEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Change> pendingChanges = new ArrayList<>();
+    private int nextEntryNumber;
+
+    /**
+     * @param snapshotPath    the path of the full backup the journal belongs to
+     * @param snapshotEntries the entries in the order they are written to the full backup
+     */
+    public BackupJournal(Path snapshotPath, List<BibEntry> snapshotEntries) {
+        this(snapshotPath, snapshotEntries, List.of());
+    }
+
+    /**
+     * @param snapshotPath    the path of the full backup the journal belongs to
+     * @param snapshotEntries the entries in the order they are written to the full backup
+     * @param emptyEntries    the entries of the library which are not written to the full backup, because they are empty
+     */
+    public BackupJournal(Path snapshotPath, List<BibEntry> snapshotEntries, Collection<BibEntry> emptyEntries) {
+        this.journalPath = getJournalPath(snapshotPath);
+        this.numberOfSnapshotEntries = snapshotEntries.size();
+        for (BibEntry entry : snapshotEntries) {
+            entryNumbers.put(entry, nextEntryNumber++);
+        }
+        this.emptyEntries.addAll(emptyEntries);
+    }
+
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Checks whether a journal of changes not contained in the given full backup exists
+     */
+    public static boolean hasChanges(Path snapshotPath) {
+        Path journalPath = getJournalPath(snapshotPath);
+        try {
+            return Files.exists(journalPath) && (Files.size(journalPath) > HEADER_SIZE);
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine size of journal {}", journalPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Creates the journal file. Has to be called after the full backup has been written successfully.
+     */
+    public void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                                      .putInt(MAGIC_NUMBER)
+                                      .putInt(numberOfSnapshotEntries)
+                                      .flip();
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header);
+            channel.force(false);
+        }
+    }
+
+    public synchronized void record(EntriesEvent event) {
+        if (event instanceof EntriesAddedEvent addedEvent) {
+            addedEvent.getBibEntries().forEach(this::recordAddedEntry);
+        } else if (event instanceof EntriesRemovedEvent removedEvent) {
+            for (BibEntry entry : removedEvent.getBibEntries()) {
+                emptyEntries.remove(entry);
+                Integer number = entryNumbers.remove(entry);
+                if (number != null) {
+                    pendingChanges.add(new EntryRemoved(number));
+                }
+            }
+        } else if (event instanceof FieldChangedEvent fieldChangedEvent) {
+            recordFieldChange(fieldChangedEvent.getBibEntry(), fieldChangedEvent.getField(), fieldChangedEvent.getNewValue());
+        } else if (event instanceof FieldsChangedEvent fieldsChangedEvent) {
+            for (FieldChange change : fieldsChangedEvent.getChanges()) {
+                recordFieldChange(change.getEntry(), change.getField(), change.getNewValue());
+            }
+        }
+    }
+
+    private void recordAddedEntry(BibEntry entry) {
+        int number = nextEntryNumber++;
+        entryNumbers.put(entry, number);
+        pendingChanges.add(new EntryAdded(number, entry.getType().getName(), new LinkedHashMap<>(entry.getFieldMap())));
+    }
+
+    private void recordFieldChange(BibEntry entry, Field field, String newValue) {
+        if (field == InternalField.INTERNAL_ID_FIELD) {
+            // entries are referred to by their number
+            return;
+        }
+        Integer number = entryNumbers.get(entry);
+        if (number == null) {
+            if (emptyEntries.remove(entry)) {
+                // The entry was empty when the full backup was written and therefore is not part of it
+                recordAddedEntry(entry);
+            }
+            // Otherwise, the entry was removed from the library. It still notifies its former library about changes,
+            // which must not bring it back on restore.
+            return;
+        }
+        FieldSet change = new FieldSet(number, field, newValue);
+        int last = pendingChanges.size() - 1;
+        if ((last >= 0) && (pendingChanges.get(last) instanceof FieldSet previous) && previous.isSameField(change)) {
+            // typing produces one event per key stroke, only the latest value is of interest
+            pendingChanges.set(last, change);
+        } else {
+            pendingChanges.add(change);
+        }
+    }
+
+    public synchronized boolean hasPendingChanges() {
+        return !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Appends all recorded changes to the journal file and forces them to the disk.
+     *
+     * @return the number of bytes appended
+     */
+    public synchronized long flush() throws IOException {
+        if (pendingChanges.isEmpty()) {
+            return 0;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (Change change : pendingChanges) {
+                change.writeTo(output);
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        pendingChanges.clear();
+        return bytes.size();
+    }
+
+    /**
+     * Applies the journal of the given full backup to the library parsed from that backup.
+     * <p>
+     * An incomplete record at the end of the journal (e.g., caused by a crash while appending) is ignored. If the
+     * library does not contain the entries the journal was started with, the journal is not applied at all.
+     *
+     * @param snapshotPath the path of the full backup
+     * @param database     the library parsed from the full backup; it is modified
+     */
+    public static void replay(Path snapshotPath, BibDatabase database) throws IOException {
+        Path journalPath = getJournalPath(snapshotPath);
+        if (Files.notExists(journalPath)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IOException("Not a backup journal: " + journalPath);
+            }
+            int numberOfSnapshotEntries = input.readInt();
+            List<BibEntry> snapshotEntries = database.getEntries();
+            if (snapshotEntries.size() != numberOfSnapshotEntries) {
+                LOGGER.warn("Journal {} expects {} entries, but the backup contains {}. Ignoring journal.", journalPath, numberOfSnapshotEntries, snapshotEntries.size());
+                return;
+            }
+
+            Map<Integer, BibEntry> entries = new HashMap<>();
+            for (int i = 0; i < snapshotEntries.size(); i++) {
+                entries.put(i, snapshotEntries.get(i));
+            }
+            while (true) {
+                Change change;
+                try {
+                    change = readChange(input);
+                } catch (EOFException e) {
+                    break;
+                }
+                change.applyTo(database, entries);
+            }
+        }
+    }
+
+    /**
+     * @throws EOFException if the journal ends before the change is completely read
+     */
+    private static Change readChange(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        int number = input.readInt();
+        return switch (type) {
+            case ENTRY_ADDED -> {
+                String entryType = readString(input);
+                int numberOfFields = input.readInt();
+                Map<Field, String> fields = new LinkedHashMap<>();
+                for (int i = 0; i < numberOfFields; i++) {
+                    fields.put(FieldFactory.parseField(readString(input)), readString(input));
+                }
+                yield new EntryAdded(number, entryType, fields);
+            }
+            case ENTRY_REMOVED -> new EntryRemoved(number);
+            case FIELD_SET -> new FieldSet(number, FieldFactory.parseField(readString(input)), readString(input));
+            case FIELD_CLEARED -> new FieldSet(number, FieldFactory.parseField(readString(input)), null);
+            default -> throw new IOException("Unknown journal record type " + type);
+        };
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        // DataOutputStream#writeUTF is limited to 64 KiB, which is too short for some field values
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private sealed interface Change {
+        void writeTo(DataOutputStream output) throws IOException;
+
+        void applyTo(BibDatabase database, Map<Integer, BibEntry> entries);
+    }
+
+    private record EntryAdded(int number, String entryType, Map<Field, String> fields) implements Change {
+        @Override
+        public void writeTo(DataOutputStream output) throws IOException {
+            output.writeByte(ENTRY_ADDED);
+            output.writeInt(number);
+            writeString(output, entryType);
+            output.writeInt(fields.size());
+            for (Map.Entry<Field, String> field : fields.entrySet()) {
+                writeString(output, field.getKey().getName());
+                writeString(output, field.getValue());
+            }
+        }
+
+        @Override
+        public void applyTo(BibDatabase database, Map<Integer, BibEntry> entries) {
+            BibEntry entry = new BibEntry(EntryTypeFactory.parse(entryType)).withFields(fields);
+            entries.put(number, entry);
+            database.insertEntry(entry);
+        }
+    }
+
+    private record EntryRemoved(int number) implements Change {
+        @Override
+        public void writeTo(DataOutputStream output) throws IOException {
+            output.writeByte(ENTRY_REMOVED);
+            output.writeInt(number);
+        }
+
+        @Override
+        public void applyTo(BibDatabase database, Map<Integer, BibEntry> entries) {
+            BibEntry entry = entries.remove(number);
+            if (entry != null) {
+                database.removeEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * @param value the new value of the field, <code>null</code> if the field was removed
+     */
+    private record FieldSet(int number, Field field, String value) implements Change {
+        boolean isSameField(FieldSet other) {
+            return (number == other.number) && field.equals(other.field);
+        }
+
+        @Override
+        public void writeTo(DataOutputStream output) throws IOException {
+            output.writeByte(value == null ? FIELD_CLEARED : FIELD_SET);
+            output.writeInt(number);
+            writeString(output, field.getName());
+            if (value != null) {
+                writeString(output, value);
+            }
+        }
+
+        @Override
+        public void applyTo(BibDatabase database, Map<Integer, BibEntry> entries) {
+            BibEntry entry = entries.get(number);
+            if (entry == null) {
+                return;
+            }
+            if (field == InternalField.TYPE_HEADER) {
+                entry.setType(EntryTypeFactory.parse(Objects.requireNonNull(value)));
+            } else if (value == null) {
+                entry.clearField(field);
+            } else {
+                entry.setField(field, value);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -18,6 +19,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javafx.scene.control.TableColumn;
 
@@ -26,17 +28,22 @@ import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.common.eventbus.Subscribe;
@@ -48,6 +55,10 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * Writing the whole library on each backup is expensive for large libraries. Therefore, a full backup is written only
+ * periodically and in case of changes not related to entries (e.g., of groups). In between, changes of entries are
+ * appended to a {@link BackupJournal} belonging to the latest full backup.
  */
 public class BackupManager {
 
@@ -57,6 +68,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // A full backup is written after that many backups to the journal
+    private static final int MAXIMUM_JOURNAL_BACKUP_COUNT = 15;
+
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -70,6 +84,9 @@ public class BackupManager {
     // During a write, the less recent backup file is deleted
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
+    private boolean needsFullBackup = true;
+    private int journalBackupCount = 0;
+    private BackupJournal journal;
 
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
@@ -156,9 +173,11 @@ public class BackupManager {
             return false;
         }
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
+            // Changes recorded in the journal are newer than the full backup
+            boolean journalHasChanges = BackupJournal.hasChanges(latestBackupPath);
             FileTime latestBackupFileLastModifiedTime;
             try {
-                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(journalHasChanges ? BackupJournal.getJournalPath(latestBackupPath) : latestBackupPath);
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -177,6 +196,10 @@ public class BackupManager {
                 // We treat the backup as non-different (even if it could differ)
                 return false;
             }
+            if (journalHasChanges) {
+                LOGGER.info("Backup journal of {} contains changes not present in current file {}", latestBackupPath, originalPath);
+                return true;
+            }
             try {
                 boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
                 if (result) {
@@ -192,23 +215,58 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the backup file by copying and overwriting the original one. In case the journal of the backup contains
+     * changes, these are applied to the backup and the result is written to the original file.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
-    public static void restoreBackup(Path originalPath, Path backupDir) {
+    public static void restoreBackup(Path originalPath, Path backupDir, PreferencesService preferences, BibEntryTypesManager entryTypesManager) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
         if (backupPath.isEmpty()) {
             LOGGER.error("There is no backup file");
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (BackupJournal.hasChanges(backupPath.get())) {
+                restoreBackupWithJournal(backupPath.get(), originalPath, preferences, entryTypesManager);
+            } else {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
     }
 
+    private static void restoreBackupWithJournal(Path backupPath, Path originalPath, PreferencesService preferences, BibEntryTypesManager entryTypesManager) throws IOException {
+        BibDatabaseContext backupContext = OpenDatabase.loadDatabase(backupPath, preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                                                       .getDatabaseContext();
+        BackupJournal.replay(backupPath, backupContext.getDatabase());
+
+        // Entries added or changed after the full backup have to be sorted into the save order of the library
+        SelfContainedSaveOrder saveOrder = backupContext
+                .getMetaData().getSaveOrder()
+                // The order of the main table is not known here. The full backup is written in that order and
+                // keeping the order of the full backup is the best approximation.
+                .filter(so -> so.getOrderType() != SaveOrder.OrderType.TABLE)
+                .map(SelfContainedSaveOrder::of)
+                .orElse(SaveOrder.getDefaultSaveOrder());
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withMakeBackup(false)
+                .withSaveOrder(saveOrder)
+                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+        Charset encoding = backupContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        try (Writer writer = new AtomicFileWriter(originalPath, encoding, false)) {
+            BibWriter bibWriter = new BibWriter(writer, backupContext.getDatabase().getNewLineSeparator());
+            new BibtexDatabaseWriter(
+                    bibWriter,
+                    saveConfiguration,
+                    preferences.getFieldPreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    entryTypesManager)
+                    .saveDatabase(backupContext);
+        }
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
@@ -225,11 +283,32 @@ public class BackupManager {
             return;
         }
 
+        if (needsFullBackup || (journal == null) || (journalBackupCount >= MAXIMUM_JOURNAL_BACKUP_COUNT)) {
+            performFullBackup(backupPath);
+        } else {
+            performJournalBackup();
+        }
+    }
+
+    private void performJournalBackup() {
+        try {
+            journal.flush();
+            journalBackupCount++;
+            this.needsBackup = false;
+        } catch (IOException e) {
+            LOGGER.error("Error while appending to backup journal", e);
+            // The journal might be broken, thus we start over with a full backup
+            this.needsFullBackup = true;
+        }
+    }
+
+    private void performFullBackup(Path backupPath) {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -259,6 +338,20 @@ public class BackupManager {
                 .withSaveOrder(saveOrder)
                 .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
 
+        // The journal refers to the entries by their position in the backup file
+        List<BibEntry> entries;
+        BackupJournal newJournal;
+        synchronized (this) {
+            Map<Boolean, List<BibEntry>> entriesByEmptiness = bibDatabaseContext.getDatabase().getEntries().stream()
+                                                                                 .collect(Collectors.partitioningBy(BibEntry::isEmpty));
+            entries = BibDatabaseWriter.getSortedEntries(entriesByEmptiness.get(false), saveOrder);
+            // From now on, changes are recorded in the journal of the new backup
+            newJournal = new BackupJournal(backupPath, entries, entriesByEmptiness.get(true));
+            this.journal = newJournal;
+            this.journalBackupCount = 0;
+            this.needsFullBackup = false;
+        }
+
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
@@ -272,15 +365,28 @@ public class BackupManager {
                     preferences.getFieldPreferences(),
                     preferences.getCitationKeyPatternPreferences(),
                     entryTypesManager)
-                    .saveDatabase(bibDatabaseContext);
-            backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
+                    // Sorting again could lead to a different order in case a field was changed in the meantime
+                    .saveEntriesInGivenOrder(bibDatabaseContext, entries);
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            synchronized (this) {
+                this.journal = null;
+                this.needsFullBackup = true;
+            }
+            return;
+        }
+
+        try {
+            newJournal.writeHeader();
+        } catch (IOException e) {
+            LOGGER.error("Could not create backup journal for {}", backupPath, e);
+            this.needsFullBackup = true;
         }
+        backupFilesQueue.add(backupPath);
+
+        // We wrote the file successfully
+        // Thus, we currently do not need any new backup - except for changes made while writing
+        this.needsBackup = newJournal.hasPendingChanges();
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -316,7 +422,16 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (event instanceof EntriesEvent entriesEvent) {
+            // Also filtered events are recorded, because the journal needs to know the latest value of each field
+            if (journal != null) {
+                journal.record(entriesEvent);
+            }
+        } else {
+            // Changes of the metadata (e.g., groups) are not journaled
+            this.needsFullBackup = true;
+        }
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
@@ -344,6 +459,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // journals are deleted together with their backup file
+                                              .filter(p -> p.getFileName().toString().endsWith("." + BackupFileType.BACKUP.getExtensions().get(0)))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -30,6 +30,8 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFinder;
+import org.jabref.logic.database.DuplicateFinder.EntryPair;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -47,7 +49,7 @@ public class DuplicateSearch extends SimpleCommand {
     private final AtomicBoolean libraryAnalyzed = new AtomicBoolean();
     private final AtomicBoolean autoRemoveExactDuplicates = new AtomicBoolean();
     private final AtomicInteger duplicateCount = new AtomicInteger();
-    private final SimpleStringProperty duplicateCountObservable = new SimpleStringProperty();
+    private final AtomicBoolean duplicateTotalUpdateScheduled = new AtomicBoolean();
     private final SimpleStringProperty duplicateTotal = new SimpleStringProperty();
     private final SimpleIntegerProperty duplicateProgress = new SimpleIntegerProperty(0);
     private final DialogService dialogService;
@@ -78,7 +80,8 @@ public class DuplicateSearch extends SimpleCommand {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
         dialogService.notify(Localization.lang("Searching for duplicates..."));
 
-        List<BibEntry> entries = database.getEntries();
+        // the search runs in the background, it must not iterate the live list of entries
+        List<BibEntry> entries = database.getDatabase().getEntriesSnapshot();
         duplicates.clear();
         libraryAnalyzed.set(false);
         autoRemoveExactDuplicates.set(false);
@@ -88,8 +91,6 @@ public class DuplicateSearch extends SimpleCommand {
             return;
         }
 
-        duplicateCountObservable.addListener((obj, oldValue, newValue) -> DefaultTaskExecutor.runAndWaitInJavaFXThread(() -> duplicateTotal.set(newValue)));
-
         JabRefExecutorService.INSTANCE.executeInterruptableTask(() -> searchPossibleDuplicates(entries, database.getMode()), "DuplicateSearcher");
         BackgroundTask.wrap(this::verifyDuplicates)
                       .onSuccess(this::handleDuplicates)
@@ -97,24 +98,32 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
+        Thread searchThread = Thread.currentThread();
+        // the pairs are found in no particular order, they are presented in the order of the library
+        List<EntryPair> foundDuplicates = new DuplicateFinder(entryTypesManager).findDuplicates(entries, databaseMode, (first, second) -> {
+            duplicateCount.incrementAndGet();
+            scheduleDuplicateTotalUpdate();
+        }, searchThread::isInterrupted);
+        if (Thread.interrupted()) {
+            return;
         }
+        foundDuplicates.forEach(pair -> duplicates.add(Arrays.asList(pair.first(), pair.second())));
         libraryAnalyzed.set(true);
     }
 
+    /**
+     * The duplicates are found by several threads, which must not wait for the JavaFX thread. Thus, the total is updated
+     * asynchronously, and duplicates found until the update runs are shown by one update.
+     */
+    private void scheduleDuplicateTotalUpdate() {
+        if (duplicateTotalUpdateScheduled.compareAndSet(false, true)) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> {
+                duplicateTotalUpdateScheduled.set(false);
+                duplicateTotal.set(String.valueOf(duplicateCount.get()));
+            });
+        }
+    }
+
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
@@ -165,6 +165,7 @@ public class SaveDatabaseAction {
             libraryTab.resetChangeMonitor();
             libraryTab.installAutosaveManagerAndBackupManager();
             // PdfIndexerManager does not need to be called; the method {@link org.jabref.logic.pdf.search.PdfIndexerManager.get()} is called if a new indexer is needed
+            libraryTab.updatePersistentEntryCount();
 
             preferences.getGuiPreferences().getFileHistory().newFile(file);
         }
@@ -239,6 +240,10 @@ public class SaveDatabaseAction {
             if (success) {
                 libraryTab.getUndoManager().markUnchanged();
                 libraryTab.resetChangedProperties();
+                if (libraryTab.getBibDatabaseContext().getDatabasePath().filter(targetPath::equals).isPresent()) {
+                    // on "save as", the number of entries is stored after the new path is set
+                    libraryTab.updatePersistentEntryCount();
+                }
             }
             dialogService.notify(Localization.lang("Library saved"));
             return success;
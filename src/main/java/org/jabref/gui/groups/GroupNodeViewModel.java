@@ -9,10 +9,11 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
-import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.input.Dragboard;
 import javafx.scene.paint.Color;
@@ -23,10 +24,10 @@ import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.icon.JabRefIcon;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.CustomLocalDragboard;
-import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.DroppingMouseLocation;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.groups.DefaultGroupsFactory;
+import org.jabref.logic.groups.GroupMembershipIndex;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
@@ -58,16 +59,17 @@ public class GroupNodeViewModel {
     private final BibDatabaseContext databaseContext;
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
-    private final ObservableList<BibEntry> matchedEntries = FXCollections.observableArrayList();
+    private final IntegerProperty hits = new SimpleIntegerProperty();
     private final SimpleBooleanProperty hasChildren;
     private final SimpleBooleanProperty expandedProperty = new SimpleBooleanProperty();
     private final BooleanBinding anySelectedEntriesMatched;
     private final BooleanBinding allSelectedEntriesMatched;
     private final TaskExecutor taskExecutor;
     private final CustomLocalDragboard localDragBoard;
-    private final ObservableList<BibEntry> entriesList;
+    private final GroupMembershipIndex membershipIndex;
     private final PreferencesService preferencesService;
     private final InvalidationListener onInvalidatedGroup = listener -> refreshGroup();
+    private final InvalidationListener onMembershipsChanged = listener -> updateMatchedEntries();
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, PreferencesService preferencesService) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
@@ -76,6 +78,7 @@ public class GroupNodeViewModel {
         this.groupNode = Objects.requireNonNull(groupNode);
         this.localDragBoard = Objects.requireNonNull(localDragBoard);
         this.preferencesService = preferencesService;
+        this.membershipIndex = databaseContext.getGroupMembershipIndex();
 
         displayName = new LatexToUnicodeFormatter().format(groupNode.getName());
         isRoot = groupNode.isRoot();
@@ -97,10 +100,8 @@ public class GroupNodeViewModel {
         expandedProperty.set(groupNode.getGroup().isExpanded());
         expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
-        // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
+        // The index only notifies if the members of any group changed, the number of hits is then read from the index
+        membershipIndex.addListener(new WeakInvalidationListener(onMembershipsChanged));
 
         EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
@@ -167,8 +168,8 @@ public class GroupNodeViewModel {
         return groupNode.getGroup().getDescription().orElse("");
     }
 
-    public IntegerBinding getHits() {
-        return Bindings.size(matchedEntries);
+    public ReadOnlyIntegerProperty getHits() {
+        return hits;
     }
 
     @Override
@@ -194,7 +195,7 @@ public class GroupNodeViewModel {
                 ", children=" + children +
                 ", databaseContext=" + databaseContext +
                 ", groupNode=" + groupNode +
-                ", matchedEntries=" + matchedEntries +
+                ", hits=" + hits.get() +
                 '}';
     }
 
@@ -226,60 +227,26 @@ public class GroupNodeViewModel {
         return groupNode;
     }
 
-    /**
-     * Gets invoked if an entry in the current database changes.
-     */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        if (!matchedEntries.contains(changedEntry)) {
-                            matchedEntries.add(changedEntry);
-                        }
-                    } else {
-                        matchedEntries.remove(changedEntry);
-                    }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    matchedEntries.remove(removedEntry);
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        if (!matchedEntries.contains(addedEntry)) {
-                            matchedEntries.add(addedEntry);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     private void refreshGroup() {
-        DefaultTaskExecutor.runInJavaFXThread(() -> {
-            updateMatchedEntries(); // Update the entries matched by the group
-            // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
-            ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroup(this.databaseContext);
-            if (selectedGroups.remove(this.groupNode)) {
-                selectedGroups.add(this.groupNode);
-            }
-        });
+        // The entries matched by a TeX group depend on the aux file, which is not part of the group definition
+        BackgroundTask.wrap(() -> membershipIndex.refresh(groupNode))
+                      .onSuccess(result -> {
+                          updateMatchedEntries();
+                          // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
+                          ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroup(this.databaseContext);
+                          if (selectedGroups.remove(this.groupNode)) {
+                              selectedGroups.add(this.groupNode);
+                          }
+                      })
+                      .executeWith(taskExecutor);
     }
 
     private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index matches all entries only if the group is new or its definition changed, otherwise it just counts
         if (preferencesService.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
-                    .onSuccess(entries -> {
-                        matchedEntries.clear();
-                        matchedEntries.addAll(entries);
-                    })
+                    .wrap(() -> membershipIndex.getHitCount(groupNode))
+                    .onSuccess(hits::set)
                     .executeWith(taskExecutor);
         }
     }
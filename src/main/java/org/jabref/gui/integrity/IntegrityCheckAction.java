@@ -1,10 +1,9 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -18,9 +17,10 @@ import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.collect.MapMaker;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
@@ -33,6 +33,12 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final JournalAbbreviationRepository abbreviationRepository;
     private final PredatoryJournalRepository predatoryJournalRepository;
 
+    /**
+     * The checks are kept per library, as they cache the results of unchanged entries. A check is referenced by its
+     * library while it listens to the changes of the entries, hence the values are weak, too.
+     */
+    private final Map<BibDatabaseContext, IntegrityCheck> checks = new MapMaker().weakKeys().weakValues().makeMap();
+
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 PreferencesService preferencesService,
                                 DialogService dialogService,
@@ -54,29 +60,13 @@ public class IntegrityCheckAction extends SimpleCommand {
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                preferencesService.getFilePreferences(),
-                preferencesService.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                predatoryJournalRepository,
-                preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        IntegrityCheck check = getCheck(database);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                int numberOfEntries = database.getDatabase().getEntryCount();
+                return check.check(this::isCancelled, checkedEntries -> updateProgress(checkedEntries, numberOfEntries));
             }
         };
         task.setOnSucceeded(value -> {
@@ -95,4 +85,27 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    /**
+     * Returns the check of the library, creating a new one if the settings the checkers are created with changed
+     */
+    private IntegrityCheck getCheck(BibDatabaseContext database) {
+        boolean allowIntegerEdition = preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex();
+        IntegrityCheck cachedCheck = checks.get(database);
+        if ((cachedCheck != null) && cachedCheck.isCreatedFor(database.getMode(), allowIntegerEdition)) {
+            return cachedCheck;
+        }
+        if (cachedCheck != null) {
+            cachedCheck.shutdown();
+        }
+
+        IntegrityCheck check = new IntegrityCheck(database,
+                preferencesService.getFilePreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                predatoryJournalRepository,
+                allowIntegerEdition);
+        checks.put(database, check);
+        return check;
+    }
 }
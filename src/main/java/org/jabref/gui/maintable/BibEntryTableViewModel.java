@@ -77,6 +77,10 @@ public class BibEntryTableViewModel {
         return entry;
     }
 
+    public BibDatabaseContext getBibDatabaseContext() {
+        return bibDatabaseContext;
+    }
+
     private static Binding<List<AbstractGroup>> createMatchedGroupsBinding(BibDatabaseContext database, BibEntry entry) {
         return new UiThreadBinding<>(EasyBind.combine(entry.getFieldBinding(StandardField.GROUPS), database.getMetaData().groupsBinding(),
                 (a, b) ->
@@ -2,12 +2,14 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -16,42 +18,48 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
 
 public class MainTableDataModel {
+    private final MainTableFilter entriesFilter;
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
+    private final ObservableValue<Optional<Predicate<BibEntry>>> matcher;
     private final SortedList<BibEntryTableViewModel> entriesFilteredAndSorted;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter = new SimpleObjectProperty<>();
     private final GroupsPreferences groupsPreferences;
     private final NameDisplayPreferences nameDisplayPreferences;
     private final BibDatabaseContext bibDatabaseContext;
 
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.groupsPreferences = preferencesService.getGroupsPreferences();
         this.nameDisplayPreferences = preferencesService.getNameDisplayPreferences();
         this.bibDatabaseContext = context;
 
         resetFieldFormatter();
 
+        // The group membership index has to be created before the table listens to the entries, so that it is updated
+        // before the table matches changed entries again
+        context.getGroupMembershipIndex();
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
-        entriesFiltered = new FilteredList<>(entriesViewModel);
-        entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(),
-                        stateManager.activeSearchQueryProperty(),
-                        groupsPreferences.groupViewModeProperty(),
-                        (groups, query, groupViewMode) -> entry -> isMatched(groups, query, entry))
-        );
+        entriesFilter = new MainTableFilter(entriesViewModel, taskExecutor);
+        entriesFiltered = entriesFilter.getFilteredEntries();
+        matcher = EasyBind.combine(stateManager.activeGroupProperty(),
+                stateManager.activeSearchQueryProperty(),
+                groupsPreferences.groupViewModeProperty(),
+                this::createMatcher);
+        EasyBind.subscribe(matcher, entriesFilter::setMatcher);
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
@@ -60,36 +68,38 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    /**
+     * @return the matcher for the selected groups and the search query, or an empty optional if all entries are shown
+     */
+    private Optional<Predicate<BibEntry>> createMatcher(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, GroupViewMode groupViewMode) {
+        // the group matcher is created once for all entries
+        Optional<SearchMatcher> groupMatcher = createGroupMatcher(groups, groupViewMode);
+        if (groupMatcher.isEmpty() && query.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry -> isMatchedByGroup(groupMatcher, entry) && isMatchedBySearch(query, entry));
     }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
+    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntry entry) {
+        return query.map(matcher -> bibDatabaseContext.getSearchIndex().isMatch(matcher, entry))
                     .orElse(true);
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatchedByGroup(Optional<SearchMatcher> groupMatcher, BibEntry entry) {
+        return groupMatcher.map(matcher -> matcher.isMatch(entry))
+                           .orElse(true);
     }
 
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    private Optional<SearchMatcher> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupViewMode groupViewMode) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(
-                groupsPreferences.getGroupViewMode() == GroupViewMode.INTERSECTION
-                        ? MatcherSets.MatcherType.AND
-                        : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+        MatcherSets.MatcherType matcherType = groupViewMode == GroupViewMode.INTERSECTION
+                ? MatcherSets.MatcherType.AND
+                : MatcherSets.MatcherType.OR;
+        return Optional.of(bibDatabaseContext.getGroupMembershipIndex().createMatcher(selectedGroups, matcherType));
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -63,23 +63,23 @@ public class MainTableFieldValueFormatter {
             return null;
         }
 
-        AuthorList authors = AuthorList.parse(nameToFormat);
+        AuthorList authors = AuthorList.parseLatexFree(nameToFormat);
 
         if (((displayStyle == DisplayStyle.FIRSTNAME_LASTNAME)
                 || (displayStyle == DisplayStyle.LASTNAME_FIRSTNAME))
                 && (abbreviationStyle == AbbreviationStyle.LASTNAME_ONLY)) {
-            return authors.latexFree().getAsLastNames(false);
+            return authors.getAsLastNames(false);
         }
 
         return switch (displayStyle) {
             default -> nameToFormat;
-            case FIRSTNAME_LASTNAME -> authors.latexFree().getAsFirstLastNames(
+            case FIRSTNAME_LASTNAME -> authors.getAsFirstLastNames(
                     abbreviationStyle == AbbreviationStyle.FULL,
                     false);
-            case LASTNAME_FIRSTNAME -> authors.latexFree().getAsLastFirstNames(
+            case LASTNAME_FIRSTNAME -> authors.getAsLastFirstNames(
                     abbreviationStyle == AbbreviationStyle.FULL,
                     false);
-            case NATBIB -> authors.latexFree().getAsNatbib();
+            case NATBIB -> authors.getAsNatbib();
         };
     }
 }
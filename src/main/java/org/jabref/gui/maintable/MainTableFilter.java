@@ -0,0 +1,163 @@
+package org.jabref.gui.maintable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Filters the entries shown in the main table.
+ * <p>
+ * When the matcher changes (e.g., on every keystroke in the search bar or on selecting a group), all entries are
+ * matched in the background, split into chunks which are processed in parallel. The table keeps showing the previous
+ * result until the new one is complete, and then it is updated at once. A newer matcher supersedes a running
+ * evaluation, which stops after the current chunks.
+ * <p>
+ * The result is cached per entry. If entries are added or changed, only these entries are matched again, which is
+ * cheap enough to be done on the JavaFX thread.
+ */
+class MainTableFilter {
+
+    private static final int CHUNK_SIZE = 512;
+
+    private final ObservableList<BibEntryTableViewModel> entries;
+    private final FilteredList<BibEntryTableViewModel> filteredEntries;
+    private final TaskExecutor taskExecutor;
+
+    /**
+     * Incremented for every new matcher, so that running evaluations notice that they are superseded
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Entries changed while an evaluation is running, their results have to be discarded. Only accessed on the JavaFX
+     * thread.
+     */
+    private final Set<BibEntry> changedDuringEvaluation = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private boolean evaluationRunning;
+    private Optional<FilterResult> currentResult = Optional.empty();
+
+    MainTableFilter(ObservableList<BibEntryTableViewModel> entries, TaskExecutor taskExecutor) {
+        this.entries = entries;
+        this.taskExecutor = taskExecutor;
+        // registered before the filtered list registers its listener, so that outdated results are removed before the
+        // filtered list matches the changed entries again
+        entries.addListener(this::onEntriesChanged);
+        this.filteredEntries = new FilteredList<>(entries);
+    }
+
+    FilteredList<BibEntryTableViewModel> getFilteredEntries() {
+        return filteredEntries;
+    }
+
+    /**
+     * Sets the matcher deciding which entries are shown. Has to be called on the JavaFX thread.
+     *
+     * @param matcher the matcher, or an empty optional if all entries should be shown
+     */
+    void setMatcher(Optional<Predicate<BibEntry>> matcher) {
+        int requestedGeneration = generation.incrementAndGet();
+        changedDuringEvaluation.clear();
+
+        if (matcher.isEmpty()) {
+            evaluationRunning = false;
+            currentResult = Optional.empty();
+            filteredEntries.setPredicate(null);
+            return;
+        }
+
+        List<BibEntry> snapshot = entries.stream().map(BibEntryTableViewModel::getEntry).toList();
+        evaluationRunning = true;
+        BackgroundTask.wrap(() -> evaluate(matcher.get(), snapshot, requestedGeneration))
+                      .onSuccess(result -> result.ifPresent(this::publish))
+                      .executeWith(taskExecutor);
+    }
+
+    /**
+     * Matches all entries of the snapshot. Runs in the background.
+     *
+     * @return the result, or an empty optional if the evaluation was superseded by a newer matcher
+     */
+    private Optional<FilterResult> evaluate(Predicate<BibEntry> matcher, List<BibEntry> snapshot, int requestedGeneration) {
+        boolean[] matches = new boolean[snapshot.size()];
+        int numberOfChunks = (snapshot.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // each chunk writes a distinct range of the array
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            if (generation.get() != requestedGeneration) {
+                return;
+            }
+            int end = Math.min(snapshot.size(), (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                matches[i] = matcher.test(snapshot.get(i));
+            }
+        });
+        if (generation.get() != requestedGeneration) {
+            return Optional.empty();
+        }
+
+        FilterResult result = new FilterResult(requestedGeneration, matcher, new IdentityHashMap<>(snapshot.size()));
+        for (int i = 0; i < matches.length; i++) {
+            result.matchedEntries().put(snapshot.get(i), matches[i]);
+        }
+        return Optional.of(result);
+    }
+
+    private void publish(FilterResult result) {
+        if (result.generation() != generation.get()) {
+            // a newer matcher has been set while this result was passed to the JavaFX thread
+            return;
+        }
+        result.matchedEntries().keySet().removeAll(changedDuringEvaluation);
+        changedDuringEvaluation.clear();
+        evaluationRunning = false;
+        currentResult = Optional.of(result);
+        // a new predicate lets the filtered list update all rows in one change
+        filteredEntries.setPredicate(viewModel -> result.isMatch(viewModel.getEntry()));
+    }
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends BibEntryTableViewModel> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (BibEntryTableViewModel viewModel : change.getList().subList(change.getFrom(), change.getTo())) {
+                    invalidate(viewModel.getEntry());
+                }
+            }
+            for (BibEntryTableViewModel viewModel : change.getRemoved()) {
+                invalidate(viewModel.getEntry());
+            }
+            for (BibEntryTableViewModel viewModel : change.getAddedSubList()) {
+                invalidate(viewModel.getEntry());
+            }
+        }
+    }
+
+    private void invalidate(BibEntry entry) {
+        if (evaluationRunning) {
+            changedDuringEvaluation.add(entry);
+        }
+        currentResult.ifPresent(result -> result.matchedEntries().remove(entry));
+    }
+
+    /**
+     * @param matchedEntries whether the entries match, entries not contained have to be matched again
+     */
+    private record FilterResult(int generation, Predicate<BibEntry> matcher, Map<BibEntry, Boolean> matchedEntries) {
+        boolean isMatch(BibEntry entry) {
+            return matchedEntries.computeIfAbsent(entry, matcher::test);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.UnknownField;
 
 public class FieldViewModel {
 
@@ -60,6 +61,10 @@ public class FieldViewModel {
         // If the field is not known by JabRef (UnknownField), the new casing will be taken.
         Field field = FieldFactory.parseField(displayName.getValue());
         if (multiline.getValue()) {
+            if (field instanceof UnknownField unknownField) {
+                // the parsed field is shared, thus a new one is created instead of changing it
+                return new UnknownField(unknownField.getName(), unknownField.getDisplayName(), FieldProperty.MULTILINE_TEXT);
+            }
             field.getProperties().add(FieldProperty.MULTILINE_TEXT);
         }
         return field;
@@ -49,7 +49,7 @@ public class SearchResultsTableDataModel {
     }
 
     private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
+        return query.map(matcher -> entry.getBibDatabaseContext().getSearchIndex().isMatch(matcher, entry.getEntry()))
                     .orElse(true);
     }
 
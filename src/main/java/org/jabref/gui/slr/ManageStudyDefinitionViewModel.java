@@ -3,7 +3,9 @@ package org.jabref.gui.slr;
 import java.io.IOException;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -55,6 +57,9 @@ public class ManageStudyDefinitionViewModel {
     private final ObservableList<String> queries = FXCollections.observableArrayList();
     private final ObservableList<StudyCatalogItem> databases = FXCollections.observableArrayList();
 
+    // The databases of the study by name, to keep their settings not shown in the UI
+    private final Map<String, StudyDatabase> originalDatabases = new HashMap<>();
+
     // Hold the complement of databases for the selector
     private final SimpleStringProperty directory = new SimpleStringProperty();
 
@@ -97,6 +102,7 @@ public class ManageStudyDefinitionViewModel {
         researchQuestions.addAll(study.getResearchQuestions());
         queries.addAll(study.getQueries().stream().map(StudyQuery::getQuery).toList());
         List<StudyDatabase> studyDatabases = study.getDatabases();
+        studyDatabases.forEach(studyDatabase -> originalDatabases.put(studyDatabase.getName(), studyDatabase));
         databases.addAll(WebFetchers.getSearchBasedFetchers(importFormatPreferences, importerPreferences)
                                     .stream()
                                     .map(SearchBasedFetcher::getName)
@@ -164,7 +170,7 @@ public class ManageStudyDefinitionViewModel {
                 title.getValueSafe(),
                 researchQuestions,
                 queries.stream().map(StudyQuery::new).collect(Collectors.toList()),
-                databases.stream().map(studyDatabaseItem -> new StudyDatabase(studyDatabaseItem.getName(), studyDatabaseItem.isEnabled())).filter(StudyDatabase::isEnabled).collect(Collectors.toList()));
+                databases.stream().map(this::toStudyDatabase).filter(StudyDatabase::isEnabled).collect(Collectors.toList()));
         Path studyDirectory;
         final String studyDirectoryAsString = directory.getValueSafe();
         try {
@@ -198,6 +204,19 @@ public class ManageStudyDefinitionViewModel {
         return new SlrStudyAndDirectory(study, studyDirectory);
     }
 
+    /**
+     * Keeps the limits of the requests configured for the catalog in the study definition file
+     */
+    private StudyDatabase toStudyDatabase(StudyCatalogItem studyCatalogItem) {
+        StudyDatabase studyDatabase = new StudyDatabase(studyCatalogItem.getName(), studyCatalogItem.isEnabled());
+        StudyDatabase originalDatabase = originalDatabases.get(studyCatalogItem.getName());
+        if (originalDatabase != null) {
+            studyDatabase.setMaxConcurrentRequests(originalDatabase.getMaxConcurrentRequests());
+            studyDatabase.setRequestsPerMinute(originalDatabase.getRequestsPerMinute());
+        }
+        return studyDatabase;
+    }
+
     public Property<String> titleProperty() {
         return title;
     }
@@ -3,4 +3,9 @@ package org.jabref.http;
 public class JabrefMediaType {
     public static final String BIBTEX = "application/x-bibtex";
     public static final String JSON_CSL_ITEM = "application/x-bibtex-library-csl+json";
+
+    /**
+     * Newline delimited JSON: one JSON object per line, which clients can process while the response is still arriving
+     */
+    public static final String NDJSON = "application/x-ndjson";
 }
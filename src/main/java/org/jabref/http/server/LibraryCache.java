@@ -0,0 +1,146 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.logic.citationstyle.JabRefItemDataProvider;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.PreferencesService;
+
+import jakarta.ws.rs.core.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the libraries served by the http server in memory, so that a request does not parse the library again.
+ * <p>
+ * A library is parsed again as soon as its size or last modification time changes. The representations of the entries
+ * are rendered once after parsing; requests only select and concatenate them.
+ */
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Map<Path, String> idsOfLibraries = new ConcurrentHashMap<>();
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+
+    /**
+     * The library as served by the http server
+     *
+     * @param version             identifies the state of the file the library was parsed from
+     * @param entries             the entries in the order of the library
+     * @param cslItems            the CSL JSON object of each entry, in the order of the library
+     * @param indexOfCitationKeys the index of the first entry with the citation key
+     */
+    public record CachedLibrary(String version, List<BibEntryDTO> entries, List<String> cslItems, Map<String, Integer> indexOfCitationKeys) {
+
+        public Optional<Integer> indexOf(String citationKey) {
+            return Optional.ofNullable(indexOfCitationKeys.get(citationKey));
+        }
+
+        public EntityTag getEntityTag(String representation) {
+            return LibraryCache.getEntityTag(version, representation);
+        }
+    }
+
+    /**
+     * The id of a library is its file name followed by a prefix unique for its path
+     */
+    public static String getId(Path library) {
+        return library.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(library);
+    }
+
+    public static EntityTag getEntityTag(String version, String representation) {
+        // the tags of the representations differ, as the same URL serves BibTeX and both JSON variants
+        return new EntityTag(version + "-" + representation);
+    }
+
+    /**
+     * Returns the state of the file as it is used for detecting changes: its size and last modification time.
+     */
+    public static String getVersion(Path library) throws IOException {
+        return Long.toHexString(Files.size(library)) + "-" + Long.toHexString(Files.getLastModifiedTime(library).toMillis());
+    }
+
+    /**
+     * Finds the library with the given id. Libraries which are not served anymore are removed from the cache.
+     */
+    public Optional<Path> getLibraryPath(List<Path> servedLibraries, String id) {
+        idsOfLibraries.keySet().retainAll(servedLibraries);
+        libraries.keySet().retainAll(servedLibraries);
+        return servedLibraries.stream()
+                              .filter(library -> idsOfLibraries.computeIfAbsent(library, LibraryCache::getId).equals(id))
+                              .findFirst();
+    }
+
+    /**
+     * Returns the library, parsing it only if the file changed since it was parsed last.
+     */
+    public CachedLibrary getLibrary(Path library, PreferencesService preferences) throws IOException {
+        String version = getVersion(library);
+        CachedLibrary cachedLibrary = libraries.get(library);
+        if ((cachedLibrary != null) && cachedLibrary.version().equals(version)) {
+            return cachedLibrary;
+        }
+        try {
+            // Concurrent requests for the same library wait for one parser run.
+            // The version is determined before parsing; a change while parsing therefore causes another parser run on the next request.
+            return libraries.compute(library, (path, current) -> {
+                if ((current != null) && current.version().equals(version)) {
+                    return current;
+                }
+                try {
+                    return parse(path, version, preferences);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static CachedLibrary parse(Path library, String version, PreferencesService preferences) throws IOException {
+        LOGGER.debug("Parsing library {} (version {})", library, version);
+        ParserResult parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+        BibDatabaseContext databaseContext = parserResult.getDatabaseContext();
+        List<BibEntry> entries = databaseContext.getEntries();
+
+        // The server does not run the GUI launcher, thus Globals.entryTypesManager is not initialized.
+        // The same manager is used for both representations, so that they agree on custom entry types.
+        BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
+        List<BibEntryDTO> entryDTOs = entries.stream()
+                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
+                                             .map(entry -> new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager))
+                                             .toList();
+
+        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+        jabRefItemDataProvider.setData(databaseContext, entryTypesManager);
+        List<String> cslItems = entries.stream()
+                                       .map(jabRefItemDataProvider::toJson)
+                                       .toList();
+
+        Map<String, Integer> indexOfCitationKeys = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            int index = i;
+            entries.get(i).getCitationKey().ifPresent(key -> indexOfCitationKeys.putIfAbsent(key, index));
+        }
+
+        return new CachedLibrary(version, entryDTOs, cslItems, Map.copyOf(indexOfCitationKeys));
+    }
+}
@@ -1,97 +1,210 @@
 package org.jabref.http.server;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
-import java.util.Objects;
 
-import org.jabref.gui.Globals;
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
-import org.jabref.logic.citationstyle.JabRefItemDataProvider;
-import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
-import org.jabref.logic.util.io.BackupFileUtil;
-import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.http.server.LibraryCache.CachedLibrary;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Serves a library and its entries.
+ * <p>
+ * The representations of the whole library are streamed, so that the first entries are sent before the last ones are
+ * written. The entries can be requested in pages using the query parameters {@code offset} and {@code limit}; the header
+ * {@value #TOTAL_COUNT_HEADER} contains the number of entries of the library. All responses carry an ETag, so that
+ * clients can revalidate using {@code If-None-Match}.
+ */
 @Path("libraries/{id}")
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Inject
     PreferencesService preferences;
 
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
+    @Context
+    Request request;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id,
+                            @QueryParam("offset") @DefaultValue("0") int offset,
+                            @QueryParam("limit") @DefaultValue("" + Integer.MAX_VALUE) int limit) {
+        CachedLibrary library = getCachedLibrary(id);
+        List<BibEntryDTO> page = getPage(library.entries(), offset, limit);
+        StreamingOutput entity = output -> {
+            JsonWriter jsonWriter = gson.newJsonWriter(createWriter(output));
+            jsonWriter.beginArray();
+            for (BibEntryDTO entry : page) {
+                gson.toJson(entry, BibEntryDTO.class, jsonWriter);
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        };
+        return respond(library.getEntityTag("json"), entity, library.entries().size());
+    }
+
+    /**
+     * Writes one entry per line, so that clients can process the entries while the response is still arriving
+     */
+    @GET
+    @Produces(JabrefMediaType.NDJSON)
+    public Response getNdJson(@PathParam("id") String id,
+                              @QueryParam("offset") @DefaultValue("0") int offset,
+                              @QueryParam("limit") @DefaultValue("" + Integer.MAX_VALUE) int limit) {
+        CachedLibrary library = getCachedLibrary(id);
+        List<BibEntryDTO> page = getPage(library.entries(), offset, limit);
+        StreamingOutput entity = output -> {
+            Writer writer = createWriter(output);
+            for (BibEntryDTO entry : page) {
+                // a JsonWriter of its own, as the configured Gson pretty prints and thus would split an entry over several lines
+                JsonWriter jsonWriter = new JsonWriter(writer);
+                gson.toJson(entry, BibEntryDTO.class, jsonWriter);
+                jsonWriter.flush();
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+        return respond(library.getEntityTag("ndjson"), entity, library.entries().size());
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id,
+                                   @QueryParam("offset") @DefaultValue("0") int offset,
+                                   @QueryParam("limit") @DefaultValue("" + Integer.MAX_VALUE) int limit) {
+        CachedLibrary library = getCachedLibrary(id);
+        List<String> page = getPage(library.cslItems(), offset, limit);
+        StreamingOutput entity = output -> {
+            Writer writer = createWriter(output);
+            writer.write('[');
+            for (int i = 0; i < page.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(page.get(i));
+            }
+            writer.write(']');
+            writer.flush();
+        };
+        return respond(library.getEntityTag("csl"), entity, library.cslItems().size());
     }
 
-    private ParserResult getParserResult(String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
-        try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
-        } catch (IOException e) {
-            LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
-        }
-        return parserResult;
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntryJson(@PathParam("id") String id, @PathParam("citationKey") String citationKey) {
+        CachedLibrary library = getCachedLibrary(id);
+        int index = library.indexOf(citationKey).orElseThrow(NotFoundException::new);
+        return respond(library.getEntityTag("json"), gson.toJson(library.entries().get(index)), 1);
+    }
+
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(JabrefMediaType.JSON_CSL_ITEM)
+    public Response getEntryClsItemJson(@PathParam("id") String id, @PathParam("citationKey") String citationKey) {
+        CachedLibrary library = getCachedLibrary(id);
+        int index = library.indexOf(citationKey).orElseThrow(NotFoundException::new);
+        return respond(library.getEntityTag("csl"), library.cslItems().get(index), 1);
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
     public Response getBibtex(@PathParam("id") String id) {
         java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
+        EntityTag entityTag;
         try {
-            libraryAsString = Files.readString(library);
+            entityTag = LibraryCache.getEntityTag(LibraryCache.getVersion(library), "bibtex");
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
             throw new InternalServerErrorException("Could not read library " + library, e);
         }
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        StreamingOutput libraryContent = output -> Files.copy(library, output);
         return Response.ok()
-                .entity(libraryAsString)
+                .entity(libraryContent)
+                .tag(entityTag)
                 .build();
     }
 
+    private Response respond(EntityTag entityTag, Object entity, int totalCount) {
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok()
+                       .entity(entity)
+                       .tag(entityTag)
+                       .header(TOTAL_COUNT_HEADER, totalCount)
+                       .build();
+    }
+
+    private static Writer createWriter(OutputStream output) {
+        // buffered, as the entries are written in small pieces
+        return new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    private static <T> List<T> getPage(List<T> items, int offset, int limit) {
+        if ((offset < 0) || (limit < 0)) {
+            throw new BadRequestException("offset and limit must not be negative");
+        }
+        int fromIndex = Math.min(offset, items.size());
+        int toIndex = (int) Math.min(items.size(), (long) offset + limit);
+        return items.subList(fromIndex, toIndex);
+    }
+
+    private CachedLibrary getCachedLibrary(String id) {
+        java.nio.file.Path library = getLibraryPath(id);
+        try {
+            return libraryCache.getLibrary(library, preferences);
+        } catch (IOException e) {
+            LOGGER.warn("Could not find open library file {}", library, e);
+            throw new InternalServerErrorException("Could not parse library", e);
+        }
+    }
+
     private java.nio.file.Path getLibraryPath(String id) {
-        return preferences.getGuiPreferences().getLastFilesOpened()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+        return libraryCache.getLibraryPath(preferences.getGuiPreferences().getLastFilesOpened(), id)
+                           .orElseThrow(NotFoundException::new);
     }
 }
@@ -210,9 +210,14 @@ public class JabRefItemDataProvider implements ItemDataProvider {
         List<BibEntry> entries = bibDatabaseContext.getEntries();
         this.setData(entries, bibDatabaseContext, entryTypesManager);
         return entries.stream()
-                      .map(entry -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager))
-                      .map(item -> item.toJson(stringJsonBuilderFactory.createJsonBuilder()))
-                      .map(String.class::cast)
+                      .map(this::toJson)
                       .collect(Collectors.joining(",", "[", "]"));
     }
+
+    /**
+     * Converts a single entry of the data set by {@link #setData} to its CSL JSON object
+     */
+    public String toJson(BibEntry entry) {
+        return (String) bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager).toJson(stringJsonBuilderFactory.createJsonBuilder());
+    }
 }
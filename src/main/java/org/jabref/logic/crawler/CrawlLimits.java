@@ -0,0 +1,64 @@
+package org.jabref.logic.crawler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.model.study.StudyDatabase;
+
+/**
+ * Limits of the requests sent to one catalog during a crawl
+ *
+ * @param maxConcurrentRequests the maximum number of requests running at the same time
+ * @param requestsPerMinute     the maximum number of requests started per minute, 0 for no limit
+ */
+record CrawlLimits(int maxConcurrentRequests, int requestsPerMinute) {
+
+    /**
+     * Used for catalogs without configured limits. Without a rate limit, only few requests run at the same time.
+     */
+    static final CrawlLimits DEFAULT = new CrawlLimits(4, 0);
+
+    CrawlLimits {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("At least one request has to be allowed at the same time");
+        }
+        if (requestsPerMinute < 0) {
+            throw new IllegalArgumentException("The number of requests per minute must not be negative");
+        }
+    }
+
+    /**
+     * Returns the limits configured in the study definition, using the default for the values not configured
+     */
+    static CrawlLimits of(StudyDatabase studyDatabase) {
+        return new CrawlLimits(
+                Optional.ofNullable(studyDatabase.getMaxConcurrentRequests()).orElse(DEFAULT.maxConcurrentRequests()),
+                Optional.ofNullable(studyDatabase.getRequestsPerMinute()).orElse(DEFAULT.requestsPerMinute()));
+    }
+
+    /**
+     * Returns the limits of the given catalogs by their lower case name, which matches the name of the fetchers
+     * ignoring the case (see {@link StudyCatalogToFetcherConverter})
+     */
+    static Map<String, CrawlLimits> byFetcherName(List<StudyDatabase> studyDatabases) {
+        return studyDatabases.stream()
+                             .collect(Collectors.toMap(
+                                     studyDatabase -> studyDatabase.getName().toLowerCase(Locale.ROOT),
+                                     CrawlLimits::of,
+                                     (first, second) -> first));
+    }
+
+    /**
+     * @return the minimum time between the start of two requests
+     */
+    Duration getMinimumInterval() {
+        if (requestsPerMinute == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMinutes(1).dividedBy(requestsPerMinute);
+    }
+}
@@ -0,0 +1,138 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.jabref.logic.exporter.SaveException;
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+/**
+ * Collects the pages of a crawl as they arrive.
+ * <p>
+ * The pages arrive in any order. The results are ordered by the queries and fetchers as given, and by page, so that the
+ * files written by {@link StudyRepository} do not depend on the timing of the requests. If any request of a fetcher
+ * for a query failed, the results of the fetcher are missing from the {@link QueryResult} of the query.
+ * <p>
+ * As soon as all pages of a fetcher for a query arrived, its result is passed to the {@link FetchResultWriter}. The
+ * results are written one at a time.
+ */
+class CrawlResults implements CrawlScheduler.Listener {
+
+    /**
+     * Writes the result of a fetcher for a query
+     */
+    @FunctionalInterface
+    interface FetchResultWriter {
+        void write(String query, FetchResult fetchResult) throws IOException, SaveException;
+    }
+
+    private final List<String> queries;
+    private final List<String> fetcherNames;
+    private final FetchResultWriter writer;
+
+    private final Map<Request, SortedMap<Integer, List<BibEntry>>> pages = new HashMap<>();
+    private final Set<Request> failedRequests = new HashSet<>();
+    private final Map<Request, FetchResult> completedResults = new HashMap<>();
+
+    private final Object writeLock = new Object();
+    private Exception writeException;
+
+    CrawlResults(List<String> queries, List<String> fetcherNames) {
+        this(queries, fetcherNames, (query, fetchResult) -> {
+        });
+    }
+
+    CrawlResults(List<String> queries, List<String> fetcherNames, FetchResultWriter writer) {
+        this.queries = queries;
+        this.fetcherNames = fetcherNames;
+        this.writer = writer;
+    }
+
+    @Override
+    public synchronized void pageFetched(String query, String fetcherName, int page, List<BibEntry> entries) {
+        pages.computeIfAbsent(new Request(query, fetcherName), request -> new TreeMap<>()).put(page, entries);
+    }
+
+    @Override
+    public synchronized void fetchFailed(String query, String fetcherName, FetcherException exception) {
+        failedRequests.add(new Request(query, fetcherName));
+    }
+
+    @Override
+    public void fetcherCompleted(String query, String fetcherName) {
+        FetchResult fetchResult;
+        synchronized (this) {
+            Request request = new Request(query, fetcherName);
+            if (failedRequests.contains(request)) {
+                return;
+            }
+            fetchResult = createFetchResult(request);
+            completedResults.put(request, fetchResult);
+        }
+        synchronized (writeLock) {
+            if (writeException != null) {
+                // the crawl fails anyway
+                return;
+            }
+            try {
+                writer.write(query, fetchResult);
+            } catch (IOException | SaveException e) {
+                writeException = e;
+            }
+        }
+    }
+
+    /**
+     * Throws the exception of the first result which could not be written
+     */
+    void checkWritten() throws IOException, SaveException {
+        synchronized (writeLock) {
+            if (writeException instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (writeException instanceof SaveException saveException) {
+                throw saveException;
+            }
+        }
+    }
+
+    /**
+     * Returns the results collected so far
+     */
+    synchronized List<QueryResult> getQueryResults() {
+        List<QueryResult> queryResults = new ArrayList<>(queries.size());
+        for (String query : queries) {
+            List<FetchResult> fetchResults = new ArrayList<>(fetcherNames.size());
+            for (String fetcherName : fetcherNames) {
+                Request request = new Request(query, fetcherName);
+                if (failedRequests.contains(request)) {
+                    continue;
+                }
+                // the result of a completed fetcher is reused, as the citation keys were generated when writing it
+                fetchResults.add(completedResults.containsKey(request) ? completedResults.get(request) : createFetchResult(request));
+            }
+            queryResults.add(new QueryResult(query, fetchResults));
+        }
+        return queryResults;
+    }
+
+    private FetchResult createFetchResult(Request request) {
+        List<BibEntry> entries = new ArrayList<>();
+        pages.getOrDefault(request, new TreeMap<>()).values().forEach(entries::addAll);
+        return new FetchResult(request.fetcherName(), new BibDatabase(entries));
+    }
+
+    private record Request(String query, String fetcherName) {
+    }
+}
@@ -0,0 +1,182 @@
+package org.jabref.logic.crawler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the requests of a crawl, each on a virtual thread of its own.
+ * <p>
+ * The pages of a {@link PagedSearchBasedFetcher} are separate requests and are fetched concurrently, too. The requests
+ * to a catalog are limited by its {@link CrawlLimits}. A failed request is retried, waiting twice as long before each
+ * further attempt. The fetched entries are passed to the {@link Listener} as soon as a request completes, and the
+ * listener is told when all requests of a fetcher for a query completed.
+ */
+class CrawlScheduler {
+
+    /**
+     * Receives the results of the requests. The methods are called concurrently.
+     */
+    interface Listener {
+        void pageFetched(String query, String fetcherName, int page, List<BibEntry> entries);
+
+        void fetchFailed(String query, String fetcherName, FetcherException exception);
+
+        /**
+         * Called after all requests of the fetcher for the query completed, successfully or not
+         */
+        default void fetcherCompleted(String query, String fetcherName) {
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrawlScheduler.class);
+
+    /**
+     * The first attempt and up to three retries
+     */
+    private static final int MAX_ATTEMPTS = 4;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+
+    private final Map<String, CrawlLimits> limitsByFetcherName;
+    private final int maxResultsPerFetcher;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    /**
+     * @param limitsByFetcherName  the limits by the lower case name of the fetcher, see {@link CrawlLimits#byFetcherName}
+     * @param maxResultsPerFetcher the number of results requested for each query from each fetcher
+     */
+    CrawlScheduler(Map<String, CrawlLimits> limitsByFetcherName, int maxResultsPerFetcher) {
+        this(limitsByFetcherName, maxResultsPerFetcher, MAX_ATTEMPTS, INITIAL_BACKOFF);
+    }
+
+    CrawlScheduler(Map<String, CrawlLimits> limitsByFetcherName, int maxResultsPerFetcher, int maxAttempts, Duration initialBackoff) {
+        this.limitsByFetcherName = limitsByFetcherName;
+        this.maxResultsPerFetcher = maxResultsPerFetcher;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * Searches all fetchers for all queries and returns when all requests completed.
+     */
+    void crawl(List<SearchBasedFetcher> fetchers, List<String> queries, Listener listener) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (SearchBasedFetcher fetcher : fetchers) {
+                Throttle throttle = new Throttle(limitsByFetcherName.getOrDefault(fetcher.getName().toLowerCase(Locale.ROOT), CrawlLimits.DEFAULT));
+                for (String query : queries) {
+                    if (fetcher instanceof PagedSearchBasedFetcher pagedFetcher) {
+                        int pages = (int) Math.ceil(((double) maxResultsPerFetcher) / pagedFetcher.getPageSize());
+                        AtomicInteger pendingPages = new AtomicInteger(pages);
+                        for (int page = 0; page < pages; page++) {
+                            int pageNumber = page;
+                            executor.execute(() -> fetch(fetcher, query, pageNumber, throttle, listener, pendingPages,
+                                    () -> List.copyOf(pagedFetcher.performSearchPaged(query, pageNumber).getContent())));
+                        }
+                    } else {
+                        executor.execute(() -> fetch(fetcher, query, 0, throttle, listener, new AtomicInteger(1),
+                                () -> fetcher.performSearch(query)));
+                    }
+                }
+            }
+            // closing the executor waits for all requests
+        }
+    }
+
+    /**
+     * @param pendingPages the number of pages of the fetcher for the query not completed yet
+     */
+    private void fetch(SearchBasedFetcher fetcher, String query, int page, Throttle throttle, Listener listener, AtomicInteger pendingPages, Request request) {
+        try {
+            List<BibEntry> entries = fetchWithRetry(fetcher, query, page, throttle, request);
+            listener.pageFetched(query, fetcher.getName(), page, entries);
+        } catch (FetcherException e) {
+            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
+            listener.fetchFailed(query, fetcher.getName(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listener.fetchFailed(query, fetcher.getName(), new FetcherException("Crawl was interrupted", e));
+        } catch (RuntimeException e) {
+            LOGGER.error("%s API request failed unexpectedly".formatted(fetcher.getName()), e);
+            listener.fetchFailed(query, fetcher.getName(), new FetcherException("Unexpected error", e));
+        } finally {
+            if (pendingPages.decrementAndGet() == 0) {
+                listener.fetcherCompleted(query, fetcher.getName());
+            }
+        }
+    }
+
+    private List<BibEntry> fetchWithRetry(SearchBasedFetcher fetcher, String query, int page, Throttle throttle, Request request) throws FetcherException, InterruptedException {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return throttle.perform(request);
+            } catch (FetcherException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                LOGGER.debug("Attempt {} to fetch page {} of query {} from {} failed, retrying in {}", attempt, page, query, fetcher.getName(), backoff, e);
+                TimeUnit.NANOSECONDS.sleep(backoff.toNanos());
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        List<BibEntry> perform() throws FetcherException;
+    }
+
+    /**
+     * Enforces the limits of one fetcher
+     */
+    private static class Throttle {
+        private final Semaphore permits;
+        private final long minimumIntervalNanos;
+        private long nextStart = System.nanoTime();
+
+        Throttle(CrawlLimits limits) {
+            this.permits = new Semaphore(limits.maxConcurrentRequests(), true);
+            this.minimumIntervalNanos = limits.getMinimumInterval().toNanos();
+        }
+
+        List<BibEntry> perform(Request request) throws FetcherException, InterruptedException {
+            permits.acquire();
+            try {
+                awaitStart();
+                return request.perform();
+            } finally {
+                permits.release();
+            }
+        }
+
+        /**
+         * Reserves the next start time slot and waits for it
+         */
+        private void awaitStart() throws InterruptedException {
+            long start;
+            synchronized (this) {
+                start = Math.max(System.nanoTime(), nextStart);
+                nextStart = start + minimumIntervalNanos;
+            }
+            long waitingTime = start - System.nanoTime();
+            if (waitingTime > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitingTime);
+            }
+        }
+    }
+}
@@ -49,7 +49,8 @@ public class Crawler {
                 preferencesService.getImporterPreferences());
         this.studyFetcher = new StudyFetcher(
                 studyCatalogToFetcherConverter.getActiveFetchers(),
-                studyRepository.getSearchQueryStrings());
+                studyRepository.getSearchQueryStrings(),
+                CrawlLimits.byFetcherName(studyRepository.getActiveLibraryEntries()));
     }
 
     /**
@@ -58,16 +59,18 @@ public class Crawler {
      *
      * The whole process works as follows:
      * <ol>
-     *     <li>Then the search is executed</li>
      *     <li>The repository changes to the search branch</li>
-     *     <li>Afterwards, the results are persisted on the search branch.</li>
+     *     <li>Then the search is executed. The results of each E-Library for each query are persisted on the search
+     *     branch as soon as they arrived.</li>
+     *     <li>Afterwards, the results of the queries and the study are persisted, and committed at once.</li>
      *     <li>Finally, the changes are merged into the work branch</li>
      * </ol>
      *
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
     public void performCrawl() throws IOException, GitAPIException, SaveException {
-        List<QueryResult> results = studyFetcher.crawl();
-        studyRepository.persist(results);
+        studyRepository.startPersisting();
+        List<QueryResult> results = studyFetcher.crawl(studyRepository::persistFetchResult);
+        studyRepository.finishPersisting(results);
     }
 }
@@ -1,80 +1,56 @@
 package org.jabref.logic.crawler;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-import org.jabref.logic.importer.FetcherException;
-import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.importer.SearchBasedFetcher;
-import org.jabref.model.database.BibDatabase;
-import org.jabref.model.entry.BibEntry;
-import org.jabref.model.study.FetchResult;
 import org.jabref.model.study.QueryResult;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * The requests are sent by a {@link CrawlScheduler}, respecting the limits configured for each E-Library.
  */
 class StudyFetcher {
-    private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final CrawlScheduler crawlScheduler;
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
-        this.searchQueries = searchQueries;
-        this.activeFetchers = activeFetchers;
+        this(activeFetchers, searchQueries, Map.of());
     }
 
     /**
-     * Each Map Entry contains the results for one search term for all libraries.
-     * Each entry of the internal map contains the results for a given library.
-     * If any library API is not available, its corresponding entry is missing from the internal map.
+     * @param limitsByFetcherName the limits of the requests by lower case fetcher name, see {@link CrawlLimits#byFetcherName}
      */
-    public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, Map<String, CrawlLimits> limitsByFetcherName) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, new CrawlScheduler(limitsByFetcherName, MAX_AMOUNT_OF_RESULTS_PER_FETCHER));
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, CrawlScheduler crawlScheduler) {
+        this.searchQueries = searchQueries;
+        this.activeFetchers = activeFetchers;
+        this.crawlScheduler = crawlScheduler;
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
+     * Each Map Entry contains the results for one search term for all libraries.
+     * Each entry of the internal map contains the results for a given library.
+     * If any library API is not available, its corresponding entry is missing from the internal map.
      *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * @param writer receives the result of each library for each search term as soon as it is complete
+     * @throws IOException   if the writer failed to write a result
+     * @throws SaveException if the writer failed to write a result
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
-    }
-
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
-        try {
-            List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
-                int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
-                for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(basedFetcher.performSearchPaged(searchQuery, page).getContent());
-                }
-            } else {
-                fetchResult = fetcher.performSearch(searchQuery);
-            }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
-        } catch (FetcherException e) {
-            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
-            return null;
-        }
+    public List<QueryResult> crawl(CrawlResults.FetchResultWriter writer) throws IOException, SaveException {
+        CrawlResults crawlResults = new CrawlResults(searchQueries, activeFetchers.stream().map(SearchBasedFetcher::getName).toList(), writer);
+        crawlScheduler.crawl(activeFetchers, searchQueries, crawlResults);
+        crawlResults.checkWritten();
+        return crawlResults.getQueryResults();
     }
 }
@@ -219,9 +219,52 @@ public class StudyRepository {
      * </ol>
      */
     public void persist(List<QueryResult> crawlResults) throws IOException, GitAPIException, SaveException {
-        updateWorkAndSearchBranch();
+        startPersisting();
+        for (QueryResult result : crawlResults) {
+            for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
+                persistFetchResult(result.getQuery(), fetcherResult);
+            }
+        }
+        finishPersisting(crawlResults);
+    }
 
+    /**
+     * Updates the work and search branch, and checks out the search branch, so that the results of the fetchers can be
+     * persisted as they arrive using {@link #persistFetchResult(String, FetchResult)}.
+     * Precondition: Currently checking out work branch
+     */
+    public void startPersisting() throws IOException, GitAPIException {
+        updateWorkAndSearchBranch();
         gitHandler.checkoutBranch(SEARCH_BRANCH);
+    }
+
+    /**
+     * Merges the result of a fetcher into its result file on the search branch. Citation keys are generated for the
+     * new entries.
+     * Precondition: {@link #startPersisting()} was called. The results are not persisted concurrently.
+     */
+    public void persistFetchResult(String query, FetchResult fetcherResult) throws IOException, SaveException {
+        DatabaseMerger merger = new DatabaseMerger(preferencesService.getBibEntryPreferences().getKeywordSeparator());
+        BibDatabase fetcherEntries = fetcherResult.getFetchResult();
+        BibDatabaseContext existingFetcherResult = getFetcherResultEntries(query, fetcherResult.getFetcherName());
+
+        // Merge new entries into fetcher result file
+        merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
+
+        // Create citation keys for all entries that do not have one
+        generateCiteKeys(existingFetcherResult, fetcherEntries);
+
+        writeResultToFile(getPathToFetcherResultFile(query, fetcherResult.getFetcherName()), existingFetcherResult);
+    }
+
+    /**
+     * Writes the query and study result files, commits all results to the search branch at once, and patches them into
+     * the work branch.
+     * Precondition: The results of all fetchers were persisted using {@link #persistFetchResult(String, FetchResult)}.
+     *
+     * @param crawlResults the results of the fetchers, with the citation keys generated when persisting them
+     */
+    public void finishPersisting(List<QueryResult> crawlResults) throws IOException, GitAPIException, SaveException {
         persistResults(crawlResults);
         try {
             // First commit changes to search branch and update remote
@@ -377,7 +420,8 @@ public class StudyRepository {
     }
 
     /**
-     * Persists the crawling results in the local file based repository.
+     * Persists the query and study results in the local file based repository. The fetcher results have been persisted
+     * already.
      *
      * @param crawlResults The results that shall be persisted.
      */
@@ -388,19 +432,8 @@ public class StudyRepository {
         for (QueryResult result : crawlResults) {
             BibDatabase queryResultEntries = new BibDatabase();
             for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
-                BibDatabase fetcherEntries = fetcherResult.getFetchResult();
-                BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
-
-                // Merge new entries into fetcher result file
-                merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
-
-                // Create citation keys for all entries that do not have one
-                generateCiteKeys(existingFetcherResult, fetcherEntries);
-
                 // Aggregate each fetcher result into the query result
-                merger.merge(queryResultEntries, fetcherEntries);
-
-                writeResultToFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), existingFetcherResult);
+                merger.merge(queryResultEntries, fetcherResult.getFetchResult());
             }
             BibDatabaseContext existingQueryEntries = getQueryResultEntries(result.getQuery());
 
@@ -0,0 +1,143 @@
+package org.jabref.logic.database;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Generates blocking keys for duplicate detection.
+ * <p>
+ * Two entries which are duplicates according to {@link DuplicateCheck#isDuplicate} very likely share at least one
+ * blocking key. Thus, only entries sharing a key need to be compared. The following keys are generated:
+ * <ul>
+ *     <li>the values of the identifier fields (DOI, eprint, PMID)</li>
+ *     <li>the normalized DOI and ISBN</li>
+ *     <li>the entry type, the last name of the first author, and the year</li>
+ *     <li>the entry type and the bands of a MinHash signature of the title (locality-sensitive hashing)</li>
+ * </ul>
+ * Entries of different types are only considered duplicates by {@link DuplicateCheck} if they share an identifier.
+ * Therefore, the type is part of the author and title keys.
+ * <p>
+ * Entries without any of these information get a key consisting of the type only.
+ */
+public class BlockingKeyGenerator {
+
+    private static final int SHINGLE_LENGTH = 4;
+    private static final int BANDS = 8;
+    private static final int ROWS_PER_BAND = 2;
+    private static final int[] SEEDS = new int[BANDS * ROWS_PER_BAND];
+
+    static {
+        // fixed seeds, so that keys are stable between runs
+        int seed = 0x9E3779B9;
+        for (int i = 0; i < SEEDS.length; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    public Set<String> generateKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ":" + value));
+        }
+        entry.getDOI().ifPresent(doi -> keys.add("doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        String type = entry.getType().getName().toLowerCase(Locale.ROOT);
+        String year = entry.getFieldOrAlias(StandardField.YEAR).orElse("").trim();
+        getFirstAuthorLastName(entry).ifPresent(lastName -> keys.add("author:" + type + ":" + lastName + ":" + year));
+        entry.getFieldLatexFree(StandardField.TITLE)
+             .map(BlockingKeyGenerator::normalize)
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> addTitleKeys(keys, type, title));
+
+        if (keys.isEmpty()) {
+            keys.add("type:" + type);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the normalized title used for the title keys
+     */
+    public static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean lastWasSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (Character.isLetterOrDigit(character)) {
+                normalized.append(Character.toLowerCase(character));
+                lastWasSpace = false;
+            } else if (!lastWasSpace) {
+                normalized.append(' ');
+                lastWasSpace = true;
+            }
+        }
+        int length = normalized.length();
+        if ((length > 0) && (normalized.charAt(length - 1) == ' ')) {
+            normalized.setLength(length - 1);
+        }
+        return normalized.toString();
+    }
+
+    private static Optional<String> getFirstAuthorLastName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .map(authors -> authors.getAuthor(0))
+                    .flatMap(Author::getLast)
+                    .map(BlockingKeyGenerator::normalize)
+                    .filter(lastName -> !lastName.isEmpty());
+    }
+
+    private static void addTitleKeys(Set<String> keys, String type, String title) {
+        int[] signature = new int[SEEDS.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int numberOfShingles = Math.max(1, (title.length() - SHINGLE_LENGTH) + 1);
+        for (int start = 0; start < numberOfShingles; start++) {
+            // same as title.substring(start, start + SHINGLE_LENGTH).hashCode(), but without allocation
+            int shingleHash = 0;
+            int end = Math.min(title.length(), start + SHINGLE_LENGTH);
+            for (int i = start; i < end; i++) {
+                shingleHash = (31 * shingleHash) + title.charAt(i);
+            }
+            for (int i = 0; i < SEEDS.length; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ SEEDS[i]));
+            }
+        }
+
+        for (int band = 0; band < BANDS; band++) {
+            long bandHash = 17;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                bandHash = (31 * bandHash) + signature[(band * ROWS_PER_BAND) + row];
+            }
+            keys.add("title:" + type + ":" + band + ":" + Long.toHexString(bandHash));
+        }
+    }
+
+    /**
+     * Finalization step of MurmurHash3 to spread the bits of the given value
+     */
+    private static int mix(int value) {
+        int hash = value;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -36,7 +37,7 @@ public class DatabaseMerger {
      * @param other The other databases that is merged into this database
      */
     public synchronized void merge(BibDatabase target, BibDatabase other) {
-        mergeEntries(target, other);
+        mergeEntries(target, other.getEntries());
         mergeStrings(target, other);
     }
 
@@ -48,17 +49,35 @@ public class DatabaseMerger {
      * @param other The other databases that is merged into this database
      */
     public synchronized void merge(BibDatabaseContext target, BibDatabaseContext other, String otherFileName) {
-        mergeEntries(target.getDatabase(), other.getDatabase());
+        // the index of the context is kept up to date, thus it can be reused for further merges
+        mergeEntries(target.getDatabase(), other.getEntries(), target.getDuplicateIndex(), BibDatabaseModeDetection.inferMode(target.getDatabase()));
         mergeStrings(target.getDatabase(), other.getDatabase());
         mergeMetaData(target.getMetaData(), other.getMetaData(), otherFileName, other.getEntries());
     }
 
-    private void mergeEntries(BibDatabase target, BibDatabase other) {
+    /**
+     * Merges the given entries into the target database. Entries having a duplicate in the target are ignored.
+     * <p>
+     * The mode of the target is inferred once, and each entry is only compared with the entries of the target sharing
+     * a key of the {@link DuplicateIndex}. Thus, merging large batches, e.g., the results of a crawl, takes time linear in
+     * the size of the batch and the target instead of their product. The entries are checked in parallel; their order is
+     * kept. Entries of the batch are not checked against each other.
+     */
+    public synchronized void mergeEntries(BibDatabase target, List<BibEntry> entries) {
+        DuplicateIndex duplicateIndex = new DuplicateIndex(target);
+        try {
+            mergeEntries(target, entries, duplicateIndex, BibDatabaseModeDetection.inferMode(target));
+        } finally {
+            duplicateIndex.shutdown();
+        }
+    }
+
+    private void mergeEntries(BibDatabase target, List<BibEntry> entries, DuplicateIndex duplicateIndex, BibDatabaseMode mode) {
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        List<BibEntry> newEntries = other.getEntries().stream()
-                                         // Remove all entries that are already part of the database (duplicate)
-                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target)).isEmpty())
-                                         .collect(Collectors.toList());
+        List<BibEntry> newEntries = entries.parallelStream()
+                                           // Remove all entries that are already part of the database (duplicate)
+                                           .filter(entry -> duplicateCheck.containsDuplicate(duplicateIndex, entry, mode).isEmpty())
+                                           .collect(Collectors.toList());
         target.insertEntries(newEntries);
     }
 
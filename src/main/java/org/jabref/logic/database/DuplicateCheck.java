@@ -378,6 +378,20 @@ public class DuplicateCheck {
                                                 final BibEntry entry,
                                                 final BibDatabaseMode bibDatabaseMode) {
 
-        return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+        return database.getEntriesSnapshot().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    }
+
+    /**
+     * Same as {@link #containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}, but only compares the entry with
+     * the entries of the library sharing a key in the given index.
+     *
+     * @param duplicateIndex The index of the library to search.
+     * @param entry          The entry of which we are looking for duplicates.
+     * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateIndex duplicateIndex,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return duplicateIndex.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
 }
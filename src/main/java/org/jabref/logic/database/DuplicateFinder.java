@@ -0,0 +1,167 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+/**
+ * Finds all pairs of duplicates in a list of entries.
+ * <p>
+ * Instead of comparing every pair of entries, the entries are put into buckets by the keys of
+ * {@link BlockingKeyGenerator}. Only pairs of entries sharing a bucket are checked by
+ * {@link DuplicateCheck#isDuplicate}. The checks run in parallel.
+ * <p>
+ * This is a heuristic: Pairs of entries which do not share any blocking key are not found, even if
+ * {@link DuplicateCheck#isDuplicate} would consider them as duplicates.
+ */
+public class DuplicateFinder {
+
+    private final DuplicateCheck duplicateCheck;
+    private final BlockingKeyGenerator blockingKeyGenerator = new BlockingKeyGenerator();
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    /**
+     * Returns all pairs of entries which share at least one blocking key. Each pair is contained only once.
+     * The pairs are ordered by the positions of the entries in the given list.
+     */
+    public List<EntryPair> getCandidates(List<BibEntry> entries) {
+        List<BibEntry> snapshot = List.copyOf(entries);
+        return sortByPosition(candidates(snapshot, () -> false).toList(), snapshot);
+    }
+
+    /**
+     * Returns all pairs of duplicates, ordered by the positions of the entries in the given list.
+     */
+    public List<EntryPair> findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode) {
+        List<BibEntry> snapshot = List.copyOf(entries);
+        List<EntryPair> duplicates = candidates(snapshot, () -> false)
+                .filter(pair -> duplicateCheck.isDuplicate(pair.first(), pair.second(), bibDatabaseMode))
+                .toList();
+        return sortByPosition(duplicates, snapshot);
+    }
+
+    /**
+     * Checks all candidate pairs in parallel and passes each pair of duplicates to the given consumer as soon as it is
+     * found, e.g., to show the progress. The consumer is called from multiple threads, thus in no particular order.
+     *
+     * @param isCancelled checked regularly, the search stops as soon as it returns true
+     * @return the pairs of duplicates found, ordered by the positions of the entries in the given list
+     */
+    public List<EntryPair> findDuplicates(List<BibEntry> entries,
+                                          BibDatabaseMode bibDatabaseMode,
+                                          BiConsumer<BibEntry, BibEntry> duplicateConsumer,
+                                          BooleanSupplier isCancelled) {
+        List<BibEntry> snapshot = List.copyOf(entries);
+        List<EntryPair> duplicates = candidates(snapshot, isCancelled)
+                .filter(pair -> !isCancelled.getAsBoolean())
+                .filter(pair -> duplicateCheck.isDuplicate(pair.first(), pair.second(), bibDatabaseMode))
+                .peek(pair -> duplicateConsumer.accept(pair.first(), pair.second()))
+                .toList();
+        return sortByPosition(duplicates, snapshot);
+    }
+
+    private Stream<EntryPair> candidates(List<BibEntry> entries, BooleanSupplier isCancelled) {
+        List<Set<String>> keysOfEntries = entries.parallelStream()
+                                                 .map(blockingKeyGenerator::generateKeys)
+                                                 .toList();
+
+        Map<String, List<Integer>> entriesByKey = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String key : keysOfEntries.get(i)) {
+                entriesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // Only buckets containing at least two entries produce candidates
+        List<int[]> buckets = entriesByKey.values().stream()
+                                          .filter(bucket -> bucket.size() > 1)
+                                          .map(bucket -> bucket.stream().mapToInt(Integer::intValue).toArray())
+                                          .toList();
+
+        // For each entry the (sorted) numbers of the buckets it is contained in
+        List<List<Integer>> bucketsOfEntries = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            bucketsOfEntries.add(new ArrayList<>(2));
+        }
+        for (int bucketNumber = 0; bucketNumber < buckets.size(); bucketNumber++) {
+            for (int entryIndex : buckets.get(bucketNumber)) {
+                bucketsOfEntries.get(entryIndex).add(bucketNumber);
+            }
+        }
+        int[][] sortedBucketsOfEntries = bucketsOfEntries.stream()
+                                                         .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                                                         .toArray(int[][]::new);
+
+        // Work is split by rows of the buckets, because single buckets (e.g., a common last name) can get large
+        long[] rows = IntStream.range(0, buckets.size())
+                               .boxed()
+                               .flatMapToLong(bucketNumber -> IntStream.range(0, buckets.get(bucketNumber).length - 1)
+                                                                       .mapToLong(row -> ((long) bucketNumber << 32) | row))
+                               .toArray();
+
+        return LongStream.of(rows)
+                         .parallel()
+                         .boxed()
+                         .flatMap(encodedRow -> {
+                             int bucketNumber = (int) (encodedRow >>> 32);
+                             int i = (int) (encodedRow & 0xFFFFFFFFL);
+                             int[] bucket = buckets.get(bucketNumber);
+                             List<EntryPair> pairs = new ArrayList<>();
+                             if (isCancelled.getAsBoolean()) {
+                                 return pairs.stream();
+                             }
+                             for (int j = i + 1; j < bucket.length; j++) {
+                                 // A pair sharing multiple buckets is emitted by the first shared bucket only
+                                 if (firstSharedBucket(sortedBucketsOfEntries[bucket[i]], sortedBucketsOfEntries[bucket[j]]) == bucketNumber) {
+                                     pairs.add(new EntryPair(entries.get(bucket[i]), entries.get(bucket[j])));
+                                 }
+                             }
+                             return pairs.stream();
+                         });
+    }
+
+    private static List<EntryPair> sortByPosition(List<EntryPair> pairs, List<BibEntry> entries) {
+        Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            positions.putIfAbsent(entries.get(i), i);
+        }
+        List<EntryPair> sortedPairs = new ArrayList<>(pairs);
+        sortedPairs.sort(Comparator.<EntryPair>comparingInt(pair -> positions.get(pair.first()))
+                                   .thenComparingInt(pair -> positions.get(pair.second())));
+        return sortedPairs;
+    }
+
+    private static int firstSharedBucket(int[] bucketsOfFirst, int[] bucketsOfSecond) {
+        int i = 0;
+        int j = 0;
+        while ((i < bucketsOfFirst.length) && (j < bucketsOfSecond.length)) {
+            if (bucketsOfFirst[i] == bucketsOfSecond[j]) {
+                return bucketsOfFirst[i];
+            } else if (bucketsOfFirst[i] < bucketsOfSecond[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return -1;
+    }
+
+    public record EntryPair(BibEntry first, BibEntry second) {
+    }
+}
@@ -0,0 +1,133 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the entries of a library by the keys of {@link BlockingKeyGenerator}.
+ * <p>
+ * The index is kept up to date by listening to the add, remove, and change events of the library. This way, checking
+ * an entry for duplicates in the library only needs to compare the entry with the few entries sharing a key.
+ * <p>
+ * Use {@link org.jabref.model.database.BibDatabaseContext#getDuplicateIndex()} to get the index of a library.
+ */
+public class DuplicateIndex {
+
+    private final BibDatabase database;
+    private final BlockingKeyGenerator blockingKeyGenerator = new BlockingKeyGenerator();
+
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    /**
+     * Entries are tracked by identity, because {@link BibEntry#equals(Object)} compares the (mutable) content
+     */
+    private final Map<BibEntry, IndexedEntry> indexedEntries = new IdentityHashMap<>();
+    private long nextSequenceNumber;
+
+    public DuplicateIndex(BibDatabase database) {
+        this.database = database;
+        synchronized (this) {
+            database.getEntries().forEach(this::addEntry);
+        }
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns all entries of the library sharing at least one key with the given entry. The entries are ordered by the
+     * time they were added to the index, which corresponds to the order of the library when it was opened.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        Map<BibEntry, Long> candidates = new IdentityHashMap<>();
+        for (String key : blockingKeyGenerator.generateKeys(entry)) {
+            for (BibEntry candidate : entriesByKey.getOrDefault(key, List.of())) {
+                candidates.put(candidate, indexedEntries.get(candidate).sequenceNumber());
+            }
+        }
+        List<BibEntry> result = new ArrayList<>(candidates.keySet());
+        result.sort(Comparator.comparingLong(candidates::get));
+        return result;
+    }
+
+    /**
+     * Stops listening to changes of the library
+     */
+    public void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::removeEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        if (indexedEntry == null) {
+            // change of an entry not (or no longer) part of the library
+            return;
+        }
+        Set<String> newKeys = blockingKeyGenerator.generateKeys(entry);
+        if (!newKeys.equals(indexedEntry.keys())) {
+            removeFromBuckets(entry, indexedEntry.keys());
+            addToBuckets(entry, newKeys);
+            indexedEntries.put(entry, new IndexedEntry(newKeys, indexedEntry.sequenceNumber()));
+        }
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (indexedEntries.containsKey(entry)) {
+            return;
+        }
+        Set<String> keys = blockingKeyGenerator.generateKeys(entry);
+        indexedEntries.put(entry, new IndexedEntry(keys, nextSequenceNumber++));
+        addToBuckets(entry, keys);
+    }
+
+    private void removeEntry(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.remove(entry);
+        if (indexedEntry != null) {
+            removeFromBuckets(entry, indexedEntry.keys());
+        }
+    }
+
+    private void addToBuckets(BibEntry entry, Set<String> keys) {
+        for (String key : keys) {
+            entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    private void removeFromBuckets(BibEntry entry, Set<String> keys) {
+        for (String key : keys) {
+            List<BibEntry> bucket = entriesByKey.get(key);
+            if (bucket != null) {
+                bucket.removeIf(candidate -> candidate == entry);
+                if (bucket.isEmpty()) {
+                    entriesByKey.remove(key);
+                }
+            }
+        }
+    }
+
+    private record IndexedEntry(Set<String> keys, long sequenceNumber) {
+    }
+}
@@ -0,0 +1,91 @@
+package org.jabref.logic.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers the number of entries of a library file, so that it can be shown while the library is loading the next
+ * time it is opened. The number is stored together with a checksum of the library file, and it is only used if the
+ * file has not changed since.
+ * <p>
+ * The record is stored next to the full-text index, see
+ * {@link org.jabref.model.database.BibDatabaseContext#getEntryCountPath()}.
+ */
+public class PersistentEntryCount {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentEntryCount.class);
+
+    /**
+     * Has to be increased if the format of the record changes
+     */
+    private static final String VERSION = "1";
+
+    private PersistentEntryCount() {
+    }
+
+    /**
+     * Computes the checksum of the library file, which is compared against the checksum stored in the record
+     */
+    public static String checksumOf(Path libraryFile) throws IOException {
+        CRC32C checksum = new CRC32C();
+        long size = 0;
+        try (InputStream inputStream = Files.newInputStream(libraryFile)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = inputStream.read(buffer)) >= 0) {
+                checksum.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return Long.toHexString(size) + "-" + Long.toHexString(checksum.getValue());
+    }
+
+    /**
+     * @return the number of entries stored for the library file, or an empty optional if there is no record or if the
+     * file changed since the record was written
+     */
+    public static Optional<Integer> read(Path recordFile, Path libraryFile) throws IOException {
+        if (Files.notExists(recordFile)) {
+            return Optional.empty();
+        }
+        List<String> lines = Files.readAllLines(recordFile);
+        if ((lines.size() != 3) || !VERSION.equals(lines.getFirst())) {
+            LOGGER.debug("Ignoring outdated record {}", recordFile);
+            return Optional.empty();
+        }
+        if (!lines.get(1).equals(checksumOf(libraryFile))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.valueOf(lines.get(2)));
+        } catch (NumberFormatException e) {
+            LOGGER.debug("Ignoring invalid record {}", recordFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the number of entries loaded from or saved to the library file
+     */
+    public static void write(Path recordFile, Path libraryFile, int numberOfEntries) throws IOException {
+        String checksum = checksumOf(libraryFile);
+        Files.createDirectories(recordFile.getParent());
+        // the record is replaced at once, so that it is never read half written
+        Path temporaryFile = Files.createTempFile(recordFile.getParent(), recordFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporaryFile, List.of(VERSION, checksum, String.valueOf(numberOfEntries)));
+            Files.move(temporaryFile, recordFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.jabref.logic.exporter;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Set;
@@ -15,10 +17,17 @@ import java.util.TreeSet;
  * contents of the target file.
  * Moreover, this writer checks if the chosen encoding supports all text that is written. Characters whose encoding
  * was problematic can be retrieved by {@link #getEncodingProblems()}.
+ * <p>
+ * The text is encoded and written in chunks while it is written, thus the content of the file is never held in memory
+ * as a whole.
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Set<Charset> UNICODE_CHARSETS = Set.of(StandardCharsets.UTF_8, StandardCharsets.UTF_16, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE);
+
     private final CharsetEncoder encoder;
+    private final boolean isUnicodeEncoding;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
@@ -26,14 +35,15 @@ public class AtomicFileWriter extends OutputStreamWriter {
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        super(new BufferedOutputStream(new AtomicFileOutputStream(file, keepBackup), BUFFER_SIZE), encoding);
         encoder = encoding.newEncoder();
+        isUnicodeEncoding = UNICODE_CHARSETS.contains(encoding);
     }
 
     @Override
     public void write(String str) throws IOException {
         super.write(str);
-        if (!encoder.canEncode(str)) {
+        if (mightHaveEncodingProblems(str) && !encoder.canEncode(str)) {
             for (int i = 0; i < str.length(); i++) {
                 char character = str.charAt(i);
                 if (!encoder.canEncode(character)) {
@@ -43,6 +53,22 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    /**
+     * Checking whether a string can be encoded requires encoding it a second time. Unicode encodings can encode all
+     * characters except unpaired surrogates, which is much cheaper to check.
+     */
+    private boolean mightHaveEncodingProblems(String str) {
+        if (!isUnicodeEncoding) {
+            return true;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (Character.isSurrogate(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
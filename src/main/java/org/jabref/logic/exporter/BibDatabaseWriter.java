@@ -37,6 +37,7 @@ import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
@@ -74,7 +75,12 @@ public abstract class BibDatabaseWriter {
         assert saveConfiguration.getSaveOrder().getOrderType() != SaveOrder.OrderType.TABLE;
     }
 
-    private static List<FieldChange> applySaveActions(List<BibEntry> toChange, MetaData metaData) {
+    /**
+     * @param cleanUnchangedEntries whether the standard cleanups should also be applied to entries which were not
+     *                              changed since they were read. This is only required if these entries are reformatted,
+     *                              because otherwise they are written exactly as they were read.
+     */
+    private static List<FieldChange> applySaveActions(List<BibEntry> toChange, MetaData metaData, boolean cleanUnchangedEntries) {
         List<FieldChange> changes = new ArrayList<>();
 
         Optional<FieldFormatterCleanups> saveActions = metaData.getSaveActions();
@@ -86,12 +92,13 @@ public abstract class BibDatabaseWriter {
         });
 
         // Run standard cleanups
+        List<BibEntry> toClean = cleanUnchangedEntries ? toChange : toChange.stream().filter(BibEntry::hasChanged).toList();
         List<FieldFormatterCleanup> preSaveCleanups =
                 Stream.of(new TrimWhitespaceFormatter())
                       .map(formatter -> new FieldFormatterCleanup(InternalField.INTERNAL_ALL_FIELD, formatter))
                       .toList();
         for (FieldFormatterCleanup formatter : preSaveCleanups) {
-            for (BibEntry entry : toChange) {
+            for (BibEntry entry : toClean) {
                 changes.addAll(formatter.cleanup(entry));
             }
         }
@@ -100,7 +107,7 @@ public abstract class BibDatabaseWriter {
     }
 
     public static List<FieldChange> applySaveActions(BibEntry entry, MetaData metaData) {
-        return applySaveActions(Collections.singletonList(entry), metaData);
+        return applySaveActions(Collections.singletonList(entry), metaData, true);
     }
 
     private static List<Comparator<BibEntry>> getSaveComparators(SaveOrder saveOrder) {
@@ -150,7 +157,7 @@ public abstract class BibDatabaseWriter {
      * Saves the complete database.
      */
     public void saveDatabase(BibDatabaseContext bibDatabaseContext) throws IOException {
-        List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntries()
+        List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntriesSnapshot()
                                                 .stream()
                                                 .filter(entry -> !entry.isEmpty())
                                                 .toList();
@@ -163,6 +170,16 @@ public abstract class BibDatabaseWriter {
      * @param entries A list of entries to save. The list itself is not modified in this code
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        saveEntriesInGivenOrder(bibDatabaseContext, getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder()));
+    }
+
+    /**
+     * Saves the database, including only the specified entries. The entries are written in the given order, the save
+     * order of the configuration is not applied.
+     *
+     * @param sortedEntries A list of entries to save in the order they should be written
+     */
+    public void saveEntriesInGivenOrder(BibDatabaseContext bibDatabaseContext, List<BibEntry> sortedEntries) throws IOException {
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         sharedDatabaseIDOptional.ifPresent(Unchecked.consumer(id -> writeDatabaseID(id)));
 
@@ -181,8 +198,8 @@ public abstract class BibDatabaseWriter {
         writeStrings(bibDatabaseContext.getDatabase());
 
         // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
+        // Without reformatting, only the changed entries are serialized, all others are written as they were read
+        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), saveConfiguration.shouldReformatFile());
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
@@ -191,12 +208,14 @@ public abstract class BibDatabaseWriter {
 
         // Map to collect entry type definitions that we must save along with entries using them.
         SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+        // Determining whether a type is custom requires a scan of all custom types, thus we do it once per type
+        Map<EntryType, Boolean> isCustomType = new HashMap<>();
 
         for (BibEntry entry : sortedEntries) {
             // Check if we must write the type definition for this
             // entry, as well. Our criterion is that all non-standard
             // types (*not* all customized standard types) must be written.
-            if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
+            if (isCustomType.computeIfAbsent(entry.getType(), type -> entryTypesManager.isCustomType(type, bibDatabaseContext.getMode()))) {
                 // If user-defined entry type, then add it
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
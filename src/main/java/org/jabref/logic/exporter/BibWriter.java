@@ -33,12 +33,33 @@ public class BibWriter {
             writer.write(newLineSeparator);
             precedingNewLineRequired = false;
         }
-        string = StringUtil.unifyLineBreaks(string, newLineSeparator);
+        if (hasForeignLineBreaks(string)) {
+            string = StringUtil.unifyLineBreaks(string, newLineSeparator);
+        }
         writer.write(string);
         lastWriteWasNewline = string.endsWith(newLineSeparator);
         somethingWasWritten = true;
     }
 
+    /**
+     * Checks whether the given string contains a line break different from the newline set for this class. Most strings
+     * (e.g., the serialization of unchanged entries) use the right line breaks already and can be written as they are.
+     */
+    private boolean hasForeignLineBreaks(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            char character = string.charAt(i);
+            if ((character != '\r') && (character != '\n')) {
+                continue;
+            }
+            if (string.startsWith(newLineSeparator, i)) {
+                i += newLineSeparator.length() - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Writes the given string and finishes it with a line break
      */
@@ -33,7 +33,8 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String PREAMBLE_PREFIX = "@Preamble";
     private static final String STRING_PREFIX = "@String";
 
-    private final FieldPreferences fieldPreferences;
+    private final FieldWriter fieldWriter;
+    private final BibEntryWriter bibEntryWriter;
 
     public BibtexDatabaseWriter(BibWriter bibWriter,
                                 SelfContainedSaveConfiguration saveConfiguration,
@@ -45,7 +46,8 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
                 citationKeyPatternPreferences,
                 entryTypesManager);
 
-        this.fieldPreferences = fieldPreferences;
+        this.fieldWriter = new FieldWriter(fieldPreferences);
+        this.bibEntryWriter = new BibEntryWriter(fieldWriter, entryTypesManager);
     }
 
     public BibtexDatabaseWriter(Writer writer,
@@ -59,7 +61,8 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
                 citationKeyPatternPreferences,
                 entryTypesManager);
 
-        this.fieldPreferences = fieldPreferences;
+        this.fieldWriter = new FieldWriter(fieldPreferences);
+        this.bibEntryWriter = new BibEntryWriter(fieldWriter, entryTypesManager);
     }
 
     @Override
@@ -111,8 +114,7 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
             bibWriter.write("{}");
         } else {
             try {
-                String formatted = new FieldWriter(fieldPreferences)
-                        .write(InternalField.BIBTEX_STRING, bibtexString.getContent());
+                String formatted = fieldWriter.write(InternalField.BIBTEX_STRING, bibtexString.getContent());
                 bibWriter.write(formatted);
             } catch (InvalidFieldValueException ex) {
                 throw new IOException(ex);
@@ -155,7 +157,6 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
 
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        bibEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
     }
 }
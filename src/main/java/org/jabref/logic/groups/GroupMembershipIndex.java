@@ -0,0 +1,342 @@
+package org.jabref.logic.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.MatcherSets;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * Membership of the entries of a library in its groups.
+ * <p>
+ * Each entry gets a dense ordinal, and the members of a group are stored in a {@link BitSet} over these ordinals. A
+ * group is matched against all entries only when it is requested for the first time or when its definition (including
+ * the subgroups and parent groups it depends on) has changed. Afterwards, only added and changed entries are matched
+ * again, and only once for all groups.
+ * <p>
+ * The index listens to the entry list of the library and notifies its {@link InvalidationListener listeners} after
+ * memberships may have changed. Use {@link org.jabref.model.database.BibDatabaseContext#getGroupMembershipIndex()} to
+ * get the index of a library.
+ */
+public class GroupMembershipIndex implements Observable {
+
+    /**
+     * Kept, because the list returned by {@link BibDatabase#getEntries()} only holds a weak reference to the listener
+     */
+    private final ObservableList<BibEntry> entries;
+    private final ListChangeListener<BibEntry> entriesListener = this::onEntriesChanged;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Entries are tracked by identity, because {@link BibEntry#equals(Object)} compares the (mutable) content
+     */
+    private final Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+
+    /**
+     * Maps the ordinals to the entries. Ordinals of removed entries are reused, until then they map to {@code null}.
+     */
+    private final List<BibEntry> entriesByOrdinal = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+
+    /**
+     * Group tree nodes are compared by their (mutable) content, too. The weak keys of the map are compared by identity,
+     * so groups removed from the tree are dropped automatically.
+     */
+    private final Map<GroupTreeNode, Membership> memberships = new MapMaker().weakKeys().makeMap();
+
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    public GroupMembershipIndex(BibDatabase database) {
+        this.entries = database.getEntries();
+        lock.writeLock().lock();
+        try {
+            entries.forEach(this::addEntry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        entries.addListener(entriesListener);
+    }
+
+    /**
+     * Same as {@link GroupTreeNode#matches(BibEntry)}, but the result is read from the index.
+     */
+    public boolean isMember(GroupTreeNode group, BibEntry entry) {
+        Membership membership = getMembership(group);
+        lock.readLock().lock();
+        try {
+            return membership.isMember(entry);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries matched by the group, same as the size of {@link GroupTreeNode#findMatches(BibDatabase)}
+     */
+    public int getHitCount(GroupTreeNode group) {
+        Membership membership = getMembership(group);
+        lock.readLock().lock();
+        try {
+            return membership.members.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the entries matched by the group, in no particular order
+     */
+    public List<BibEntry> getMembers(GroupTreeNode group) {
+        Membership membership = getMembership(group);
+        lock.readLock().lock();
+        try {
+            return membership.members.stream().mapToObj(entriesByOrdinal::get).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Creates a matcher for entries contained in all (for {@link MatcherSets.MatcherType#AND}) or any (for
+     * {@link MatcherSets.MatcherType#OR}) of the given groups, reading the memberships from the index. The result is
+     * the same as of a {@link org.jabref.model.search.matchers.MatcherSet} built of the matchers of the groups.
+     * <p>
+     * The memberships of the groups are brought up to date on the first use of the matcher, not when it is created.
+     */
+    public SearchMatcher createMatcher(List<GroupTreeNode> groups, MatcherSets.MatcherType matcherType) {
+        return new GroupsMatcher(List.copyOf(groups), matcherType);
+    }
+
+    /**
+     * Matches all entries against the group again. Required if the membership depends on something else than the
+     * entries and the group definition, e.g., the aux file of a {@link org.jabref.model.groups.TexGroup}.
+     */
+    public void refresh(GroupTreeNode group) {
+        lock.writeLock().lock();
+        try {
+            memberships.put(group, evaluate(group.getSearchMatcher()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops listening to changes of the library
+     */
+    public void shutdown() {
+        entries.removeListener(entriesListener);
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the membership of the group, matching all entries again if the group is new or its definition changed.
+     * Must not be called while holding the read lock.
+     */
+    private Membership getMembership(GroupTreeNode group) {
+        Membership membership = memberships.get(group);
+        SearchMatcher matcher = group.getSearchMatcher();
+        if ((membership != null) && matcher.equals(membership.matcher)) {
+            return membership;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Membership newMembership = evaluate(matcher);
+            memberships.put(group, newMembership);
+            return newMembership;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Matches all entries against the matcher. Requires the write lock, so that no entries are changed meanwhile.
+     */
+    private Membership evaluate(SearchMatcher matcher) {
+        BitSet members = new BitSet(entriesByOrdinal.size());
+        for (int ordinal = 0; ordinal < entriesByOrdinal.size(); ordinal++) {
+            BibEntry entry = entriesByOrdinal.get(ordinal);
+            if ((entry != null) && matcher.isMatch(entry)) {
+                members.set(ordinal);
+            }
+        }
+        return new Membership(matcher, members);
+    }
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends BibEntry> change) {
+        boolean membershipsChanged = false;
+        lock.writeLock().lock();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    // Nothing to do, as permutation doesn't change memberships
+                    continue;
+                }
+                if (change.wasUpdated()) {
+                    for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
+                        membershipsChanged |= updateEntry(changedEntry);
+                    }
+                    continue;
+                }
+                for (BibEntry removedEntry : change.getRemoved()) {
+                    membershipsChanged |= removeEntry(removedEntry);
+                }
+                for (BibEntry addedEntry : change.getAddedSubList()) {
+                    membershipsChanged |= addEntry(addedEntry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (membershipsChanged) {
+            for (InvalidationListener listener : listeners) {
+                if ((listener instanceof WeakListener weakListener) && weakListener.wasGarbageCollected()) {
+                    listeners.remove(listener);
+                } else {
+                    listener.invalidated(this);
+                }
+            }
+        }
+    }
+
+    private boolean addEntry(BibEntry entry) {
+        if (ordinals.containsKey(entry)) {
+            return updateEntry(entry);
+        }
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal < 0) {
+            ordinal = entriesByOrdinal.size();
+            entriesByOrdinal.add(entry);
+        } else {
+            freeOrdinals.clear(ordinal);
+            entriesByOrdinal.set(ordinal, entry);
+        }
+        ordinals.put(entry, ordinal);
+        return updateEntry(entry);
+    }
+
+    private boolean removeEntry(BibEntry entry) {
+        Integer ordinal = ordinals.remove(entry);
+        if (ordinal == null) {
+            return false;
+        }
+        entriesByOrdinal.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+        boolean membershipsChanged = false;
+        for (Membership membership : memberships.values()) {
+            membershipsChanged |= membership.members.get(ordinal);
+            membership.members.clear(ordinal);
+        }
+        return membershipsChanged;
+    }
+
+    /**
+     * Matches the entry against all groups in the index
+     *
+     * @return whether the entry was added to or removed from any group
+     */
+    private boolean updateEntry(BibEntry entry) {
+        Integer ordinal = ordinals.get(entry);
+        if (ordinal == null) {
+            return false;
+        }
+        boolean membershipsChanged = false;
+        for (Membership membership : memberships.values()) {
+            boolean isMember = membership.matcher.isMatch(entry);
+            if (isMember != membership.members.get(ordinal)) {
+                membership.members.set(ordinal, isMember);
+                membershipsChanged = true;
+            }
+        }
+        return membershipsChanged;
+    }
+
+    /**
+     * Requires the read lock
+     */
+    private final class Membership {
+        private final SearchMatcher matcher;
+        private final BitSet members;
+
+        Membership(SearchMatcher matcher, BitSet members) {
+            this.matcher = matcher;
+            this.members = members;
+        }
+
+        boolean isMember(BibEntry entry) {
+            Integer ordinal = ordinals.get(entry);
+            if (ordinal == null) {
+                // not (yet) part of the library
+                return matcher.isMatch(entry);
+            }
+            return members.get(ordinal);
+        }
+    }
+
+    private class GroupsMatcher implements SearchMatcher {
+        private final List<GroupTreeNode> groups;
+        private final MatcherSets.MatcherType matcherType;
+        private volatile boolean revalidated;
+
+        GroupsMatcher(List<GroupTreeNode> groups, MatcherSets.MatcherType matcherType) {
+            this.groups = groups;
+            this.matcherType = matcherType;
+        }
+
+        @Override
+        public boolean isMatch(BibEntry entry) {
+            revalidateOnce();
+            // the memberships are looked up for every entry, so that they are the current ones even if a group was
+            // refreshed after the first use. They are never removed while the groups are referenced by this matcher.
+            lock.readLock().lock();
+            try {
+                if (matcherType == MatcherSets.MatcherType.AND) {
+                    return groups.stream().allMatch(group -> memberships.get(group).isMember(entry));
+                }
+                return groups.stream().anyMatch(group -> memberships.get(group).isMember(entry));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void revalidateOnce() {
+            if (!revalidated) {
+                synchronized (this) {
+                    if (!revalidated) {
+                        groups.forEach(group -> getMembership(group));
+                        revalidated = true;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits the content of a BibTeX file into chunks which can be parsed independently by {@link BibtexParser}.
+ * <p>
+ * A chunk boundary is placed directly behind a top-level item (<code>@type{...}</code>) including the newline
+ * following it. This is exactly the position where {@link BibtexParser} starts to collect the comments of the next
+ * item. No boundary is placed behind <code>@comment</code> items, because the text following them is attached to the
+ * next item.
+ * <p>
+ * The splitting is a heuristic. Callers have to verify the parsed chunks and join a chunk with the following one if
+ * the parser did not stop at the boundary.
+ * <p>
+ * The chunks are returned as offsets, so that the content does not need to be copied.
+ */
+class BibtexChunkSplitter {
+
+    private BibtexChunkSplitter() {
+    }
+
+    /**
+     * @param content         the complete content of the file
+     * @param targetChunkSize the minimal number of characters of each chunk (except the last one)
+     * @return the start offsets of the chunks in file order, starting with 0. Each chunk ends at the start of the next
+     * one, the last one at the end of the content.
+     */
+    static int[] split(CharSequence content, int targetChunkSize) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+        int length = content.length();
+        int chunkStart = 0;
+        int position = 0;
+
+        while (position < length) {
+            if (content.charAt(position) != '@') {
+                position++;
+                continue;
+            }
+
+            int typeStart = skipWhitespace(content, position + 1);
+            int typeEnd = typeStart;
+            while ((typeEnd < length) && isTextTokenCharacter(content.charAt(typeEnd))) {
+                typeEnd++;
+            }
+            String type = content.subSequence(typeStart, typeEnd).toString().toLowerCase(Locale.ROOT);
+
+            int opening = skipWhitespace(content, typeEnd);
+            if ((opening >= length) || ((content.charAt(opening) != '{') && (content.charAt(opening) != '('))) {
+                // not an item, the parser will report that
+                position = Math.max(typeEnd, position + 1);
+                continue;
+            }
+
+            int itemEnd = findEndOfItem(content, opening);
+            if (itemEnd < 0) {
+                // unbalanced item: keep the remaining content in the last chunk
+                break;
+            }
+            position = skipOneNewline(content, itemEnd);
+
+            if (!"comment".equals(type) && ((position - chunkStart) >= targetChunkSize) && (position < length)) {
+                chunkStarts.add(position);
+                chunkStart = position;
+            }
+        }
+
+        return chunkStarts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return the position after the closing delimiter or -1 if the item is not closed
+     */
+    private static int findEndOfItem(CharSequence content, int opening) {
+        boolean roundBrackets = content.charAt(opening) == '(';
+        int braces = roundBrackets ? 0 : 1;
+        boolean inQuotes = false;
+        char lastCharacter = '\0';
+
+        for (int i = opening + 1; i < content.length(); i++) {
+            char character = content.charAt(i);
+            if (lastCharacter == '\\') {
+                // escaped braces are not counted
+                lastCharacter = '\0';
+                continue;
+            }
+            if (character == '{') {
+                braces++;
+            } else if (character == '}') {
+                braces--;
+                if (!roundBrackets && (braces == 0)) {
+                    return i + 1;
+                }
+            } else if (roundBrackets && (braces == 0)) {
+                if (character == '"') {
+                    inQuotes = !inQuotes;
+                } else if ((character == ')') && !inQuotes) {
+                    return i + 1;
+                }
+            }
+            lastCharacter = character;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(CharSequence content, int position) {
+        while ((position < content.length()) && Character.isWhitespace(content.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Mirrors the handling of the newline after an item in the parser
+     */
+    private static int skipOneNewline(CharSequence content, int position) {
+        while ((position < content.length()) && (content.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\n')) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isTextTokenCharacter(char character) {
+        return Character.isLetterOrDigit(character) || (":-_*+./'".indexOf(character) >= 0);
+    }
+}
@@ -121,10 +121,12 @@ public class BibtexImporter extends Importer {
     /**
      * This method does not set the metadata encoding information. The caller needs to set the encoding of the supplied
      * reader manually to the metadata
+     * <p>
+     * Large libraries are parsed using multiple threads, see {@link BibtexParser#parseInParallel(java.io.Reader)}.
      */
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new BibtexParser(importFormatPreferences, fileMonitor).parseInParallel(reader);
     }
 
     @Override
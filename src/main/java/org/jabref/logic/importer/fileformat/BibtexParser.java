@@ -1,22 +1,26 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
 import org.jabref.logic.bibtex.FieldWriter;
@@ -70,8 +74,13 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 1024;
+
+    /**
+     * Chunks smaller than this are not worth the overhead of parallel parsing
+     */
+    private static final int MINIMAL_CHUNK_SIZE = 64 * 1024;
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
@@ -146,6 +155,150 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    /**
+     * Parses BibTeX data found when reading from reader using multiple threads.
+     * <p>
+     * The complete content is read into memory and split at the boundaries of top-level items. The chunks are parsed
+     * in parallel and merged into one {@link ParserResult} keeping the order of the file. If the content is small, this
+     * falls back to {@link #parse(Reader)} before any parallel work is done. The line numbers of warnings refer to the
+     * complete content.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        CharBuffer contentView = readContent(in);
+        char[] content = contentView.array();
+        int length = contentView.length();
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int targetChunkSize = Math.max(MINIMAL_CHUNK_SIZE, length / (parallelism * 4));
+        // the chunks are given by their offsets, the content is not copied
+        int[] chunkStarts = BibtexChunkSplitter.split(contentView, targetChunkSize);
+        if ((chunkStarts.length < 2) || (parallelism < 2)) {
+            return parse(new CharArrayReader(content, 0, length));
+        }
+
+        String newLineSeparator = determineNewLineSeparator(contentView);
+        int[] chunkEnds = new int[chunkStarts.length];
+        int[] firstLines = new int[chunkStarts.length];
+        int currentLine = 1;
+        int position = 0;
+        for (int i = 0; i < chunkStarts.length; i++) {
+            chunkEnds[i] = (i + 1) < chunkStarts.length ? chunkStarts[i + 1] : length;
+            for (; position < chunkStarts[i]; position++) {
+                if (content[position] == '\n') {
+                    currentLine++;
+                }
+            }
+            firstLines[i] = currentLine;
+        }
+
+        List<ParsedChunk> parsedChunks = IntStream.range(0, chunkStarts.length)
+                                                  .parallel()
+                                                  .mapToObj(i -> new BibtexParser(importFormatPreferences)
+                                                          .parseChunk(content, chunkStarts[i], chunkEnds[i], firstLines[i], newLineSeparator))
+                                                  .toList();
+
+        // If the parser left text behind the last item of a chunk, e.g., after skipping a malformed entry, the text
+        // belongs to the next item. Only then the chunk is parsed again together with the following ones.
+        List<ParsedChunk> mergeableChunks = new ArrayList<>(parsedChunks.size());
+        int chunk = 0;
+        while (chunk < parsedChunks.size()) {
+            ParsedChunk parsedChunk = parsedChunks.get(chunk);
+            int nextChunk = chunk + 1;
+            while ((nextChunk < parsedChunks.size()) && !parsedChunk.parserResult().getDatabase().getEpilog().isEmpty()) {
+                LOGGER.debug("Could not parse chunk {} on its own, joining it with chunk {}", chunk, nextChunk);
+                nextChunk++;
+                parsedChunk = new BibtexParser(importFormatPreferences)
+                        .parseChunk(content, chunkStarts[chunk], chunkEnds[nextChunk - 1], firstLines[chunk], newLineSeparator);
+            }
+            mergeableChunks.add(parsedChunk);
+            chunk = nextChunk;
+        }
+
+        return mergeChunks(mergeableChunks, newLineSeparator);
+    }
+
+    /**
+     * Reads the complete content into an array
+     *
+     * @return a view on the part of the array holding the content
+     */
+    private static CharBuffer readContent(Reader in) throws IOException {
+        char[] content = new char[MINIMAL_CHUNK_SIZE];
+        int length = 0;
+        int read;
+        while ((read = in.read(content, length, content.length - length)) >= 0) {
+            length += read;
+            if (length == content.length) {
+                content = Arrays.copyOf(content, content.length * 2);
+            }
+        }
+        return CharBuffer.wrap(content, 0, length);
+    }
+
+    private ParsedChunk parseChunk(char[] content, int start, int end, int firstLine, String newLineSeparator) {
+        try {
+            pushbackReader = new PushbackReader(new CharArrayReader(content, start, end - start), BibtexParser.LOOKAHEAD);
+            line = firstLine;
+            initializeParserResult(newLineSeparator);
+            parseDatabaseID();
+            skipWhitespace();
+            Map<String, String> meta = parseItems();
+            parseRemainingContent();
+            return new ParsedChunk(parserResult, meta);
+        } catch (IOException e) {
+            return new ParsedChunk(ParserResult.fromError(e), Map.of());
+        }
+    }
+
+    private ParserResult mergeChunks(List<ParsedChunk> parsedChunks, String newLineSeparator) {
+        initializeParserResult(newLineSeparator);
+        Map<String, String> meta = new HashMap<>();
+        List<BibEntry> entries = new ArrayList<>();
+
+        // the header of the file is part of the first chunk only
+        parsedChunks.getFirst().parserResult().getDatabase().getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            parsedChunk.parserResult().warnings().forEach(parserResult::addWarning);
+            BibDatabase chunkDatabase = parsedChunk.parserResult().getDatabase();
+            chunkDatabase.getPreamble().ifPresent(database::setPreamble);
+            for (BibtexString bibtexString : chunkDatabase.getStringValues()) {
+                try {
+                    database.addString(bibtexString);
+                } catch (KeyCollisionException ex) {
+                    parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + bibtexString.getName());
+                }
+            }
+            for (BibEntry entry : chunkDatabase.getEntries()) {
+                // the entries are moved to the merged database
+                entry.unregisterListener(chunkDatabase);
+                entries.add(entry);
+            }
+            entryTypes.addAll(parsedChunk.parserResult().getEntryTypes());
+            meta.putAll(parsedChunk.meta());
+            database.setEpilog(chunkDatabase.getEpilog());
+        }
+        database.insertEntries(entries);
+
+        parseMetaData(meta);
+        // checked for the complete content, as it depends on the warnings of all chunks
+        checkEpilog();
+        return parserResult;
+    }
+
+    private static String determineNewLineSeparator(CharSequence content) {
+        int end = Math.min(content.length(), BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < end; i++) {
+            if (content.charAt(i) == '\r') {
+                return "\r\n";
+            } else if (content.charAt(i) == '\n') {
+                return "\n";
+            }
+        }
+        return OS.NEWLINE;
+    }
+
     private String determineNewLineSeparator() throws IOException {
         String newLineSeparator = OS.NEWLINE;
         StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
@@ -196,6 +349,23 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
+        Map<String, String> meta = parseItems();
+
+        parseMetaData(meta);
+
+        parseRemainingContent();
+
+        checkEpilog();
+
+        return parserResult;
+    }
+
+    /**
+     * Parses all top-level items (entries, strings, preamble, and comments)
+     *
+     * @return the raw content of the JabRef metadata comments
+     */
+    private Map<String, String> parseItems() throws IOException {
         Map<String, String> meta = new HashMap<>();
 
         while (!eof) {
@@ -227,6 +397,10 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
+        return meta;
+    }
+
+    private void parseMetaData(Map<String, String> meta) {
         try {
             parserResult.setMetaData(metaDataParser.parse(
                     meta,
@@ -234,12 +408,6 @@ public class BibtexParser implements Parser {
         } catch (ParseException exception) {
             parserResult.addException(exception);
         }
-
-        parseRemainingContent();
-
-        checkEpilog();
-
-        return parserResult;
     }
 
     private void checkEpilog() {
@@ -394,12 +562,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String entry = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return entry;
     }
 
     /**
@@ -514,7 +679,7 @@ public class BibtexParser implements Parser {
         int character = pushbackReader.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -527,8 +692,9 @@ public class BibtexParser implements Parser {
             line--;
         }
         pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        int lastIndex = pureTextFromFile.length() - 1;
+        if ((lastIndex >= 0) && (pureTextFromFile.charAt(lastIndex) == character)) {
+            pureTextFromFile.setLength(lastIndex);
         }
     }
 
@@ -1015,4 +1181,10 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    /**
+     * @param meta the raw content of the JabRef metadata comments of the chunk
+     */
+    private record ParsedChunk(ParserResult parserResult, Map<String, String> meta) {
+    }
 }
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -12,10 +13,17 @@ import org.jabref.model.entry.field.StandardField;
 
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final ToLongFunction<String> numberOfOccurrences;
 
     public CitationKeyDuplicationChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(Objects.requireNonNull(database)::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * @param numberOfOccurrences gives the number of entries in the library having the citation key
+     */
+    CitationKeyDuplicationChecker(ToLongFunction<String> numberOfOccurrences) {
+        this.numberOfOccurrences = numberOfOccurrences;
     }
 
     @Override
@@ -25,7 +33,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return Collections.emptyList();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = numberOfOccurrences.applyAsLong(citeKey.get()) > 1;
         if (isDuplicate) {
             return Collections.singletonList(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
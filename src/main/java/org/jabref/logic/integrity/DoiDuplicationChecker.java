@@ -4,8 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
-
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -19,7 +17,7 @@ public class DoiDuplicationChecker implements DatabaseChecker {
 
     @Override
     public List<IntegrityMessage> check(BibDatabase database) {
-        ObservableList<BibEntry> bibEntries = database.getEntries();
+        List<BibEntry> bibEntries = database.getEntriesSnapshot();
         BiMap<DOI, List<BibEntry>> duplicateMap = HashBiMap.create(bibEntries.size());
         for (BibEntry bibEntry : bibEntries) {
             bibEntry.getDOI().ifPresent(doi ->
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -15,10 +16,18 @@ import org.jabref.model.entry.field.FieldProperty;
 
 public class EntryLinkChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Predicate<String> citationKeyExists;
 
     public EntryLinkChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(key -> database.getEntryByCitationKey(key).isPresent());
+        Objects.requireNonNull(database);
+    }
+
+    /**
+     * @param citationKeyExists tells whether an entry with the citation key exists in the library
+     */
+    EntryLinkChecker(Predicate<String> citationKeyExists) {
+        this.citationKeyExists = citationKeyExists;
     }
 
     @Override
@@ -27,14 +36,14 @@ public class EntryLinkChecker implements EntryChecker {
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
             if (properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                if (database.getEntryByCitationKey(field.getValue()).isEmpty()) {
+                if (!citationKeyExists.test(field.getValue())) {
                     result.add(new IntegrityMessage(Localization.lang("Referenced citation key does not exist"), entry,
                             field.getKey()));
                 }
             } else if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
                 List<String> keys = new ArrayList<>(Arrays.asList(field.getValue().split(",")));
                 for (String key : keys) {
-                    if (database.getEntryByCitationKey(key).isEmpty()) {
+                    if (!citationKeyExists.test(key)) {
                         result.add(new IntegrityMessage(
                                 Localization.lang("Referenced citation key does not exist") + ": " + key, entry,
                                 field.getKey()));
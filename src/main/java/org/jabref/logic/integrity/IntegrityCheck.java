@@ -2,23 +2,68 @@ package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.FilePreferences;
 
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Checks the entries of a library for common problems.
+ * <p>
+ * {@link #check()} runs the checkers over partitions of the entries in parallel. Checkers comparing an entry with the
+ * other entries of the library use the number of entries per citation key, which is taken once per run. The results of
+ * checkers depending only on the entry itself are cached per entry and discarded when the entry changes. Hence,
+ * checking the library again only runs these checkers for the changed entries.
+ */
 public class IntegrityCheck {
 
+    private static final int PARTITION_SIZE = 256;
+
     private final BibDatabaseContext bibDatabaseContext;
+    private final BibDatabaseMode mode;
+    private final boolean allowIntegerEdition;
     private final FieldCheckers fieldCheckers;
     private final List<EntryChecker> entryCheckers;
 
+    /**
+     * The checkers whose result depends only on the content of the entry
+     */
+    private final List<EntryChecker> cachedCheckers = new ArrayList<>();
+
+    /**
+     * The checkers whose result depends on other entries or on files
+     */
+    private final List<EntryChecker> uncachedCheckers = new ArrayList<>();
+
+    /**
+     * Entries are compared by identity, and removed entries are dropped automatically
+     */
+    private final Map<BibEntry, List<IntegrityMessage>> cachedMessages = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Incremented on every change of an entry, so that results computed while an entry was changed are not cached
+     */
+    private final AtomicLong changeCount = new AtomicLong();
+
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
                           CitationKeyPatternPreferences citationKeyPatternPreferences,
@@ -26,6 +71,8 @@ public class IntegrityCheck {
                           PredatoryJournalRepository predatoryJournalRepository,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.mode = bibDatabaseContext.getMode();
+        this.allowIntegerEdition = allowIntegerEdition;
 
         fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
@@ -55,36 +102,150 @@ public class IntegrityCheck {
                     new BibTeXEntryTypeChecker())
             );
         }
+
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            // linked files may be moved or deleted without the entry being changed
+            if (StandardField.FILE.equals(fieldChecker.field)) {
+                uncachedCheckers.add(fieldChecker);
+            } else {
+                cachedCheckers.add(fieldChecker);
+            }
+        }
+        for (EntryChecker entryChecker : entryCheckers) {
+            // these compare the entry with the other entries, the generated key gets a suffix if it is used already
+            if ((entryChecker instanceof EntryLinkChecker)
+                    || (entryChecker instanceof CitationKeyDuplicationChecker)
+                    || (entryChecker instanceof CitationKeyDeviationChecker)) {
+                uncachedCheckers.add(entryChecker);
+            } else {
+                cachedCheckers.add(entryChecker);
+            }
+        }
+
+        bibDatabaseContext.getDatabase().registerListener(this);
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+    public List<IntegrityMessage> check() {
+        return check(() -> false, checkedEntries -> {
+        });
+    }
 
+    /**
+     * Checks all entries of the library, in parallel.
+     *
+     * @param isCancelled     polled before each partition of entries, the remaining partitions are skipped if it returns true
+     * @param progressUpdater called with the number of checked entries after each partition, from any thread
+     * @return the messages in the order of the entries, followed by the messages of the library-wide checks
+     */
+    public List<IntegrityMessage> check(BooleanSupplier isCancelled, IntConsumer progressUpdater) {
         BibDatabase database = bibDatabaseContext.getDatabase();
+        List<BibEntry> entries = database.getEntriesSnapshot();
+        List<EntryChecker> crossEntryCheckers = createCrossEntryCheckers(entries);
+
+        List<List<IntegrityMessage>> messagesPerEntry = new ArrayList<>(entries.size());
+        entries.forEach(entry -> messagesPerEntry.add(List.of()));
+        AtomicInteger checkedEntries = new AtomicInteger();
+        int numberOfPartitions = (entries.size() + PARTITION_SIZE - 1) / PARTITION_SIZE;
+        // each partition writes a distinct range of the list
+        IntStream.range(0, numberOfPartitions).parallel().forEach(partition -> {
+            if (isCancelled.getAsBoolean()) {
+                return;
+            }
+            int end = Math.min(entries.size(), (partition + 1) * PARTITION_SIZE);
+            for (int i = partition * PARTITION_SIZE; i < end; i++) {
+                BibEntry entry = entries.get(i);
+                List<IntegrityMessage> messages = new ArrayList<>(getCachedCheckerMessages(entry));
+                runCheckers(crossEntryCheckers, entry, messages);
+                messagesPerEntry.set(i, messages);
+            }
+            progressUpdater.accept(checkedEntries.addAndGet(end - partition * PARTITION_SIZE));
+        });
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = new ArrayList<>();
+        messagesPerEntry.forEach(result::addAll);
         result.addAll(checkDatabase(database));
-
         return result;
     }
 
+    /**
+     * Creates the checkers which depend on other entries or on files. Instead of querying the library for each entry,
+     * the checkers comparing citation keys read the number of entries per citation key, which is counted once.
+     */
+    private List<EntryChecker> createCrossEntryCheckers(Collection<BibEntry> entries) {
+        Map<String, Long> numberOfEntriesPerKey = new HashMap<>();
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(key -> numberOfEntriesPerKey.merge(key, 1L, Long::sum));
+        }
+
+        List<EntryChecker> checkers = new ArrayList<>(uncachedCheckers.size());
+        for (EntryChecker checker : uncachedCheckers) {
+            if (checker instanceof CitationKeyDuplicationChecker) {
+                checkers.add(new CitationKeyDuplicationChecker(key -> numberOfEntriesPerKey.getOrDefault(key, 0L)));
+            } else if (checker instanceof EntryLinkChecker) {
+                checkers.add(new EntryLinkChecker(numberOfEntriesPerKey::containsKey));
+            } else {
+                checkers.add(checker);
+            }
+        }
+        return checkers;
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        result.addAll(getCachedCheckerMessages(entry));
+        runCheckers(uncachedCheckers, entry, result);
+        return result;
+    }
+
+    private List<IntegrityMessage> getCachedCheckerMessages(BibEntry entry) {
+        List<IntegrityMessage> cached = cachedMessages.get(entry);
+        if (cached != null) {
+            return cached;
         }
 
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+        long changeCountBefore = changeCount.get();
+        List<IntegrityMessage> messages = new ArrayList<>();
+        runCheckers(cachedCheckers, entry, messages);
+        if (changeCount.get() == changeCountBefore) {
+            cachedMessages.put(entry, List.copyOf(messages));
+            if (changeCount.get() != changeCountBefore) {
+                // the entry may have been changed between the check and storing the result
+                cachedMessages.remove(entry);
+            }
         }
+        return messages;
+    }
 
-        return result;
+    private static void runCheckers(List<EntryChecker> checkers, BibEntry entry, List<IntegrityMessage> result) {
+        for (EntryChecker checker : checkers) {
+            result.addAll(checker.check(entry));
+        }
+    }
+
+    /**
+     * Tells whether the checkers of this check match the given settings, as they are chosen when the check is created
+     */
+    public boolean isCreatedFor(BibDatabaseMode mode, boolean allowIntegerEdition) {
+        return (this.mode == mode) && (this.allowIntegerEdition == allowIntegerEdition);
+    }
+
+    /**
+     * Stops listening to changes of the entries. This check must not be used afterwards.
+     */
+    public void shutdown() {
+        bibDatabaseContext.getDatabase().unregisterListener(this);
+        cachedMessages.clear();
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        // the counter is incremented first, so that a result computed concurrently is not stored afterwards
+        changeCount.incrementAndGet();
+        cachedMessages.remove(event.getBibEntry());
     }
 
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
@@ -0,0 +1,261 @@
+package org.jabref.logic.journals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.util.IntsRefBuilder;
+import org.apache.lucene.util.fst.FST;
+import org.apache.lucene.util.fst.FSTCompiler;
+import org.apache.lucene.util.fst.PositiveIntOutputs;
+import org.apache.lucene.util.fst.Util;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/**
+ * Compact read-only index of the built-in journal list.
+ * <p>
+ * The full names and the abbreviated forms (abbreviation, dotless abbreviation, shortest unique abbreviation) are
+ * stored in two finite state transducers mapping the name to the position of the journal in the
+ * "FullToAbbreviation" map of the MV file. As journal names share long prefixes and suffixes ("Journal of ...",
+ * "... Letters"), the transducers are much smaller than hash maps holding all names. Lookups walk the transducer
+ * character by character and do not create any strings.
+ * <p>
+ * The index is computed when generating the MV file ({@link #write(MVStore)}) and thus only has to be read at startup.
+ * For MV files without index, it is computed on first use.
+ */
+public final class JournalAbbreviationIndex {
+
+    // Changed whenever the keys of the index change, so that the index of an outdated MV file is not used
+    static final String INDEX_MAP_NAME = "FullToAbbreviationIndex2";
+    private static final String FULL_NAMES_KEY = "fullNames";
+    private static final String ABBREVIATIONS_KEY = "abbreviations";
+
+    private static final PositiveIntOutputs OUTPUTS = PositiveIntOutputs.getSingleton();
+
+    private final FST<Long> fullNames;
+    private final FST<Long> abbreviations;
+    private final ThreadLocal<Lookup> fullNameLookup;
+    private final ThreadLocal<Lookup> abbreviationLookup;
+
+    private JournalAbbreviationIndex(FST<Long> fullNames, FST<Long> abbreviations) {
+        this.fullNames = fullNames;
+        this.abbreviations = abbreviations;
+        this.fullNameLookup = ThreadLocal.withInitial(() -> new Lookup(fullNames));
+        this.abbreviationLookup = ThreadLocal.withInitial(() -> new Lookup(abbreviations));
+    }
+
+    /**
+     * Computes the index of the "FullToAbbreviation" map of the given store and writes it to the store.
+     * Used when generating the MV file of the built-in journal list.
+     */
+    public static void write(MVStore store) throws IOException {
+        JournalAbbreviationIndex index = build(store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME));
+        MVMap<String, byte[]> indexMap = store.openMap(INDEX_MAP_NAME);
+        indexMap.put(FULL_NAMES_KEY, toBytes(index.fullNames));
+        indexMap.put(ABBREVIATIONS_KEY, toBytes(index.abbreviations));
+    }
+
+    /**
+     * Reads the index stored in the given store. If the store does not contain an index, it is computed.
+     */
+    static JournalAbbreviationIndex load(MVStore store, MVMap<String, Abbreviation> fullToAbbreviation) {
+        try {
+            if (store.hasMap(INDEX_MAP_NAME)) {
+                MVMap<String, byte[]> indexMap = store.openMap(INDEX_MAP_NAME);
+                byte[] fullNames = indexMap.get(FULL_NAMES_KEY);
+                byte[] abbreviations = indexMap.get(ABBREVIATIONS_KEY);
+                if ((fullNames != null) && (abbreviations != null)) {
+                    return new JournalAbbreviationIndex(fromBytes(fullNames), fromBytes(abbreviations));
+                }
+            }
+            return build(fullToAbbreviation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load journal abbreviation index", e);
+        }
+    }
+
+    /**
+     * @param fullToAbbreviation the map of full names to abbreviations. The names and dotless abbreviations of the
+     *                           values are not used, as they are not stored in the MV file.
+     */
+    static JournalAbbreviationIndex build(MVMap<String, Abbreviation> fullToAbbreviation) throws IOException {
+        List<Key> fullNameKeys = new ArrayList<>(fullToAbbreviation.size());
+        List<Key> abbreviationKeys = new ArrayList<>(3 * fullToAbbreviation.size());
+        long ordinal = 0;
+        for (Map.Entry<String, Abbreviation> entry : fullToAbbreviation.entrySet()) {
+            Abbreviation abbreviation = new Abbreviation(entry.getKey(), entry.getValue().getAbbreviation(), entry.getValue().getShortestUniqueAbbreviation());
+            fullNameKeys.add(new Key(normalize(abbreviation.getName()), 0, ordinal));
+            // The priorities keep the order of the lookups of the former hash maps
+            abbreviationKeys.add(new Key(normalize(abbreviation.getAbbreviation()), 0, ordinal));
+            abbreviationKeys.add(new Key(normalize(abbreviation.getDotlessAbbreviation()), 1, ordinal));
+            abbreviationKeys.add(new Key(normalize(abbreviation.getShortestUniqueAbbreviation()), 2, ordinal));
+            ordinal++;
+        }
+        return new JournalAbbreviationIndex(compile(fullNameKeys), compile(abbreviationKeys));
+    }
+
+    /**
+     * @return the position of the journal with the given full name, -1 if there is none
+     */
+    long findFullName(String name) {
+        return fullNameLookup.get().find(name);
+    }
+
+    /**
+     * @return the position of the journal with the given abbreviated name, -1 if there is none
+     */
+    long findAbbreviation(String name) {
+        return abbreviationLookup.get().find(name);
+    }
+
+    /**
+     * Normalizes the name the same way as lookups do: surrounding whitespace is removed and escaped ampersands are
+     * unescaped.
+     */
+    static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        int end = trimmedEnd(name);
+        int i = trimmedStart(name, end);
+        while (i < end) {
+            int codePoint = name.codePointAt(i);
+            if (isEscapedAmpersand(name, i, end)) {
+                codePoint = '&';
+                i += 2;
+            } else {
+                i += Character.charCount(codePoint);
+            }
+            normalized.appendCodePoint(codePoint);
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isEscapedAmpersand(String name, int index, int end) {
+        return (name.charAt(index) == '\\') && (index + 1 < end) && (name.charAt(index + 1) == '&');
+    }
+
+    private static int trimmedEnd(String name) {
+        int end = name.length();
+        while ((end > 0) && (name.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int trimmedStart(String name, int end) {
+        int start = 0;
+        while ((start < end) && (name.charAt(start) <= ' ')) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return the compiled keys, <code>null</code> if there are no keys
+     */
+    private static FST<Long> compile(List<Key> keys) throws IOException {
+        if (keys.isEmpty()) {
+            return null;
+        }
+        // The transducer requires the keys in code point order and each key once. Of equal keys, the one sorted first
+        // is kept: the one with the highest priority, and of these the last journal in the list (as the former hash
+        // maps kept the last journal put into them).
+        keys.sort(Comparator.comparing(Key::name, JournalAbbreviationIndex::compareCodePoints)
+                            .thenComparingInt(Key::priority)
+                            .thenComparing(Comparator.comparingLong(Key::ordinal).reversed()));
+        FSTCompiler<Long> compiler = new FSTCompiler.Builder<>(FST.INPUT_TYPE.BYTE4, OUTPUTS).build();
+        IntsRefBuilder scratch = new IntsRefBuilder();
+        String previous = null;
+        for (Key key : keys) {
+            if (key.name().equals(previous)) {
+                continue;
+            }
+            compiler.add(Util.toUTF32(key.name(), scratch), key.ordinal());
+            previous = key.name();
+        }
+        return FST.fromFSTReader(compiler.compile(), compiler.getFSTReader());
+    }
+
+    private static int compareCodePoints(String first, String second) {
+        int i = 0;
+        int j = 0;
+        while ((i < first.length()) && (j < second.length())) {
+            int firstCodePoint = first.codePointAt(i);
+            int secondCodePoint = second.codePointAt(j);
+            if (firstCodePoint != secondCodePoint) {
+                return Integer.compare(firstCodePoint, secondCodePoint);
+            }
+            i += Character.charCount(firstCodePoint);
+            j += Character.charCount(secondCodePoint);
+        }
+        return Integer.compare(first.length() - i, second.length() - j);
+    }
+
+    private static byte[] toBytes(FST<Long> fst) throws IOException {
+        if (fst == null) {
+            return new byte[0];
+        }
+        ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        fst.save(output, output);
+        return output.toArrayCopy();
+    }
+
+    private static FST<Long> fromBytes(byte[] bytes) throws IOException {
+        if (bytes.length == 0) {
+            return null;
+        }
+        ByteArrayDataInput input = new ByteArrayDataInput(bytes);
+        return new FST<>(FST.readMetadata(input, OUTPUTS), input);
+    }
+
+    private record Key(String name, int priority, long ordinal) {
+    }
+
+    /**
+     * The state of a lookup, which is reused by all lookups of a thread
+     */
+    private static class Lookup {
+        private final FST<Long> fst;
+        private final FST.Arc<Long> arc = new FST.Arc<>();
+        private final FST.BytesReader reader;
+
+        Lookup(FST<Long> fst) {
+            this.fst = fst;
+            this.reader = fst == null ? null : fst.getBytesReader();
+        }
+
+        long find(String name) {
+            if (fst == null) {
+                return -1;
+            }
+            try {
+                fst.getFirstArc(arc);
+                long output = arc.output();
+                int end = trimmedEnd(name);
+                int i = trimmedStart(name, end);
+                while (i < end) {
+                    int codePoint = name.codePointAt(i);
+                    if (isEscapedAmpersand(name, i, end)) {
+                        codePoint = '&';
+                        i += 2;
+                    } else {
+                        i += Character.charCount(codePoint);
+                    }
+                    if (fst.findTargetArc(codePoint, arc, arc, reader) == null) {
+                        return -1;
+                    }
+                    output += arc.output();
+                }
+                return arc.isFinal() ? output + arc.nextFinalOutput() : -1;
+            } catch (IOException e) {
+                // the transducer is held in memory
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
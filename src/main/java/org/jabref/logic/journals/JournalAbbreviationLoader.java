@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +25,8 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    private static JournalList builtInJournalList;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -35,18 +38,13 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
-                LOGGER.warn("There is no journal-list.mv. We use a default journal list");
-                repository = new JournalAbbreviationRepository();
-            } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
-            }
+        try {
+            repository = getBuiltInJournalList()
+                    .map(journalList -> new JournalAbbreviationRepository(journalList, false))
+                    .orElseGet(() -> {
+                        LOGGER.warn("There is no journal-list.mv. We use a default journal list");
+                        return new JournalAbbreviationRepository();
+                    });
         } catch (IOException e) {
             LOGGER.error("Error while copying journal list", e);
             return null;
@@ -69,6 +67,36 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    /**
+     * The repository is loaded again whenever the preferences change, but the built-in list does not change. Thus, it
+     * is copied and opened once, and all repositories share it. It is closed and deleted when JabRef exits.
+     */
+    private static synchronized Optional<JournalList> getBuiltInJournalList() throws IOException {
+        if (builtInJournalList != null) {
+            return Optional.of(builtInJournalList);
+        }
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resourceAsStream == null) {
+                return Optional.empty();
+            }
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            builtInJournalList = JournalList.open(tempJournalList);
+            // the file cannot be deleted while it is open on Windows
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                builtInJournalList.close();
+                try {
+                    Files.deleteIfExists(tempJournalList);
+                    Files.deleteIfExists(tempDir);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not delete {}", tempJournalList, e);
+                }
+            }, "JournalListCleanup"));
+            return Optional.of(builtInJournalList);
+        }
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), true));
     }
@@ -3,82 +3,64 @@ package org.jabref.logic.journals;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.h2.mvstore.MVMap;
-import org.h2.mvstore.MVStore;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations stay in the MV file and are looked up using a {@link JournalAbbreviationIndex}, which is
+ * loaded on first use. Custom abbreviations are looked up ignoring the case.
  */
-public class JournalAbbreviationRepository {
-    static final Pattern QUESTION_MARK = Pattern.compile("\\?");
+public class JournalAbbreviationRepository implements AutoCloseable {
+    static final String FULL_TO_ABBREVIATION_MAP_NAME = "FullToAbbreviation";
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private final JournalList journalList;
+    private final boolean ownsJournalList;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    private volatile CustomAbbreviationIndex customAbbreviationIndex;
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Opens the given MV file. The abbreviations are read when they are looked up. The file is closed by
+     * {@link #close()}.
      */
     public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
-        }
+        this(JournalList.open(journalList), true);
     }
 
     /**
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
-        Abbreviation newAbbreviation = new Abbreviation(
-                "Demonstration",
-                "Demo",
-                "Dem"
-        );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
-    }
-
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
-    }
-
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        if (isExpanded) {
-            return false;
+        this(JournalList.of(Map.of("Demonstration", new Abbreviation("Demonstration", "Demo", "Dem"))), true);
+    }
+
+    /**
+     * @param ownsJournalList whether the journal list is closed together with the repository. A journal list shared
+     *                        by several repositories is not.
+     */
+    JournalAbbreviationRepository(JournalList journalList, boolean ownsJournalList) {
+        this.journalList = journalList;
+        this.ownsJournalList = ownsJournalList;
+    }
+
+    private CustomAbbreviationIndex getCustomAbbreviationIndex() {
+        CustomAbbreviationIndex result = customAbbreviationIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = customAbbreviationIndex;
+                if (result == null) {
+                    result = new CustomAbbreviationIndex(customAbbreviations);
+                    customAbbreviationIndex = result;
+                }
+            }
         }
-        return name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+        return result;
     }
 
     /**
@@ -86,15 +68,12 @@ public class JournalAbbreviationRepository {
      * (e.g., Physical Review Letters) or its abbreviated form (e.g., Phys. Rev. Lett.).
      */
     public boolean isKnownName(String journalName) {
-        if (QUESTION_MARK.matcher(journalName).find()) {
+        if (journalName.indexOf('?') >= 0) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
-                || fullToAbbreviationObject.containsKey(journal)
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return getCustomAbbreviationIndex().get(journalName).isPresent()
+                || (journalList.getIndex().findFullName(journalName) >= 0)
+                || (journalList.getIndex().findAbbreviation(journalName) >= 0);
     }
 
     /**
@@ -102,14 +81,11 @@ public class JournalAbbreviationRepository {
      * i.e., journals whose abbreviation is the same as the full name are not considered
      */
     public boolean isAbbreviatedName(String journalName) {
-        if (QUESTION_MARK.matcher(journalName).find()) {
+        if (journalName.indexOf('?') >= 0) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return getCustomAbbreviationIndex().isAbbreviatedName(journalName)
+                || (journalList.getIndex().findAbbreviation(journalName) >= 0);
     }
 
     /**
@@ -118,29 +94,26 @@ public class JournalAbbreviationRepository {
      * @param input The journal name (either full name or abbreviated name).
      */
     public Optional<Abbreviation> get(String input) {
-        // Clean up input: trim and unescape ampersand
-        String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
+        Optional<Abbreviation> customAbbreviation = getCustomAbbreviationIndex().get(input);
         if (customAbbreviation.isPresent()) {
             return customAbbreviation;
         }
 
-        return Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        long position = journalList.getIndex().findFullName(input);
+        if (position < 0) {
+            position = journalList.getIndex().findAbbreviation(input);
+        }
+        return position < 0 ? Optional.empty() : Optional.of(journalList.get(position));
     }
 
-    public void addCustomAbbreviation(Abbreviation abbreviation) {
+    public synchronized void addCustomAbbreviation(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
         customAbbreviations.add(abbreviation);
+        customAbbreviationIndex = null;
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
@@ -168,10 +141,64 @@ public class JournalAbbreviationRepository {
     }
 
     public Set<String> getFullNames() {
-        return fullToAbbreviationObject.keySet();
+        return journalList.getFullToAbbreviation().keySet();
     }
 
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return journalList.getFullToAbbreviation().entrySet().stream()
+                                       .map(entry -> new Abbreviation(entry.getKey(), entry.getValue().getAbbreviation(), entry.getValue().getShortestUniqueAbbreviation()))
+                                       .toList();
+    }
+
+    @Override
+    public void close() {
+        if (ownsJournalList) {
+            journalList.close();
+        }
+    }
+
+    /**
+     * Hashed lookup of the custom abbreviations ignoring the case. If a name matches several abbreviations, the first
+     * one in the order of {@link #customAbbreviations} is found.
+     */
+    private static class CustomAbbreviationIndex {
+        private final Map<String, Abbreviation> abbreviationByName = new HashMap<>();
+        private final Set<String> abbreviatedNames = new HashSet<>();
+
+        CustomAbbreviationIndex(Collection<Abbreviation> abbreviations) {
+            for (Abbreviation abbreviation : abbreviations) {
+                String fullName = normalize(abbreviation.getName());
+                List<String> abbreviatedForms = List.of(
+                        normalize(abbreviation.getAbbreviation()),
+                        normalize(abbreviation.getDotlessAbbreviation()),
+                        normalize(abbreviation.getShortestUniqueAbbreviation()));
+                abbreviationByName.putIfAbsent(fullName, abbreviation);
+                for (String abbreviatedForm : abbreviatedForms) {
+                    abbreviationByName.putIfAbsent(abbreviatedForm, abbreviation);
+                    if (!abbreviatedForm.equals(fullName)) {
+                        abbreviatedNames.add(abbreviatedForm);
+                    }
+                }
+            }
+        }
+
+        Optional<Abbreviation> get(String name) {
+            if (abbreviationByName.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(abbreviationByName.get(normalize(name)));
+        }
+
+        boolean isAbbreviatedName(String name) {
+            return !abbreviatedNames.isEmpty() && abbreviatedNames.contains(normalize(name));
+        }
+
+        private static String normalize(String name) {
+            return JournalAbbreviationIndex.normalize(name)
+                                           .codePoints()
+                                           .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                                           .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                                           .toString();
+        }
     }
 }
@@ -0,0 +1,72 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/**
+ * A journal list held in an MV store, which stays open for looking up the journals. The list is read-only, thus it can
+ * be shared by several {@link JournalAbbreviationRepository repositories}.
+ */
+final class JournalList implements AutoCloseable {
+
+    private final MVStore store;
+    private final MVMap<String, Abbreviation> fullToAbbreviation;
+    private volatile JournalAbbreviationIndex index;
+
+    private JournalList(MVStore store) {
+        this.store = store;
+        this.fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
+    }
+
+    /**
+     * Opens the given MV file. The index is read on first lookup.
+     */
+    static JournalList open(Path journalList) {
+        return new JournalList(new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open());
+    }
+
+    /**
+     * Creates a list held in memory
+     */
+    static JournalList of(Map<String, Abbreviation> fullToAbbreviation) {
+        // without file name, the store is held in memory
+        JournalList journalList = new JournalList(new MVStore.Builder().open());
+        journalList.fullToAbbreviation.putAll(fullToAbbreviation);
+        return journalList;
+    }
+
+    JournalAbbreviationIndex getIndex() {
+        JournalAbbreviationIndex result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    result = JournalAbbreviationIndex.load(store, fullToAbbreviation);
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    MVMap<String, Abbreviation> getFullToAbbreviation() {
+        return fullToAbbreviation;
+    }
+
+    /**
+     * The MV file stores the name as key only and does not store the dotless abbreviation
+     */
+    Abbreviation get(long position) {
+        String name = fullToAbbreviation.getKey(position);
+        Abbreviation abbreviation = fullToAbbreviation.get(name);
+        return new Abbreviation(name, abbreviation.getAbbreviation(), abbreviation.getShortestUniqueAbbreviation());
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+}
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.pdf.search.SearchFieldConstants.ANNOTATIONS;
 import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
+import static org.jabref.model.pdf.search.SearchFieldConstants.FINGERPRINT;
 import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
@@ -71,11 +72,19 @@ public final class DocumentReader {
     public Optional<List<Document>> readLinkedPdf(BibDatabaseContext databaseContext, LinkedFile pdf) {
         Optional<Path> pdfPath = pdf.findIn(databaseContext, filePreferences);
         if (pdfPath.isPresent()) {
-            return Optional.of(readPdfContents(pdf, pdfPath.get()));
+            return Optional.of(readPdfContents(pdf, pdfPath.get(), getFingerprint(pdfPath.get())));
         }
         return Optional.empty();
     }
 
+    /**
+     * Reads an already resolved LinkedFile, whose fingerprint was computed by the caller, so that the file is not read
+     * another time to compute it
+     */
+    List<Document> readLinkedPdf(LinkedFile pdf, Path resolvedPdfPath, Optional<String> fingerprint) {
+        return readPdfContents(pdf, resolvedPdfPath, fingerprint);
+    }
+
     /**
      * Reads each LinkedFile of a BibEntry and converts them into Lucene Documents which are then returned.
      *
@@ -90,13 +99,38 @@ public final class DocumentReader {
                     .collect(Collectors.toList());
     }
 
-    private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath) {
+    /**
+     * Creates the documents of a linked file from the documents of a file with the same content already stored in the
+     * index. Thereby, the text does not need to be extracted again. Only the path and the metadata are updated.
+     *
+     * @param indexedPages the documents of the file with the same content, ordered by page number
+     */
+    static List<Document> relinkPages(List<Document> indexedPages, LinkedFile pdf, Path resolvedPdfPath, Optional<String> fingerprint) {
+        List<Document> pages = new ArrayList<>(indexedPages.size());
+        for (Document indexedPage : indexedPages) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, pdf.getLink());
+            addMetaData(newDocument, resolvedPdfPath, Integer.parseInt(indexedPage.get(PAGE_NUMBER)), fingerprint);
+            String content = indexedPage.get(CONTENT);
+            if (content != null) {
+                newDocument.add(new TextField(CONTENT, content, Field.Store.YES));
+            }
+            String annotations = indexedPage.get(ANNOTATIONS);
+            if (annotations != null) {
+                newDocument.add(new TextField(ANNOTATIONS, annotations, Field.Store.YES));
+            }
+            pages.add(newDocument);
+        }
+        return pages;
+    }
+
+    private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath, Optional<String> fingerprint) {
         List<Document> pages = new ArrayList<>();
         try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
             for (int pageNumber = 0; pageNumber < pdfDocument.getNumberOfPages(); pageNumber++) {
                 Document newDocument = new Document();
                 addIdentifiers(newDocument, pdf.getLink());
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
+                addMetaData(newDocument, resolvedPdfPath, pageNumber, fingerprint);
                 try {
                     addContentIfNotEmpty(pdfDocument, newDocument, pageNumber);
                 } catch (IOException e) {
@@ -110,13 +144,22 @@ public final class DocumentReader {
         if (pages.isEmpty()) {
             Document newDocument = new Document();
             addIdentifiers(newDocument, pdf.getLink());
-            addMetaData(newDocument, resolvedPdfPath, 0);
+            addMetaData(newDocument, resolvedPdfPath, 0, fingerprint);
             pages.add(newDocument);
         }
         return pages;
     }
 
-    private void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber) {
+    private static Optional<String> getFingerprint(Path resolvedPdfPath) {
+        try {
+            return Optional.of(FileFingerprint.of(resolvedPdfPath));
+        } catch (IOException e) {
+            LOGGER.warn("Could not compute fingerprint of {}", resolvedPdfPath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber, Optional<String> fingerprint) {
         try {
             BasicFileAttributes attributes = Files.readAttributes(resolvedPdfPath, BasicFileAttributes.class);
             addStringField(newDocument, MODIFIED, String.valueOf(attributes.lastModifiedTime().to(TimeUnit.SECONDS)));
@@ -124,16 +167,17 @@ public final class DocumentReader {
             LOGGER.error("Could not read timestamp for {}", resolvedPdfPath, e);
         }
         addStringField(newDocument, PAGE_NUMBER, String.valueOf(pageNumber));
+        fingerprint.ifPresent(value -> addStringField(newDocument, FINGERPRINT, value));
     }
 
-    private void addStringField(Document newDocument, String field, String value) {
+    private static void addStringField(Document newDocument, String field, String value) {
         if (!isValidField(value)) {
             return;
         }
         newDocument.add(new StringField(field, value, Field.Store.YES));
     }
 
-    private boolean isValidField(String value) {
+    private static boolean isValidField(String value) {
         return !StringUtil.isNullOrEmpty(value);
     }
 
@@ -160,7 +204,7 @@ public final class DocumentReader {
         }
     }
 
-    private void addIdentifiers(Document newDocument, String path) {
+    private static void addIdentifiers(Document newDocument, String path) {
         newDocument.add(new StringField(PATH, path, Field.Store.YES));
     }
 }
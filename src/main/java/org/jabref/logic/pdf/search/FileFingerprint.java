@@ -0,0 +1,45 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Computes a fingerprint of the content of a file, which is cheap to compute even for large files.
+ * <p>
+ * The fingerprint consists of the size of the file and checksums of its first and last block. It does not change if
+ * the file is touched, copied, or moved. Changes in the middle of large files which keep the size are not detected,
+ * which is acceptable for PDF files, since changes of a PDF file rewrite its trailer at the end of the file.
+ */
+final class FileFingerprint {
+
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    private FileFingerprint() {
+    }
+
+    static String of(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long firstBlock = checksum(channel, 0);
+            long lastBlock = checksum(channel, Math.max(0, size - BLOCK_SIZE));
+            return Long.toHexString(size) + "-" + Long.toHexString(firstBlock) + "-" + Long.toHexString(lastBlock);
+        }
+    }
+
+    private static long checksum(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        // read until the block is full or the end of the file is reached
+        int read;
+        do {
+            read = channel.read(buffer, position + buffer.position());
+        } while ((read >= 0) && buffer.hasRemaining());
+        buffer.flip();
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer);
+        return checksum.getValue();
+    }
+}
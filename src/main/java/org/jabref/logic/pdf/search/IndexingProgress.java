@@ -0,0 +1,27 @@
+package org.jabref.logic.pdf.search;
+
+import java.time.Duration;
+
+/**
+ * Progress of adding a batch of linked files to the full text index
+ *
+ * @param indexedFiles the number of files processed so far
+ * @param totalFiles   the number of files to process
+ * @param indexedBytes the size of the files processed so far
+ * @param elapsed      the time since indexing started
+ */
+public record IndexingProgress(int indexedFiles, int totalFiles, long indexedBytes, Duration elapsed) {
+
+    public double filesPerSecond() {
+        return indexedFiles / getElapsedSeconds();
+    }
+
+    public double megabytesPerSecond() {
+        return (indexedBytes / (1024.0 * 1024.0)) / getElapsedSeconds();
+    }
+
+    private double getElapsedSeconds() {
+        // avoid division by zero directly after starting
+        return Math.max(elapsed.toMillis(), 1) / 1000.0;
+    }
+}
@@ -1,11 +1,10 @@
 package org.jabref.logic.pdf.search;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
@@ -62,6 +61,17 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         });
     }
 
+    private void updateProgress(IndexingProgress progress) {
+        DefaultTaskExecutor.runInJavaFXThread(() -> {
+            updateMessage(Localization.lang("%0 of %1 linked files added to the index (%2 files/s, %3 MB/s)",
+                    progress.indexedFiles(),
+                    progress.totalFiles(),
+                    String.format(Locale.ROOT, "%.1f", progress.filesPerSecond()),
+                    String.format(Locale.ROOT, "%.1f", progress.megabytesPerSecond())));
+            updateProgress(progress.indexedFiles(), progress.totalFiles());
+        });
+    }
+
     private void enqueueTask(Runnable indexingTask) {
         if (!isBlockingNewTasks) {
             taskQueue.add(indexingTask);
@@ -88,7 +98,7 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     }
 
     public void rebuildIndex(PdfIndexer indexer) {
-        enqueueTask(indexer::rebuildIndex);
+        enqueueTask(() -> indexer.rebuildIndex(this::updateProgress, this::isCanceled));
     }
 
     /**
@@ -105,13 +115,12 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         enqueueTask(() -> indexer.removePathsFromIndex(pathsToRemove));
     }
 
+    /**
+     * Adds the files linked to the entries using the parallel pipeline of the indexer, which reports the progress of
+     * the single files
+     */
     public void addToIndex(PdfIndexer indexer, List<BibEntry> entries) {
-        AtomicInteger counter = new AtomicInteger();
-        // To enable seeing progress in the UI, we group the entries in chunks of 50
-        // Solution inspired by https://stackoverflow.com/a/27595803/873282
-        entries.stream().collect(Collectors.groupingBy(x -> counter.getAndIncrement() / 50))
-               .values()
-               .forEach(list -> enqueueTask(() -> indexer.addToIndex(list)));
+        enqueueTask(() -> indexer.addToIndex(entries, this::updateProgress, this::isCanceled));
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry) {
@@ -5,12 +5,25 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
@@ -47,6 +60,18 @@ public class PdfIndexer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfIndexer.class);
 
+    /**
+     * The index is committed after this number of documents (i.e., pages) have been added...
+     */
+    private static final int COMMIT_BATCH_SIZE = 5_000;
+
+    /**
+     * ... or after this time has passed since the last commit, whichever comes first
+     */
+    private static final Duration COMMIT_INTERVAL = Duration.ofSeconds(30);
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofMillis(500);
+
     @VisibleForTesting
     @Nullable // null might happen if lock is held by another JabRef instance
     IndexWriter indexWriter;
@@ -151,22 +176,267 @@ public class PdfIndexer {
      * Rebuilds the PDF index. All PDF files linked to entries in the database will be re-indexed.
      */
     public void rebuildIndex() {
+        rebuildIndex(progress -> {
+        }, () -> false);
+    }
+
+    /**
+     * Rebuilds the PDF index. All PDF files linked to entries in the database will be re-indexed.
+     *
+     * @see #addToIndex(List, Consumer, BooleanSupplier)
+     */
+    public void rebuildIndex(Consumer<IndexingProgress> progressConsumer, BooleanSupplier isCancelled) {
         LOGGER.debug("Rebuilding index.");
         createIndex();
-        addToIndex(databaseContext.getEntries());
+        addToIndex(databaseContext.getEntries(), progressConsumer, isCancelled);
     }
 
     public void addToIndex(List<BibEntry> entries) {
-        int count = 0;
+        addToIndex(entries, progress -> {
+        }, () -> false);
+    }
+
+    /**
+     * Adds all PDF files linked to the given entries to the index.
+     * <p>
+     * The text is extracted by a bounded pool of worker threads, which add the documents to the shared index writer.
+     * The calling thread collects the results and commits the index in batches, i.e., after {@link #COMMIT_BATCH_SIZE}
+     * documents or after {@link #COMMIT_INTERVAL}, whichever comes first. A file linked several times is extracted
+     * only once.
+     *
+     * @param progressConsumer regularly called with the progress (from the calling thread)
+     * @param isCancelled      checked regularly, the indexing stops as soon as it returns true. Files in progress are
+     *                         completed, and all files indexed so far are committed.
+     */
+    public void addToIndex(List<BibEntry> entries, Consumer<IndexingProgress> progressConsumer, BooleanSupplier isCancelled) {
+        Optional<IndexWriter> writer = getIndexWriter();
+        if (writer.isEmpty()) {
+            return;
+        }
+        refreshReader();
+
+        // A file linked several times is extracted once, see FileToIndex
+        Map<Path, FileToIndex> filesByPath = new LinkedHashMap<>();
         for (BibEntry entry : entries) {
-            addToIndex(entry, false);
-            count++;
-            if (count % 100 == 0) {
-                doCommit();
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                getFileToIndex(entry, linkedFile).ifPresent(fileToIndex ->
+                        filesByPath.merge(fileToIndex.resolvedPath(), fileToIndex, FileToIndex::withLinksOf));
+            }
+        }
+        List<FileToIndex> filesToIndex = new ArrayList<>(filesByPath.values());
+        if (filesToIndex.isEmpty()) {
+            doCommit();
+            return;
+        }
+
+        int numberOfThreads = Math.min(filesToIndex.size(), Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "PDF text extraction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<IndexedFile> completionService = new ExecutorCompletionService<>(executor);
+        // Limits the number of extracted, but not yet indexed documents held in memory
+        int maximalFilesInProgress = 2 * numberOfThreads;
+
+        long start = System.nanoTime();
+        long lastCommit = start;
+        long lastProgress = start;
+        int submittedFiles = 0;
+        int indexedFiles = 0;
+        long indexedBytes = 0;
+        int uncommittedDocuments = 0;
+        boolean interrupted = false;
+        try {
+            while ((indexedFiles < submittedFiles) || ((submittedFiles < filesToIndex.size()) && !isCancelled.getAsBoolean())) {
+                while ((submittedFiles < filesToIndex.size()) && ((submittedFiles - indexedFiles) < maximalFilesInProgress) && !isCancelled.getAsBoolean()) {
+                    FileToIndex fileToIndex = filesToIndex.get(submittedFiles++);
+                    completionService.submit(() -> isCancelled.getAsBoolean()
+                            ? new IndexedFile(0, 0)
+                            : indexFile(writer.get(), fileToIndex));
+                }
+
+                Future<IndexedFile> result = completionService.poll(PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (result != null) {
+                    IndexedFile indexedFile = getIndexedFile(result);
+                    indexedFiles++;
+                    indexedBytes += indexedFile.size();
+                    uncommittedDocuments += indexedFile.numberOfDocuments();
+                }
+
+                long now = System.nanoTime();
+                if (((uncommittedDocuments >= COMMIT_BATCH_SIZE) || ((now - lastCommit) >= COMMIT_INTERVAL.toNanos())) && !isCancelled.getAsBoolean()) {
+                    doCommit();
+                    uncommittedDocuments = 0;
+                    lastCommit = now;
+                }
+                if ((now - lastProgress) >= PROGRESS_INTERVAL.toNanos()) {
+                    progressConsumer.accept(new IndexingProgress(indexedFiles, filesToIndex.size(), indexedBytes, Duration.ofNanos(now - start)));
+                    lastProgress = now;
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.debug("Indexing interrupted", e);
+            interrupted = true;
+        } finally {
+            // The workers are not interrupted, as an interrupt closes the channels of the index directory. They check
+            // the cancellation instead, and the files in progress are completed before committing.
+            executor.shutdown();
+            interrupted |= awaitTermination(executor);
+            doCommit();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        IndexingProgress progress = new IndexingProgress(indexedFiles, filesToIndex.size(), indexedBytes, Duration.ofNanos(System.nanoTime() - start));
+        progressConsumer.accept(progress);
+        LOGGER.debug("Added {} files to the index using {} threads ({} files/s, {} MB/s).",
+                indexedFiles, numberOfThreads, progress.filesPerSecond(), progress.megabytesPerSecond());
+    }
+
+    /**
+     * Checks whether the linked file is a PDF file which is not yet in the index or modified since it was indexed
+     */
+    private Optional<FileToIndex> getFileToIndex(BibEntry entry, LinkedFile linkedFile) {
+        if (!isPdf(linkedFile)) {
+            return Optional.empty();
+        }
+        Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
+        if (resolvedPath.isEmpty()) {
+            LOGGER.debug("Could not find {}", linkedFile.getLink());
+            return Optional.empty();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
+            if (isIndexed(linkedFile, attributes)) {
+                LOGGER.debug("File {} is already indexed", linkedFile.getLink());
+                return Optional.empty();
+            }
+            return Optional.of(new FileToIndex(entry, List.of(linkedFile), resolvedPath.get().toAbsolutePath().normalize(), attributes.size()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not add document {} to the index.", linkedFile.getLink(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds the pages of the file to the index, replacing the pages stored for its path so far. If the index already
+     * contains a file with the same content (e.g., because the file was touched, copied, or moved), its pages are
+     * reused and the text is not extracted again.
+     * <p>
+     * Runs on the worker threads. {@link IndexWriter} is thread safe.
+     */
+    private IndexedFile indexFile(IndexWriter writer, FileToIndex fileToIndex) throws IOException {
+        LinkedFile linkedFile = fileToIndex.linkedFiles().getFirst();
+        Optional<String> fingerprint = computeFingerprint(fileToIndex.resolvedPath());
+        Optional<List<Document>> indexedPages = fingerprint.flatMap(this::findPagesByFingerprint);
+
+        List<Document> pages;
+        if (indexedPages.isPresent()) {
+            LOGGER.debug("Content of {} is already indexed, updating metadata only", linkedFile.getLink());
+            pages = DocumentReader.relinkPages(indexedPages.get(), linkedFile, fileToIndex.resolvedPath(), fingerprint);
+        } else {
+            LOGGER.debug("Adding {} to index", linkedFile.getLink());
+            pages = new DocumentReader(fileToIndex.entry(), filePreferences).readLinkedPdf(linkedFile, fileToIndex.resolvedPath(), fingerprint);
+            if (pages.isEmpty()) {
+                LOGGER.debug("No content found in file {}", linkedFile.getLink());
+                return new IndexedFile(fileToIndex.size(), 0);
+            }
+        }
+        writer.updateDocuments(new Term(SearchFieldConstants.PATH, linkedFile.getLink()), pages);
+        int numberOfDocuments = pages.size();
+        // The same file linked differently, e.g., by a relative and an absolute path
+        for (LinkedFile otherLink : fileToIndex.linkedFiles().subList(1, fileToIndex.linkedFiles().size())) {
+            List<Document> relinkedPages = DocumentReader.relinkPages(pages, otherLink, fileToIndex.resolvedPath(), fingerprint);
+            writer.updateDocuments(new Term(SearchFieldConstants.PATH, otherLink.getLink()), relinkedPages);
+            numberOfDocuments += relinkedPages.size();
+        }
+        return new IndexedFile(fileToIndex.size(), numberOfDocuments);
+    }
+
+    private static Optional<String> computeFingerprint(Path file) {
+        try {
+            return Optional.of(FileFingerprint.of(file));
+        } catch (IOException e) {
+            LOGGER.debug("Could not compute fingerprint of {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the stored pages of a file with the given fingerprint, ordered by page number
+     */
+    private Optional<List<Document>> findPagesByFingerprint(String fingerprint) {
+        if (reader == null) {
+            return Optional.empty();
+        }
+        try {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(new TermQuery(new Term(SearchFieldConstants.FINGERPRINT, fingerprint)), Math.max(1, reader.maxDoc()));
+            if (topDocs.scoreDocs.length == 0) {
+                return Optional.empty();
+            }
+            List<Document> documents = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                documents.add(reader.document(scoreDoc.doc));
+            }
+            // The same content might be indexed for several paths, use the pages of one of them
+            String path = documents.getFirst().get(SearchFieldConstants.PATH);
+            return Optional.of(documents.stream()
+                                        .filter(document -> path.equals(document.get(SearchFieldConstants.PATH)))
+                                        .sorted(Comparator.comparingInt(document -> Integer.parseInt(document.get(SearchFieldConstants.PAGE_NUMBER))))
+                                        .toList());
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Could not search for fingerprint {}", fingerprint, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The reader is used to check the state of the index. Since it shows the index at the time it was opened, it is
+     * reopened before adding files.
+     */
+    private void refreshReader() {
+        if (!(reader instanceof DirectoryReader directoryReader)) {
+            return;
+        }
+        try {
+            DirectoryReader newReader = DirectoryReader.openIfChanged(directoryReader);
+            if (newReader != null) {
+                reader.close();
+                reader = newReader;
             }
+        } catch (IOException e) {
+            LOGGER.debug("Could not reopen the IndexReader", e);
+        }
+    }
+
+    /**
+     * Waits for the workers even if the calling thread is interrupted, as the index must not be committed while they
+     * are writing to it
+     *
+     * @return whether the calling thread was interrupted
+     */
+    private static boolean awaitTermination(ExecutorService executor) {
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                if (executor.awaitTermination(PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return interrupted;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+    }
+
+    private static IndexedFile getIndexedFile(Future<IndexedFile> result) throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not add document to the index.", e.getCause());
+            return new IndexedFile(0, 0);
         }
-        doCommit();
-        LOGGER.debug("Added {} documents to the index.", count);
     }
 
     /**
@@ -178,13 +448,6 @@ public class PdfIndexer {
         addToIndex(entry, entry.getFiles(), true);
     }
 
-    private void addToIndex(BibEntry entry, boolean shouldCommit) {
-        addToIndex(entry, entry.getFiles(), false);
-        if (shouldCommit) {
-            doCommit();
-        }
-    }
-
     /**
      * Adds a list of pdf files linked to one entry in the database to an existing (or new) Lucene search index
      *
@@ -195,6 +458,7 @@ public class PdfIndexer {
     }
 
     public void addToIndex(BibEntry entry, Collection<LinkedFile> linkedFiles, boolean shouldCommit) {
+        refreshReader();
         for (LinkedFile linkedFile : linkedFiles) {
             addToIndex(entry, linkedFile, false);
         }
@@ -263,54 +527,49 @@ public class PdfIndexer {
     }
 
     private void addToIndex(BibEntry entry, LinkedFile linkedFile, boolean shouldCommit) {
-        if (linkedFile.isOnlineLink() ||
-                (!StandardFileType.PDF.getName().equals(linkedFile.getFileType()) &&
-                        // We do not require the file type to be set
-                        (!linkedFile.getLink().endsWith(".pdf") && !linkedFile.getLink().endsWith(".PDF")))) {
+        Optional<FileToIndex> fileToIndex = getFileToIndex(entry, linkedFile);
+        if (fileToIndex.isEmpty()) {
             return;
         }
-        Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
-        if (resolvedPath.isEmpty()) {
-            LOGGER.debug("Could not find {}", linkedFile.getLink());
-            return;
-        }
-        LOGGER.debug("Adding {} to index", linkedFile.getLink());
         try {
-            // Check if a document with this path is already in the index
-            try {
-                IndexSearcher searcher = new IndexSearcher(reader);
-                TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-                TopDocs topDocs = searcher.search(query, 1);
-                // If a document was found, check if is less current than the one in the FS
-                if (topDocs.scoreDocs.length > 0) {
-                    Document doc = reader.document(topDocs.scoreDocs[0].doc);
-                    long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
-                    BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
-                    if (indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS)) {
-                        LOGGER.debug("File {} is already indexed", linkedFile.getLink());
-                        return;
-                    }
+            getIndexWriter().ifPresent(Unchecked.consumer(writer -> {
+                indexFile(writer, fileToIndex.get());
+                if (shouldCommit) {
+                    writer.commit();
                 }
-            } catch (IndexNotFoundException e) {
-                LOGGER.debug("Index not found. Continuing.", e);
-            }
-            // If no document was found, add the new one
-            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
-            if (pages.isPresent()) {
-                getIndexWriter().ifPresent(Unchecked.consumer(writer -> {
-                    writer.addDocuments(pages.get());
-                    if (shouldCommit) {
-                        writer.commit();
-                    }
-                }));
-            } else {
-                LOGGER.debug("No content found in file {}", linkedFile.getLink());
-            }
-        } catch (UncheckedIOException | IOException e) {
+            }));
+        } catch (UncheckedIOException e) {
             LOGGER.warn("Could not add document {} to the index.", linkedFile.getLink(), e);
         }
     }
 
+    private static boolean isPdf(LinkedFile linkedFile) {
+        return !linkedFile.isOnlineLink() &&
+                (StandardFileType.PDF.getName().equals(linkedFile.getFileType()) ||
+                        // We do not require the file type to be set
+                        linkedFile.getLink().endsWith(".pdf") || linkedFile.getLink().endsWith(".PDF"));
+    }
+
+    /**
+     * Checks if a document with the path of the linked file is in the index and at least as current as the file
+     */
+    private boolean isIndexed(LinkedFile linkedFile, BasicFileAttributes attributes) throws IOException {
+        try {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
+            TopDocs topDocs = searcher.search(query, 1);
+            // If a document was found, check if is less current than the one in the FS
+            if (topDocs.scoreDocs.length > 0) {
+                Document doc = reader.document(topDocs.scoreDocs[0].doc);
+                long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
+                return indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS);
+            }
+        } catch (IndexNotFoundException e) {
+            LOGGER.debug("Index not found. Continuing.", e);
+        }
+        return false;
+    }
+
     /**
      * Lists the paths of all the files that are stored in the index
      *
@@ -345,4 +604,25 @@ public class PdfIndexer {
         }
         indexWriter.close();
     }
+
+    /**
+     * A file to extract the text from
+     *
+     * @param linkedFiles the links to the file, with different {@link LinkedFile#getLink()}. The pages are stored for
+     *                    each of them.
+     */
+    private record FileToIndex(BibEntry entry, List<LinkedFile> linkedFiles, Path resolvedPath, long size) {
+        FileToIndex withLinksOf(FileToIndex other) {
+            List<LinkedFile> links = new ArrayList<>(linkedFiles);
+            for (LinkedFile link : other.linkedFiles()) {
+                if (links.stream().noneMatch(existing -> existing.getLink().equals(link.getLink()))) {
+                    links.add(link);
+                }
+            }
+            return new FileToIndex(entry, links, resolvedPath, size);
+        }
+    }
+
+    private record IndexedFile(long size, int numberOfDocuments) {
+    }
 }
@@ -3,8 +3,10 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 
@@ -17,10 +19,24 @@ public class DatabaseSearcher {
     private final SearchQuery query;
 
     private final BibDatabase database;
+    private final Optional<EntrySearchIndex> searchIndex;
 
+    /**
+     * Creates a searcher checking every entry of the given database
+     */
     public DatabaseSearcher(SearchQuery query, BibDatabase database) {
         this.query = Objects.requireNonNull(query);
         this.database = Objects.requireNonNull(database);
+        this.searchIndex = Optional.empty();
+    }
+
+    /**
+     * Creates a searcher using the search index of the given library
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext) {
+        this.query = Objects.requireNonNull(query);
+        this.database = databaseContext.getDatabase();
+        this.searchIndex = Optional.of(databaseContext.getSearchIndex());
     }
 
     /**
@@ -34,7 +50,8 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).toList();
+        List<BibEntry> matchEntries = searchIndex.map(index -> index.getMatches(query))
+                                                 .orElseGet(() -> database.getEntriesSnapshot().stream().filter(query::isMatch).toList());
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 }
@@ -0,0 +1,594 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule.ComparisonOperator;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+import org.jabref.model.strings.StringUtil;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * In-memory inverted index of the field contents of the entries of a library.
+ * <p>
+ * The search rules check whether a search word is contained in the (latex free, accent free) content of a field.
+ * Since this is a substring search, the field contents are split into trigrams (three consecutive characters), and
+ * for each trigram the index stores the sorted list of entries containing it. An entry can only match a search word if
+ * it contains all trigrams of the word. Thus, the candidates for a query are found by intersecting the posting lists
+ * of the trigrams of the query. The candidates are then checked by {@link SearchQuery#isMatch(BibEntry)}, so the result
+ * is always the same as the one of a full scan.
+ * <p>
+ * Contains based searches and the field=value terms of grammar based searches use the index. Regular expressions,
+ * negations, and full text searches cannot be resolved by the index and fall back to checking every entry.
+ * <p>
+ * The index is kept up to date by listening to the add, remove, and change events of the library. The trigrams of an
+ * entry are not stored, but computed again from the content of the entry and the old values of the changed fields.
+ * Use {@link org.jabref.model.database.BibDatabaseContext#getSearchIndex()} to get the index of a library.
+ */
+public class EntrySearchIndex {
+
+    private static final int NGRAM_LENGTH = 3;
+    private static final int[] NO_TRIGRAMS = new int[0];
+
+    private final BibDatabase database;
+
+    private final Map<Integer, PostingList> entriesByTrigram = new HashMap<>();
+
+    /**
+     * Maps the entries to their numbers. Entries are tracked by identity, because {@link BibEntry#equals(Object)}
+     * compares the (mutable) content.
+     */
+    private final Map<BibEntry, Integer> numbers = new IdentityHashMap<>();
+
+    /**
+     * Maps the numbers of the entries to the entries. Numbers are assigned in the order the entries are added to the
+     * library, hence sorting by number gives the order of the library. Removed entries leave a {@code null} until the
+     * numbers are compacted, see {@link #compactNumbers()}.
+     */
+    private final List<BibEntry> entriesByNumber = new ArrayList<>();
+    private int removedEntries;
+
+    private SearchQuery lastQuery;
+    private TrigramFilter lastFilter;
+
+    /**
+     * The candidates of {@link #lastFilter}, or {@code null} if they have not been computed since the last change
+     */
+    private Optional<BitSet> lastCandidates;
+
+    public EntrySearchIndex(BibDatabase database) {
+        this.database = database;
+        synchronized (this) {
+            database.getEntries().forEach(this::addEntry);
+        }
+        database.registerListener(this);
+    }
+
+    /**
+     * @return the entries matching the query in the order they appear in the library
+     */
+    public List<BibEntry> getMatches(SearchQuery query) {
+        if (!query.isValid()) {
+            return List.of();
+        }
+
+        List<BibEntry> candidates;
+        synchronized (this) {
+            Optional<int[]> candidateNumbers = getCandidateNumbers(getFilter(query));
+            if (candidateNumbers.isEmpty()) {
+                candidates = database.getEntriesSnapshot();
+            } else {
+                candidates = new ArrayList<>(candidateNumbers.get().length);
+                for (int number : candidateNumbers.get()) {
+                    BibEntry candidate = entriesByNumber.get(number);
+                    if (candidate != null) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+        }
+        return candidates.stream().filter(query::isMatch).toList();
+    }
+
+    /**
+     * Same as {@link SearchQuery#isMatch(BibEntry)}, but entries which cannot match are sorted out using the index.
+     * The filter derived from the query is cached, so calling this method for all entries of the library is cheap.
+     */
+    public boolean isMatch(SearchQuery query, BibEntry entry) {
+        synchronized (this) {
+            Integer number = numbers.get(entry);
+            Optional<BitSet> candidates = getCandidates(query);
+            if ((number != null) && candidates.isPresent() && !candidates.get().get(number)) {
+                return false;
+            }
+        }
+        return query.isMatch(entry);
+    }
+
+    /**
+     * Stops listening to changes of the library
+     */
+    public void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::removeEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        Integer number = numbers.get(entry);
+        if (number == null) {
+            // change of an entry not (or no longer) part of the library
+            return;
+        }
+        int[] newTrigrams = getTrigrams(entry);
+        List<FieldChange> changes = switch (event) {
+            case FieldChangedEvent fieldChanged ->
+                    List.of(new FieldChange(entry, fieldChanged.getField(), fieldChanged.getOldValue(), fieldChanged.getNewValue()));
+            case FieldsChangedEvent fieldsChanged -> fieldsChanged.getChanges();
+            default -> null;
+        };
+        if (changes == null) {
+            // the old content is unknown
+            removeFromAllPostingLists(number);
+        } else {
+            // only trigrams of the old values can be gone, and only if they are not contained in the new content
+            int[] oldTrigrams = changes.stream()
+                                       .filter(change -> change.getOldValue() != null)
+                                       .flatMapToInt(change -> streamTrigrams(StringUtil.stripAccents(latexFree(change.getField(), change.getOldValue()))))
+                                       .filter(trigram -> Arrays.binarySearch(newTrigrams, trigram) < 0)
+                                       .distinct()
+                                       .toArray();
+            removeFromPostingLists(number, oldTrigrams);
+        }
+        addToPostingLists(number, newTrigrams);
+        lastCandidates = null;
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (numbers.containsKey(entry)) {
+            return;
+        }
+        int number = entriesByNumber.size();
+        entriesByNumber.add(entry);
+        numbers.put(entry, number);
+        addToPostingLists(number, getTrigrams(entry));
+        lastCandidates = null;
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Integer number = numbers.remove(entry);
+        if (number == null) {
+            return;
+        }
+        entriesByNumber.set(number, null);
+        // the content did not change since the entry was last indexed
+        removeFromPostingLists(number, getTrigrams(entry));
+        lastCandidates = null;
+        removedEntries++;
+        if (removedEntries > (entriesByNumber.size() / 2)) {
+            compactNumbers();
+        }
+    }
+
+    /**
+     * Renumbers the entries, dropping the numbers of removed entries. The order of the numbers is kept, so the posting
+     * lists stay sorted.
+     */
+    private void compactNumbers() {
+        int[] newNumbers = new int[entriesByNumber.size()];
+        List<BibEntry> remainingEntries = new ArrayList<>(numbers.size());
+        for (int number = 0; number < entriesByNumber.size(); number++) {
+            BibEntry entry = entriesByNumber.get(number);
+            if (entry == null) {
+                newNumbers[number] = -1;
+            } else {
+                newNumbers[number] = remainingEntries.size();
+                numbers.put(entry, remainingEntries.size());
+                remainingEntries.add(entry);
+            }
+        }
+        entriesByTrigram.values().removeIf(postingList -> {
+            int size = 0;
+            for (int i = 0; i < postingList.size; i++) {
+                int newNumber = newNumbers[postingList.numbers[i]];
+                if (newNumber >= 0) {
+                    postingList.numbers[size++] = newNumber;
+                }
+            }
+            postingList.size = size;
+            return size == 0;
+        });
+        entriesByNumber.clear();
+        entriesByNumber.addAll(remainingEntries);
+        removedEntries = 0;
+    }
+
+    private void addToPostingLists(int number, int[] trigrams) {
+        for (int trigram : trigrams) {
+            entriesByTrigram.computeIfAbsent(trigram, key -> new PostingList()).add(number);
+        }
+    }
+
+    private void removeFromPostingLists(int number, int[] trigrams) {
+        for (int trigram : trigrams) {
+            PostingList postingList = entriesByTrigram.get(trigram);
+            if (postingList != null) {
+                postingList.remove(number);
+                if (postingList.size == 0) {
+                    entriesByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private void removeFromAllPostingLists(int number) {
+        entriesByTrigram.values().removeIf(postingList -> {
+            postingList.remove(number);
+            return postingList.size == 0;
+        });
+    }
+
+    /**
+     * Prepares a field value the same way as {@link BibEntry#getFieldLatexFree(Field)}
+     */
+    private static String latexFree(Field field, String value) {
+        if (InternalField.KEY_FIELD == field) {
+            return value;
+        }
+        return LatexToUnicodeAdapter.format(value);
+    }
+
+    /**
+     * @return the candidates of the query as set of entry numbers, or an empty optional if all entries might match
+     */
+    private Optional<BitSet> getCandidates(SearchQuery query) {
+        TrigramFilter filter = getFilter(query);
+        if (lastCandidates == null) {
+            lastCandidates = getCandidateNumbers(filter).map(candidateNumbers -> {
+                BitSet candidates = new BitSet(entriesByNumber.size());
+                for (int number : candidateNumbers) {
+                    candidates.set(number);
+                }
+                return candidates;
+            });
+        }
+        return lastCandidates;
+    }
+
+    /**
+     * @return the sorted numbers of the entries which might match the filter, or an empty optional if all entries
+     * might match
+     */
+    private Optional<int[]> getCandidateNumbers(TrigramFilter filter) {
+        return switch (filter) {
+            case AnyEntry anyEntry -> Optional.empty();
+            case ContainsAll containsAll -> {
+                List<PostingList> postingLists = new ArrayList<>(containsAll.trigrams().length);
+                for (int trigram : containsAll.trigrams()) {
+                    PostingList postingList = entriesByTrigram.get(trigram);
+                    if (postingList == null) {
+                        yield Optional.of(NO_TRIGRAMS);
+                    }
+                    postingLists.add(postingList);
+                }
+                // Start with the shortest list to keep the intermediate results small
+                postingLists.sort(Comparator.comparingInt(postingList -> postingList.size));
+                int[] result = Arrays.copyOf(postingLists.getFirst().numbers, postingLists.getFirst().size);
+                for (int i = 1; (i < postingLists.size()) && (result.length > 0); i++) {
+                    result = intersect(result, postingLists.get(i).numbers, postingLists.get(i).size);
+                }
+                yield Optional.of(result);
+            }
+            case And and -> {
+                Optional<int[]> left = getCandidateNumbers(and.left());
+                Optional<int[]> right = getCandidateNumbers(and.right());
+                if (left.isEmpty()) {
+                    yield right;
+                } else if (right.isEmpty()) {
+                    yield left;
+                }
+                yield Optional.of(intersect(left.get(), right.get(), right.get().length));
+            }
+            case Or or -> {
+                Optional<int[]> left = getCandidateNumbers(or.left());
+                Optional<int[]> right = getCandidateNumbers(or.right());
+                if (left.isEmpty() || right.isEmpty()) {
+                    yield Optional.empty();
+                }
+                yield Optional.of(union(left.get(), right.get()));
+            }
+        };
+    }
+
+    private TrigramFilter getFilter(SearchQuery query) {
+        if (query != lastQuery) {
+            lastFilter = createFilter(query);
+            lastQuery = query;
+            lastCandidates = null;
+        }
+        return lastFilter;
+    }
+
+    private static TrigramFilter createFilter(SearchQuery query) {
+        if (query.getSearchFlags().contains(SearchFlags.FULLTEXT) || !query.isValid()) {
+            // the full text of the linked files is not part of the index
+            return AnyEntry.INSTANCE;
+        }
+        if (query.isContainsBasedSearch()) {
+            return containsWords(query.getQuery(), query.getSearchFlags());
+        }
+        if (query.getRule() instanceof GrammarBasedSearchRule grammarBasedSearchRule) {
+            return new FilterVisitor(query.getSearchFlags()).visit(grammarBasedSearchRule.getTree());
+        }
+        // regular expressions cannot be resolved using trigrams
+        return AnyEntry.INSTANCE;
+    }
+
+    /**
+     * Creates the filter for {@link org.jabref.model.search.rules.ContainsBasedSearchRule}. All words have to be
+     * contained in the entry.
+     */
+    private static TrigramFilter containsWords(String query, EnumSet<SearchFlags> searchFlags) {
+        String searchString = query;
+        if (!searchFlags.contains(SearchFlags.CASE_SENSITIVE)) {
+            searchString = searchString.toLowerCase(Locale.ROOT);
+        }
+        List<int[]> trigramsOfWords = new SentenceAnalyzer(searchString).getWords().stream()
+                                                                         .map(word -> getTrigramsOfSearchTerm(StringUtil.stripAccents(word)))
+                                                                         .toList();
+        return ContainsAll.of(trigramsOfWords.stream().flatMapToInt(Arrays::stream).distinct().sorted().toArray());
+    }
+
+    /**
+     * Returns the trigrams of a search term. Search terms with non ASCII characters are not used for filtering, because
+     * changing their case may change their length.
+     */
+    private static int[] getTrigramsOfSearchTerm(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (term.charAt(i) > 127) {
+                return NO_TRIGRAMS;
+            }
+        }
+        return streamTrigrams(term).distinct().sorted().toArray();
+    }
+
+    /**
+     * Returns the sorted trigrams of all fields of the entry. The content is prepared the same way as by the search
+     * rules, i.e., latex free and without accents.
+     */
+    private static int[] getTrigrams(BibEntry entry) {
+        return entry.getFields().stream()
+                    .flatMap(field -> entry.getFieldLatexFree(field).stream())
+                    .flatMapToInt(content -> streamTrigrams(StringUtil.stripAccents(content)))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+    }
+
+    /**
+     * Returns the case folded trigrams of the text. Only trigrams consisting of ASCII characters are returned, each
+     * encoded in an int using seven bits per character.
+     */
+    private static IntStream streamTrigrams(String text) {
+        IntStream.Builder trigrams = IntStream.builder();
+        int trigram = 0;
+        int asciiCharactersInRow = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char character = Character.toLowerCase(text.charAt(i));
+            if (character > 127) {
+                asciiCharactersInRow = 0;
+                continue;
+            }
+            trigram = ((trigram << 7) | character) & 0x1FFFFF;
+            asciiCharactersInRow++;
+            if (asciiCharactersInRow >= NGRAM_LENGTH) {
+                trigrams.add(trigram);
+            }
+        }
+        return trigrams.build();
+    }
+
+    private static int[] intersect(int[] first, int[] second, int secondSize) {
+        int[] result = new int[Math.min(first.length, secondSize)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while ((i < first.length) && (j < secondSize)) {
+            if (first[i] == second[j]) {
+                result[size++] = first[i];
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] union(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while ((i < first.length) || (j < second.length)) {
+            if ((j == second.length) || ((i < first.length) && (first[i] < second[j]))) {
+                result[size++] = first[i++];
+            } else if ((i == first.length) || (second[j] < first[i])) {
+                result[size++] = second[j++];
+            } else {
+                result[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Sorted list of the numbers of the entries containing a trigram
+     */
+    private static class PostingList {
+        private int[] numbers = new int[2];
+        private int size;
+
+        void add(int number) {
+            int insertionPoint = size;
+            if ((size > 0) && (numbers[size - 1] >= number)) {
+                // entries are usually added in the order of their numbers, changed entries need to be inserted
+                int position = Arrays.binarySearch(numbers, 0, size, number);
+                if (position >= 0) {
+                    return;
+                }
+                insertionPoint = -(position + 1);
+            }
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            System.arraycopy(numbers, insertionPoint, numbers, insertionPoint + 1, size - insertionPoint);
+            numbers[insertionPoint] = number;
+            size++;
+        }
+
+        void remove(int number) {
+            int position = Arrays.binarySearch(numbers, 0, size, number);
+            if (position >= 0) {
+                System.arraycopy(numbers, position + 1, numbers, position, size - position - 1);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Condition on the trigrams of an entry which is necessary for the entry to match a query
+     */
+    private sealed interface TrigramFilter permits AnyEntry, ContainsAll, And, Or {
+    }
+
+    private enum AnyEntry implements TrigramFilter {
+        INSTANCE
+    }
+
+    /**
+     * @param trigrams the sorted trigrams an entry has to contain
+     */
+    private record ContainsAll(int[] trigrams) implements TrigramFilter {
+        static TrigramFilter of(int[] trigrams) {
+            return trigrams.length == 0 ? AnyEntry.INSTANCE : new ContainsAll(trigrams);
+        }
+    }
+
+    private record And(TrigramFilter left, TrigramFilter right) implements TrigramFilter {
+    }
+
+    private record Or(TrigramFilter left, TrigramFilter right) implements TrigramFilter {
+    }
+
+    /**
+     * Derives the filter of a grammar based search, mirroring the evaluation of {@link GrammarBasedSearchRule}.
+     */
+    private static class FilterVisitor extends SearchBaseVisitor<TrigramFilter> {
+
+        private final EnumSet<SearchFlags> searchFlags;
+
+        FilterVisitor(EnumSet<SearchFlags> searchFlags) {
+            this.searchFlags = searchFlags;
+        }
+
+        @Override
+        public TrigramFilter visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public TrigramFilter visitComparison(SearchParser.ComparisonContext context) {
+            if (searchFlags.contains(SearchFlags.REGULAR_EXPRESSION)) {
+                return AnyEntry.INSTANCE;
+            }
+
+            // remove possible enclosing " symbols
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return containsWords(right, searchFlags);
+            }
+
+            if (ComparisonOperator.build(context.operator.getText()) == ComparisonOperator.DOES_NOT_CONTAIN) {
+                return AnyEntry.INSTANCE;
+            }
+            String field = StringUtil.stripAccents(context.left.getText());
+            if (isSpecialField(field, InternalField.TYPE_HEADER.getName()) || isSpecialField(field, "anykeyword")) {
+                // the entry type and single keywords are not indexed
+                return AnyEntry.INSTANCE;
+            }
+            return ContainsAll.of(getTrigramsOfSearchTerm(StringUtil.stripAccents(right)));
+        }
+
+        private boolean isSpecialField(String field, String specialField) {
+            if (searchFlags.contains(SearchFlags.CASE_SENSITIVE)) {
+                return field.equals(specialField);
+            }
+            return field.equalsIgnoreCase(specialField);
+        }
+
+        @Override
+        public TrigramFilter visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            // the complement of a candidate set is not a candidate set
+            return AnyEntry.INSTANCE;
+        }
+
+        @Override
+        public TrigramFilter visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public TrigramFilter visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return new And(visit(ctx.left), visit(ctx.right));
+            } else {
+                return new Or(visit(ctx.left), visit(ctx.right));
+            }
+        }
+    }
+}
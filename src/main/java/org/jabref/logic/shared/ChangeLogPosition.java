@@ -0,0 +1,147 @@
+package org.jabref.logic.shared;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the changes of the change log of a shared database a client has pulled already.
+ * <p>
+ * Sequence numbers are assigned when a change is written, but the change becomes visible when its transaction is
+ * committed. Thus, a change may become visible after changes with higher sequence numbers have been pulled. The
+ * sequence numbers skipped by a pull are remembered as missing, and the change log is read starting at the lowest
+ * missing number until the change appears. A sequence number may be missing for good, because its transaction was
+ * rolled back. Therefore, a number is given up after {@link #MISSING_CHANGE_TIMEOUT}, which is far longer than the
+ * transactions of JabRef take.
+ * <p>
+ * If too many numbers are missing, the position is lost, and the versions of all entries have to be compared.
+ * <p>
+ * The notification listener and the event handlers pull concurrently, thus all methods are synchronized.
+ */
+class ChangeLogPosition {
+
+    static final Duration MISSING_CHANGE_TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * Maximum number of missing sequence numbers kept track of
+     */
+    static final int MAX_MISSING_CHANGES = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeLogPosition.class);
+
+    private final Clock clock;
+
+    /**
+     * The sequence number of the latest change pulled, -1 if the versions of all entries have to be compared
+     */
+    private long latestChangeNumber = -1;
+
+    /**
+     * The sequence numbers below {@link #latestChangeNumber} which have not been pulled yet, and when they were found
+     * missing
+     */
+    private final TreeMap<Long, Instant> missingChangeNumbers = new TreeMap<>();
+
+    ChangeLogPosition() {
+        this(Clock.systemUTC());
+    }
+
+    ChangeLogPosition(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the sequence number after which the change log has to be read, or an empty optional if the versions of
+     * all entries have to be compared
+     */
+    synchronized OptionalLong getChangesStart() {
+        if (latestChangeNumber < 0) {
+            return OptionalLong.empty();
+        }
+        Instant timeout = clock.instant().minus(MISSING_CHANGE_TIMEOUT);
+        if (missingChangeNumbers.values().removeIf(missingSince -> missingSince.isBefore(timeout))) {
+            LOGGER.debug("Gave up waiting for changes of transactions which have been rolled back");
+        }
+        if (missingChangeNumbers.isEmpty()) {
+            return OptionalLong.of(latestChangeNumber);
+        }
+        return OptionalLong.of(missingChangeNumbers.firstKey() - 1);
+    }
+
+    /**
+     * Sets the position after the versions of all entries have been compared
+     *
+     * @param latestChangeNumber the latest sequence number before the comparison, see
+     *                           {@link DBMSProcessor#getLatestChangeNumber()}
+     * @param recentChanges      the changes up to the latest sequence number, which need to reach back far enough to
+     *                           contain the changes of all transactions running during the comparison
+     */
+    synchronized void reset(long latestChangeNumber, DBMSProcessor.SharedChanges recentChanges) {
+        this.latestChangeNumber = latestChangeNumber;
+        missingChangeNumbers.clear();
+        if (recentChanges.sharedIDs().isEmpty()) {
+            return;
+        }
+        // changes committed after the comparison have to be pulled
+        Instant now = clock.instant();
+        for (long changeNumber = recentChanges.sharedIDs().firstKey() + 1; changeNumber < latestChangeNumber; changeNumber++) {
+            if (!recentChanges.sharedIDs().containsKey(changeNumber)) {
+                missingChangeNumbers.put(changeNumber, now);
+            }
+        }
+        limitMissingChangeNumbers();
+    }
+
+    /**
+     * Forgets the position, so that the versions of all entries are compared on the next pull
+     */
+    synchronized void invalidate() {
+        latestChangeNumber = -1;
+        missingChangeNumbers.clear();
+    }
+
+    /**
+     * Records the changes read from the change log starting at {@link #getChangesStart()}.
+     *
+     * @return the shared IDs of the entries changed by changes not pulled before
+     */
+    synchronized Set<Integer> update(DBMSProcessor.SharedChanges changes) {
+        Set<Integer> sharedIDs = new HashSet<>();
+        if (latestChangeNumber < 0) {
+            // the position has been invalidated in the meantime, all entries will be compared
+            sharedIDs.addAll(changes.sharedIDs().values());
+            return sharedIDs;
+        }
+        long previousLatestChangeNumber = latestChangeNumber;
+        for (Map.Entry<Long, Integer> change : changes.sharedIDs().entrySet()) {
+            long changeNumber = change.getKey();
+            if ((changeNumber > previousLatestChangeNumber) || (missingChangeNumbers.remove(changeNumber) != null)) {
+                sharedIDs.add(change.getValue());
+                latestChangeNumber = Math.max(latestChangeNumber, changeNumber);
+            }
+        }
+        Instant now = clock.instant();
+        for (long changeNumber = previousLatestChangeNumber + 1; changeNumber < latestChangeNumber; changeNumber++) {
+            if (!changes.sharedIDs().containsKey(changeNumber)) {
+                missingChangeNumbers.put(changeNumber, now);
+            }
+        }
+        limitMissingChangeNumbers();
+        return sharedIDs;
+    }
+
+    private void limitMissingChangeNumbers() {
+        if (missingChangeNumbers.size() > MAX_MISSING_CHANGES) {
+            LOGGER.debug("Too many changes are missing from the change log, comparing all entries on next pull");
+            invalidate();
+        }
+    }
+}
@@ -5,16 +5,22 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -38,12 +44,26 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /**
+     * Number of changes kept in the change log. Clients which missed more changes compare all entries.
+     */
+    private static final int CHANGE_LOG_SIZE = 100_000;
+
+    /**
+     * Maximum length of the names of the changed fields recorded for an entry, the length of the NAME column in MySQL
+     */
+    private static final int MAX_CHANGED_FIELD_NAMES_LENGTH = 255;
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    private Boolean hasUniqueFieldIndex;
+
+    private Boolean hasChangeLog;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -64,11 +84,14 @@ public abstract class DBMSProcessor {
             if (metadataVersion != null) {
                 int VERSION_DB_STRUCT = Integer.parseInt(metadata.getOrDefault(MetaData.VERSION_DB_STRUCT, "").replace(";", ""));
                 if (VERSION_DB_STRUCT == getCURRENT_VERSION_DB_STRUCT()) {
-                    databasePassesIntegrityCheck = true;
+                    // databases set up by older versions of JabRef get the change log during the next set up
+                    databasePassesIntegrityCheck = checkChangeLogAvailability();
                 }
             }
         } else {
+            // the change log is optional, because setUp cannot add tables to an existing database
             databasePassesIntegrityCheck = checkTableAvailability("ENTRY", "FIELD", "METADATA");
+            checkChangeLogAvailability();
         }
         return databasePassesIntegrityCheck;
     }
@@ -112,6 +135,29 @@ public abstract class DBMSProcessor {
         }
     }
 
+    /**
+     * Checks whether the CHANGELOG table exists and caches the result. Clients fall back to comparing the versions of
+     * all entries if it does not exist.
+     */
+    private boolean checkChangeLogAvailability() {
+        String selectQuery = "SELECT MAX(" + escape("SEQUENCE_NUMBER") + ") FROM " + escape_Table("CHANGELOG");
+        try (Statement statement = connection.createStatement();
+             ResultSet ignored = statement.executeQuery(selectQuery)) {
+            hasChangeLog = true;
+        } catch (SQLException e) {
+            LOGGER.debug("No change log available", e);
+            hasChangeLog = false;
+        }
+        return hasChangeLog;
+    }
+
+    private boolean hasChangeLog() {
+        if (hasChangeLog == null) {
+            checkChangeLogAvailability();
+        }
+        return hasChangeLog;
+    }
+
     /**
      * Creates and sets up the needed tables and columns according to the database type and performs a check whether the
      * needed tables are present.
@@ -170,6 +216,11 @@ public abstract class DBMSProcessor {
         }
         insertIntoEntryTable(notYetExistingEntries);
         insertIntoFieldTable(notYetExistingEntries);
+        try {
+            logChanges(getEntryChanges(notYetExistingEntries));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
     }
 
     /**
@@ -302,149 +353,405 @@ public abstract class DBMSProcessor {
      * @throws SQLException in case of error
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        List<OfflineLockException> refusedUpdates = updateEntries(Collections.singletonList(localBibEntry));
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.getFirst();
+        }
+    }
+
+    /**
+     * Updates the given entries on shared database in one transaction. The fields of all entries are written using
+     * batched statements, so the number of round trips does not depend on the number of entries and fields.
+     * <p>
+     * Entries whose shared version is newer than the local one are not updated.
+     *
+     * @param localBibEntries {@link BibEntry BibEntries} affected by changes
+     * @return the refused updates, one for each entry which has not been updated because of a newer shared version
+     * @throws SQLException in case of error
+     */
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        if (localBibEntries.isEmpty()) {
+            return refusedUpdates;
+        }
+
+        // a failing query aborts the whole transaction in some database systems
+        hasChangeLog();
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
+            List<Integer> sharedIDs = localBibEntries.stream()
+                                                     .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                     .toList();
+            Map<Integer, BibEntry> sharedEntries = partitionAndGetSharedEntries(sharedIDs)
+                    .stream()
+                    .collect(Collectors.toMap(entry -> entry.getSharedBibEntryData().getSharedID(), entry -> entry));
+
+            List<BibEntry> entriesToUpdate = new ArrayList<>();
+            List<SharedField> fieldsToRemove = new ArrayList<>();
+            List<SharedField> fieldsToWrite = new ArrayList<>();
+            Map<Integer, Set<String>> changedFields = new LinkedHashMap<>();
+            for (BibEntry localBibEntry : localBibEntries) {
+                int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+                BibEntry sharedBibEntry = sharedEntries.get(sharedID);
+                if (sharedBibEntry == null) {
+                    continue;
+                }
 
-            if (sharedEntryOptional.isEmpty()) {
-                return;
+                // update only if local version is higher or the entries are equal
+                if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
+                                                                                         .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
+                    entriesToUpdate.add(localBibEntry);
+                    Set<String> changedFieldNames = changedFields.computeIfAbsent(sharedID, id -> new LinkedHashSet<>());
+                    // remove shared fields which do not exist locally
+                    for (Field sharedField : sharedBibEntry.getFields()) {
+                        if (!localBibEntry.hasField(sharedField)) {
+                            fieldsToRemove.add(new SharedField(sharedID, sharedField.getName(), null, true));
+                            changedFieldNames.add(sharedField.getName());
+                        }
+                    }
+                    for (Field field : localBibEntry.getFields()) {
+                        // null values are accepted by PreparedStatement!
+                        String value = localBibEntry.getField(field).orElse(null);
+                        fieldsToWrite.add(new SharedField(sharedID, field.getName(), value, sharedBibEntry.hasField(field)));
+                        if (!Objects.equals(value, sharedBibEntry.getField(field).orElse(null))) {
+                            changedFieldNames.add(field.getName());
+                        }
+                    }
+                } else {
+                    refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
+                }
             }
 
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                                                                                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                String updateEntryTypeQuery = "UPDATE " +
-                        escape_Table("ENTRY") +
-                        " SET " +
-                        escape("TYPE") +
-                        " = ?, " +
-                        escape("VERSION") +
-                        " = " +
-                        escape("VERSION") +
-                        " + 1 WHERE " +
-                        escape("SHARED_ID") +
-                        " = ?";
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+            removeFields(fieldsToRemove);
+            writeFields(fieldsToWrite);
+            updateEntryTypes(entriesToUpdate);
+            logChanges(changedFields);
 
-                connection.commit(); // apply all changes in current transaction
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
-            }
+            connection.commit(); // apply all changes in current transaction
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
             connection.rollback(); // undo changes made in current transaction
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+        return refusedUpdates;
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * A field of a shared entry
+     *
+     * @param value  the value of the field, <code>null</code> if unknown
+     * @param exists whether the field is already stored in the FIELD table
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
+    protected record SharedField(int entrySharedID, String name, String value, boolean exists) {
+    }
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+    /**
+     * Helping method. Removes the given fields from FIELD table.
+     */
+    private void removeFields(List<SharedField> fields) throws SQLException {
+        if (fields.isEmpty()) {
+            return;
+        }
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(deleteFieldQuery)) {
+            for (SharedField field : fields) {
+                preparedDeleteFieldStatement.setString(1, field.name());
+                preparedDeleteFieldStatement.setInt(2, field.entrySharedID());
+                preparedDeleteFieldStatement.addBatch();
+            }
+            preparedDeleteFieldStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Helping method. Inserts the given fields into FIELD table if not existing. Otherwise, only an update is performed.
+     * <p>
+     * Database systems supporting upserts override this method.
+     */
+    protected void writeFields(List<SharedField> fields) throws SQLException {
+        String updateFieldQuery = "UPDATE " +
+                escape_Table("FIELD") +
+                " SET " +
+                escape("VALUE") +
+                " = ? WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        String insertFieldQuery = "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)";
+
+        try (PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(updateFieldQuery);
+             PreparedStatement preparedInsertFieldStatement = connection.prepareStatement(insertFieldQuery)) {
+            boolean hasUpdates = false;
+            boolean hasInserts = false;
+            for (SharedField field : fields) {
+                if (field.exists()) {
+                    preparedUpdateFieldStatement.setString(1, field.value());
+                    preparedUpdateFieldStatement.setString(2, field.name());
+                    preparedUpdateFieldStatement.setInt(3, field.entrySharedID());
+                    preparedUpdateFieldStatement.addBatch();
+                    hasUpdates = true;
+                } else {
+                    preparedInsertFieldStatement.setInt(1, field.entrySharedID());
+                    preparedInsertFieldStatement.setString(2, field.name());
+                    preparedInsertFieldStatement.setString(3, field.value());
+                    preparedInsertFieldStatement.addBatch();
+                    hasInserts = true;
+                }
+            }
+            if (hasUpdates) {
+                preparedUpdateFieldStatement.executeBatch();
+            }
+            if (hasInserts) {
+                preparedInsertFieldStatement.executeBatch();
             }
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Executes the given upsert statement for all fields. The statement has to take the entry id, the
+     * field name, and the value as parameters, in this order.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+    protected void executeFieldUpserts(String upsertFieldQuery, List<SharedField> fields) throws SQLException {
+        if (fields.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement preparedUpsertFieldStatement = connection.prepareStatement(upsertFieldQuery)) {
+            for (SharedField field : fields) {
+                preparedUpsertFieldStatement.setInt(1, field.entrySharedID());
+                preparedUpsertFieldStatement.setString(2, field.name());
+                preparedUpsertFieldStatement.setString(3, field.value());
+                preparedUpsertFieldStatement.addBatch();
             }
+            preparedUpsertFieldStatement.executeBatch();
+        }
+    }
 
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
+    /**
+     * Checks whether the FIELD table has a unique index on the entry id and the field name, which is required for
+     * upserts. Tables created by older versions of JabRef do not have such an index. The result is cached.
+     *
+     * @param catalog the catalog of the table as used by {@link DatabaseMetaData#getIndexInfo}
+     * @param schema  the schema of the table as used by {@link DatabaseMetaData#getIndexInfo}
+     * @param table   the unescaped name of the FIELD table
+     */
+    protected boolean hasUniqueFieldIndex(String catalog, String schema, String table) throws SQLException {
+        if (hasUniqueFieldIndex == null) {
+            Map<String, Set<String>> indexColumns = new HashMap<>();
+            try (ResultSet indexInfo = connection.getMetaData().getIndexInfo(catalog, schema, table, true, false)) {
+                while (indexInfo.next()) {
+                    String indexName = indexInfo.getString("INDEX_NAME");
+                    String columnName = indexInfo.getString("COLUMN_NAME");
+                    if ((indexName != null) && (columnName != null)) {
+                        indexColumns.computeIfAbsent(indexName, name -> new HashSet<>()).add(columnName.toUpperCase(Locale.ROOT));
                     }
                 }
             }
+            hasUniqueFieldIndex = indexColumns.containsValue(Set.of("ENTRY_SHARED_ID", "NAME"));
+        }
+        return hasUniqueFieldIndex;
+    }
+
+    /**
+     * Helping method. Updates the entry types and increases the versions of the given entries.
+     */
+    private void updateEntryTypes(List<BibEntry> bibEntries) throws SQLException {
+        if (bibEntries.isEmpty()) {
+            return;
+        }
+        String updateEntryTypeQuery = "UPDATE " +
+                escape_Table("ENTRY") +
+                " SET " +
+                escape("TYPE") +
+                " = ?, " +
+                escape("VERSION") +
+                " = " +
+                escape("VERSION") +
+                " + 1 WHERE " +
+                escape("SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
+            for (BibEntry bibEntry : bibEntries) {
+                preparedUpdateEntryTypeStatement.setString(1, bibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, bibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.addBatch();
+            }
+            preparedUpdateEntryTypeStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Records the given changes in the CHANGELOG table, so that other clients pull only the changed entries. Nothing
+     * is recorded if the database has no change log.
+     * <p>
+     * One row is written per entry, so that a transaction uses as few sequence numbers as possible. The row lists the
+     * names of the changed fields separated by commas. The names are omitted if the entry itself changed (e.g., its
+     * insertion or removal) or if they do not fit into the column.
+     *
+     * @param changedFields the names of the changed fields by the shared IDs of the changed entries. An empty set
+     *                      records a change of the entry itself, e.g., its insertion or removal.
+     */
+    protected void logChanges(Map<Integer, Set<String>> changedFields) throws SQLException {
+        if (changedFields.isEmpty() || !hasChangeLog()) {
+            return;
+        }
+        String insertChangeQuery = "INSERT INTO " +
+                escape_Table("CHANGELOG") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ") VALUES(?, ?)";
+
+        try (PreparedStatement preparedInsertChangeStatement = connection.prepareStatement(insertChangeQuery)) {
+            for (Map.Entry<Integer, Set<String>> change : changedFields.entrySet()) {
+                String fieldNames = String.join(",", change.getValue());
+                preparedInsertChangeStatement.setInt(1, change.getKey());
+                if (fieldNames.isEmpty() || (fieldNames.length() > MAX_CHANGED_FIELD_NAMES_LENGTH)) {
+                    preparedInsertChangeStatement.setNull(2, Types.VARCHAR);
+                } else {
+                    preparedInsertChangeStatement.setString(2, fieldNames);
+                }
+                preparedInsertChangeStatement.addBatch();
+            }
+            preparedInsertChangeStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Helping method. Returns changes of the given entries themselves to be recorded by {@link #logChanges(Map)}.
+     */
+    private static Map<Integer, Set<String>> getEntryChanges(List<BibEntry> bibEntries) {
+        Map<Integer, Set<String>> changes = new LinkedHashMap<>();
+        for (BibEntry bibEntry : bibEntries) {
+            changes.put(bibEntry.getSharedBibEntryData().getSharedID(), Set.of());
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the sequence number of the latest recorded change, 0 if no change has been recorded yet, or an empty
+     * Optional if the database has no change log.
+     */
+    public Optional<Long> getLatestChangeNumber() {
+        if (!hasChangeLog()) {
+            return Optional.empty();
+        }
+        String selectQuery = "SELECT MAX(" + escape("SEQUENCE_NUMBER") + ") FROM " + escape_Table("CHANGELOG");
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(selectQuery)) {
+            resultSet.next();
+            // getLong returns 0 for NULL, i.e., if the change log is empty
+            return Optional.of(resultSet.getLong(1));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Retrieves the shared IDs of all entries which have been inserted, updated, or removed after the change with the
+     * given sequence number.
+     * <p>
+     * Note that changes with lower sequence numbers may become visible later, because a change becomes visible on
+     * commit of its transaction only. {@link ChangeLogPosition} keeps track of the missing sequence numbers.
+     *
+     * @param changeNumber the sequence number of the last change seen, see {@link #getLatestChangeNumber()}
+     * @return the changes, or an empty Optional if the database has no change log or the change log does not reach
+     * back to the given change anymore
+     */
+    public Optional<SharedChanges> getChangesSince(long changeNumber) {
+        if (!hasChangeLog()) {
+            return Optional.empty();
+        }
+        String selectFirstChangeQuery = "SELECT MIN(" + escape("SEQUENCE_NUMBER") + ") FROM " + escape_Table("CHANGELOG");
+        String selectChangesQuery = "SELECT " +
+                escape("SEQUENCE_NUMBER") +
+                ", " +
+                escape("ENTRY_SHARED_ID") +
+                " FROM " +
+                escape_Table("CHANGELOG") +
+                " WHERE " +
+                escape("SEQUENCE_NUMBER") +
+                " > ?";
+
+        try (Statement statement = connection.createStatement();
+             ResultSet firstChangeResultSet = statement.executeQuery(selectFirstChangeQuery)) {
+            firstChangeResultSet.next();
+            long firstChangeNumber = firstChangeResultSet.getLong(1);
+            if (!firstChangeResultSet.wasNull() && (firstChangeNumber > (changeNumber + 1))) {
+                // the changes after the given one have been pruned
+                return Optional.empty();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return Optional.empty();
+        }
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectChangesQuery)) {
+            preparedStatement.setLong(1, changeNumber);
+            SortedMap<Long, Integer> sharedIDs = new TreeMap<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    sharedIDs.put(resultSet.getLong("SEQUENCE_NUMBER"), resultSet.getInt("ENTRY_SHARED_ID"));
+                }
+            }
+            return Optional.of(new SharedChanges(sharedIDs));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return Optional.empty();
         }
     }
 
+    /**
+     * Removes all but the latest changes from the change log, so that it does not grow without bounds.
+     */
+    public void pruneChangeLog() {
+        Optional<Long> latestChangeNumber = getLatestChangeNumber();
+        if (latestChangeNumber.isEmpty() || (latestChangeNumber.get() <= CHANGE_LOG_SIZE)) {
+            return;
+        }
+        String deleteChangesQuery = "DELETE FROM " +
+                escape_Table("CHANGELOG") +
+                " WHERE " +
+                escape("SEQUENCE_NUMBER") +
+                " <= ?";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteChangesQuery)) {
+            preparedStatement.setLong(1, latestChangeNumber.get() - CHANGE_LOG_SIZE);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    /**
+     * Changes read from the change log
+     *
+     * @param sharedIDs the shared IDs of the inserted, updated, and removed entries by the sequence numbers of the
+     *                  changes
+     */
+    public record SharedChanges(SortedMap<Long, Integer> sharedIDs) {
+    }
+
     /**
      * Removes the shared bibEntry.
      *
@@ -469,6 +776,7 @@ public abstract class DBMSProcessor {
                 preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
             }
             preparedStatement.executeUpdate();
+            logChanges(getEntryChanges(bibEntries));
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
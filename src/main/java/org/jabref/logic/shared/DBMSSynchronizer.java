@@ -2,11 +2,14 @@ package org.jabref.logic.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -55,6 +58,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalCitationKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    private volatile Duration lastPullDuration = Duration.ZERO;
+    private final ChangeLogPosition changeLogPosition = new ChangeLogPosition();
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             GlobalCitationKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
@@ -93,7 +98,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
+        if (isEventSourceAccepted(event) && isPresentLocalBibEntry(bibEntry) && checkCurrentConnection() && !event.isFilteredOut()) {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             synchronizeSharedEntry(bibEntry);
@@ -157,6 +162,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
 
         dbmsProcessor.startNotificationListener(this);
+        dbmsProcessor.pruneChangeLog();
+        changeLogPosition.invalidate();
         synchronizeLocalMetaData();
         synchronizeLocalDatabase();
     }
@@ -164,6 +171,11 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * If the shared database has a change log, only the entries changed since the last synchronization are pulled.
+     * Otherwise, the versions of all entries are compared. Note that JabRef versions before the change log do not
+     * record their changes. If these work on the same shared database, their changes are pulled only when the versions
+     * of all entries are compared, i.e., on connecting.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -171,42 +183,58 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        long startTime = System.nanoTime();
+        Optional<DBMSProcessor.SharedChanges> sharedChanges = Optional.empty();
+        OptionalLong changesStart = changeLogPosition.getChangesStart();
+        if (changesStart.isPresent()) {
+            sharedChanges = dbmsProcessor.getChangesSince(changesStart.getAsLong());
+        }
+
+        if (sharedChanges.isPresent()) {
+            pullChangedEntries(changeLogPosition.update(sharedChanges.get()));
+        } else {
+            // read before the entries, so that changes committed in between are pulled next time
+            Optional<Long> latestChangeNumber = dbmsProcessor.getLatestChangeNumber();
+            Optional<DBMSProcessor.SharedChanges> recentChanges = latestChangeNumber.flatMap(changeNumber ->
+                    dbmsProcessor.getChangesSince(Math.max(0, changeNumber - ChangeLogPosition.MAX_MISSING_CHANGES)));
+            pullAllEntries();
+            if (latestChangeNumber.isPresent() && recentChanges.isPresent()) {
+                changeLogPosition.reset(latestChangeNumber.get(), recentChanges.get());
+            } else {
+                changeLogPosition.invalidate();
+            }
+        }
+
+        lastPullDuration = Duration.ofNanos(System.nanoTime() - startTime);
+        LOGGER.debug("Synchronized local database in {} ms", lastPullDuration.toMillis());
+    }
+
+    /**
+     * Compares the versions of all local and shared entries and pulls the differing entries.
+     */
+    private void pullAllEntries() {
         List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        Map<Integer, BibEntry> localEntriesBySharedID = getLocalEntriesBySharedID();
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateInLocalDatabase.isEmpty()) {
+            for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+                updateLocalEntry(localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID()), sharedEntry);
             }
         }
 
@@ -214,6 +242,71 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             // in case entries should be added into the local database, insert them
             bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
         }
+        LOGGER.debug("Pulled {} changed and {} new entries of {} shared entries",
+                entriesToUpdateInLocalDatabase.size(), entriesToInsertIntoLocalDatabase.size(), idVersionMap.size());
+    }
+
+    /**
+     * Pulls the given entries, which have been inserted, updated, or removed on the shared database.
+     *
+     * @param sharedIDs the shared IDs of the changed entries as recorded in the change log
+     */
+    private void pullChangedEntries(Set<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        Map<Integer, BibEntry> localEntriesBySharedID = getLocalEntriesBySharedID();
+        Map<Integer, BibEntry> sharedEntriesBySharedID = new HashMap<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(new ArrayList<>(sharedIDs))) {
+            sharedEntriesBySharedID.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
+        }
+
+        List<BibEntry> entriesToRemoveFromLocalDatabase = new ArrayList<>();
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        for (Integer sharedID : sharedIDs) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedID);
+            BibEntry sharedEntry = sharedEntriesBySharedID.get(sharedID);
+            if (sharedEntry == null) {
+                if (localEntry != null) {
+                    entriesToRemoveFromLocalDatabase.add(localEntry);
+                }
+            } else if (localEntry == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+            } else if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                updateLocalEntry(localEntry, sharedEntry);
+            }
+        }
+
+        if (!entriesToRemoveFromLocalDatabase.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemoveFromLocalDatabase));
+            bibDatabase.removeEntries(entriesToRemoveFromLocalDatabase, EntriesEventSource.SHARED);
+        }
+        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
+        }
+        LOGGER.debug("Pulled {} changed entries", sharedIDs.size());
+    }
+
+    private Map<Integer, BibEntry> getLocalEntriesBySharedID() {
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.putIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+        return localEntriesBySharedID;
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        // copy remote type and values to local entry and remove not existing fields, all in one change
+        localEntry.setContent(sharedEntry.getType(), sharedEntry.getFieldMap(), EntriesEventSource.SHARED);
+    }
+
+    /**
+     * Returns the time the last synchronization of the local database took, including the queries to the shared
+     * database. {@link Duration#ZERO} if the local database has not been synchronized yet.
+     */
+    public Duration getLastPullDuration() {
+        return lastPullDuration;
     }
 
     /**
@@ -291,17 +384,17 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
-                }
-            } catch (OfflineLockException exception) {
+        // synchronize only if changes were present
+        List<BibEntry> changedEntries = bibDatabase.getEntries().stream()
+                                                   .filter(bibEntry -> !BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty())
+                                                   .toList();
+        try {
+            // all changes are written in one transaction
+            for (OfflineLockException exception : dbmsProcessor.updateEntries(changedEntries)) {
                 eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
             }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -1,6 +1,7 @@
 package org.jabref.logic.shared;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 
 import org.jabref.model.metadata.MetaData;
@@ -35,8 +36,17 @@ public class MySQLProcessor extends DBMSProcessor {
                         "`ENTRY_SHARED_ID` INT(11) NOT NULL, " +
                         "`NAME` VARCHAR(255) NOT NULL, " +
                         "`VALUE` TEXT DEFAULT NULL, " +
+                        // required for upserts, see writeFields
+                        "UNIQUE KEY `FIELD_ENTRY_SHARED_ID_NAME` (`ENTRY_SHARED_ID`, `NAME`), " +
                         "FOREIGN KEY (`ENTRY_SHARED_ID`) REFERENCES `JABREF_ENTRY`(`SHARED_ID`) ON DELETE CASCADE)");
 
+        // entries changed by other clients, see getChangesSince
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `JABREF_CHANGELOG` (" +
+                        "`SEQUENCE_NUMBER` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                        "`ENTRY_SHARED_ID` INT(11) NOT NULL, " +
+                        "`NAME` VARCHAR(255) DEFAULT NULL)");
+
         connection.createStatement().executeUpdate(
                 "CREATE TABLE IF NOT EXISTS `JABREF_METADATA` (" +
                         "`KEY` varchar(255) NOT NULL," +
@@ -69,6 +79,29 @@ public class MySQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    protected void writeFields(List<SharedField> fields) throws SQLException {
+        // tables created by older versions of JabRef do not have the unique key required for upserts
+        if (!hasUniqueFieldIndex(connection.getCatalog(), null, "JABREF_FIELD")) {
+            super.writeFields(fields);
+            return;
+        }
+        String upsertFieldQuery = "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?) ON DUPLICATE KEY UPDATE " +
+                escape("VALUE") +
+                " = VALUES(" +
+                escape("VALUE") +
+                ")";
+        executeFieldUpserts(upsertFieldQuery, fields);
+    }
+
     @Override
     String escape(String expression) {
         return "`" + expression + "`";
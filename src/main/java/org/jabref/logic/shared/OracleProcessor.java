@@ -64,6 +64,19 @@ public class OracleProcessor extends DBMSProcessor {
                         "CONSTRAINT \"ENTRY_SHARED_ID_FK\" FOREIGN KEY (\"ENTRY_SHARED_ID\") " +
                         "REFERENCES \"ENTRY\"(\"SHARED_ID\") ON DELETE CASCADE)");
 
+        // entries changed by other clients, see getChangesSince
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE \"CHANGELOG\" (" +
+                        "\"SEQUENCE_NUMBER\" NUMBER NOT NULL, " +
+                        "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                        "\"NAME\" VARCHAR2(255) NULL, " +
+                        "CONSTRAINT \"CHANGELOG_PK\" PRIMARY KEY (\"SEQUENCE_NUMBER\"))");
+
+        connection.createStatement().executeUpdate("CREATE SEQUENCE \"CHANGELOG_SEQ\"");
+
+        connection.createStatement().executeUpdate("CREATE TRIGGER \"CHANGELOG_T\" BEFORE INSERT ON \"CHANGELOG\" " +
+                "FOR EACH ROW BEGIN SELECT \"CHANGELOG_SEQ\".NEXTVAL INTO :NEW.sequence_number FROM DUAL; END;");
+
         connection.createStatement().executeUpdate(
                 "CREATE TABLE \"METADATA\" (" +
                         "\"KEY\"  VARCHAR2(255) NULL," +
@@ -204,6 +217,41 @@ public class OracleProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * Uses MERGE, which does not require a unique index. The value is bound directly to the CLOB column, because
+     * values selected from DUAL are limited to the length of a VARCHAR2.
+     */
+    @Override
+    protected void writeFields(List<SharedField> fields) throws SQLException {
+        if (fields.isEmpty()) {
+            return;
+        }
+        String mergeFieldQuery = "MERGE INTO " +
+                escape_Table("FIELD") +
+                " F USING (SELECT ? AS " + escape("ENTRY_SHARED_ID") + ", ? AS " + escape("NAME") + " FROM DUAL) S" +
+                " ON (F." + escape("ENTRY_SHARED_ID") + " = S." + escape("ENTRY_SHARED_ID") +
+                " AND F." + escape("NAME") + " = S." + escape("NAME") + ")" +
+                " WHEN MATCHED THEN UPDATE SET F." + escape("VALUE") + " = ?" +
+                " WHEN NOT MATCHED THEN INSERT (" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES (S." + escape("ENTRY_SHARED_ID") + ", S." + escape("NAME") + ", ?)";
+
+        try (PreparedStatement preparedMergeFieldStatement = connection.prepareStatement(mergeFieldQuery)) {
+            for (SharedField field : fields) {
+                preparedMergeFieldStatement.setInt(1, field.entrySharedID());
+                preparedMergeFieldStatement.setString(2, field.name());
+                preparedMergeFieldStatement.setString(3, field.value());
+                preparedMergeFieldStatement.setString(4, field.value());
+                preparedMergeFieldStatement.addBatch();
+            }
+            preparedMergeFieldStatement.executeBatch();
+        }
+    }
+
     @Override
     public void stopNotificationListener() {
         try {
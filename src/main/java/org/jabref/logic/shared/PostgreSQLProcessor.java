@@ -56,6 +56,22 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         "\"NAME\" VARCHAR, " +
                         "\"VALUE\" TEXT)");
 
+        try {
+            // required for upserts, see writeFields
+            connection.createStatement().executeUpdate(
+                    "CREATE UNIQUE INDEX IF NOT EXISTS \"FIELD_ENTRY_SHARED_ID_NAME\" ON " + escape_Table("FIELD") +
+                            " (\"ENTRY_SHARED_ID\", \"NAME\")");
+        } catch (SQLException e) {
+            LOGGER.warn("Could not create unique index on field table. Fields are updated without upserts.", e);
+        }
+
+        // entries changed by other clients, see getChangesSince
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS " + escape_Table("CHANGELOG") + " (" +
+                        "\"SEQUENCE_NUMBER\" BIGSERIAL PRIMARY KEY, " +
+                        "\"ENTRY_SHARED_ID\" INTEGER NOT NULL, " +
+                        "\"NAME\" VARCHAR)");
+
         connection.createStatement().executeUpdate(
                 "CREATE TABLE IF NOT EXISTS " + escape_Table("METADATA") + " ("
                         + "\"KEY\" VARCHAR,"
@@ -123,6 +139,31 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    protected void writeFields(List<SharedField> fields) throws SQLException {
+        if (!hasUniqueFieldIndex(null, "jabref", "FIELD")) {
+            super.writeFields(fields);
+            return;
+        }
+        String upsertFieldQuery = "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?) ON CONFLICT (" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ") DO UPDATE SET " +
+                escape("VALUE") +
+                " = EXCLUDED." +
+                escape("VALUE");
+        executeFieldUpserts(upsertFieldQuery, fields);
+    }
+
     @Override
     String escape(String expression) {
         return "\"" + expression + "\"";
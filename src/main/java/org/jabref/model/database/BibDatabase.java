@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,11 +31,14 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
@@ -52,8 +56,22 @@ public class BibDatabase {
      * State attributes
      */
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+
+    /**
+     * Incremented after each change of {@link #entries}, so that an outdated {@link #entriesSnapshot} is detected.
+     * Only written while holding the lock of the database.
+     */
+    private volatile long entriesVersion;
+
+    /**
+     * Created on demand, thus adding many entries one by one does not copy the list each time
+     */
+    private volatile EntriesSnapshot entriesSnapshot = new EntriesSnapshot(0, List.of());
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    // Not included in equals, because it is derived from the entries
+    private final CitationKeyIndex citationKeyIndex = new CitationKeyIndex();
+
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
@@ -114,7 +132,7 @@ public class BibDatabase {
      * Returns the list of entries sorted by the given comparator.
      */
     public List<BibEntry> getEntriesSorted(Comparator<BibEntry> comparator) {
-        List<BibEntry> entriesSorted = new ArrayList<>(entries);
+        List<BibEntry> entriesSorted = new ArrayList<>(getEntriesSnapshot());
         entriesSorted.sort(comparator);
         return entriesSorted;
     }
@@ -130,6 +148,27 @@ public class BibDatabase {
         return FXCollections.unmodifiableObservableList(entries);
     }
 
+    /**
+     * Returns an immutable copy of the list of entries, intended for tasks running in the background.
+     * <p>
+     * In contrast to {@link #getEntries()}, the snapshot can be iterated and streamed (also in parallel) without
+     * holding the lock of the database, and it is not affected by entries added or removed afterwards. The snapshot is
+     * shared by all callers until the list of entries changes, hence getting it is cheap. Note that the entries
+     * themselves are not copied, changes of their fields are visible.
+     */
+    public List<BibEntry> getEntriesSnapshot() {
+        EntriesSnapshot snapshot = entriesSnapshot;
+        long version = entriesVersion;
+        if (snapshot.version() == version) {
+            return snapshot.entries();
+        }
+
+        // the copy contains at least all changes up to the version read before, it may contain newer ones
+        List<BibEntry> copy = List.copyOf(entries);
+        entriesSnapshot = new EntriesSnapshot(version, copy);
+        return copy;
+    }
+
     /**
      * Returns a set of Strings, that contains all field names that are visible. This means that the fields
      * are not internal fields. Internal fields are fields, that are starting with "_".
@@ -147,9 +186,14 @@ public class BibDatabase {
 
     /**
      * Returns the entry with the given citation key.
+     * If multiple entries share the key, the first one in the order of the database is returned.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        Optional<BibEntry> singleEntry = citationKeyIndex.getSingleEntry(key);
+        if (singleEntry.isPresent()) {
+            return singleEntry;
+        }
+        return getEntriesByCitationKey(key).stream().findFirst();
     }
 
     /**
@@ -159,14 +203,14 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+        List<BibEntry> result = citationKeyIndex.getEntries(key);
+        if (result.size() > 1) {
+            // Duplicate keys are rare, thus the linear scan to restore the database order is acceptable
+            Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < entries.size(); i++) {
+                positions.putIfAbsent(entries.get(i), i);
+            }
+            result.sort(Comparator.comparingInt(entry -> positions.getOrDefault(entry, Integer.MAX_VALUE)));
         }
         return result;
     }
@@ -204,6 +248,8 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
         }
         entries.addAll(newEntries);
+        entriesVersion++;
+        citationKeyIndex.addEntries(newEntries);
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -234,12 +280,21 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
         if (anyRemoved) {
+            entriesVersion++;
+            citationKeyIndex.removeEntries(removedEntries);
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -569,8 +624,21 @@ public class BibDatabase {
         }
     }
 
+    // The entries of a library share one event bus, see BibEntry#registerListener. Relaying is thread-safe, thus events
+    // of different entries do not need to wait for each other.
     @Subscribe
+    @AllowConcurrentEvents
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            citationKeyIndex.updateEntry(event.getBibEntry());
+        }
+        eventBus.post(event);
+    }
+
+    @Subscribe
+    @AllowConcurrentEvents
+    private void relayEntryChangeEvent(FieldsChangedEvent event) {
+        citationKeyIndex.updateEntry(event.getBibEntry());
         eventBus.post(event);
     }
 
@@ -608,10 +676,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return citationKeyIndex.getNumberOfEntries(key);
     }
 
     /**
@@ -655,4 +720,10 @@ public class BibDatabase {
     public int hashCode() {
         return Objects.hash(entries, bibtexStrings, preamble, epilog, sharedDatabaseID, newLineSeparator);
     }
+
+    /**
+     * @param version the value of {@link #entriesVersion} the copy was started at
+     */
+    private record EntriesSnapshot(long version, List<BibEntry> entries) {
+    }
 }
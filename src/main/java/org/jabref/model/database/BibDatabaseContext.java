@@ -13,6 +13,9 @@ import org.jabref.gui.LibraryTab;
 import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.logic.crawler.Crawler;
 import org.jabref.logic.crawler.StudyRepository;
+import org.jabref.logic.database.DuplicateIndex;
+import org.jabref.logic.groups.GroupMembershipIndex;
+import org.jabref.logic.search.EntrySearchIndex;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.shared.DatabaseSynchronizer;
 import org.jabref.logic.util.CoarseChangeFilter;
@@ -52,6 +55,9 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private DuplicateIndex duplicateIndex;
+    private EntrySearchIndex searchIndex;
+    private GroupMembershipIndex groupMembershipIndex;
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -239,6 +245,39 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    /**
+     * Returns the index used to find duplicates of entries in this library.
+     * The index is created on first use and kept up to date afterwards.
+     */
+    public synchronized DuplicateIndex getDuplicateIndex() {
+        if (duplicateIndex == null) {
+            duplicateIndex = new DuplicateIndex(database);
+        }
+        return duplicateIndex;
+    }
+
+    /**
+     * Returns the index used to search the entries of this library.
+     * The index is created on first use and kept up to date afterwards.
+     */
+    public synchronized EntrySearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new EntrySearchIndex(database);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the index storing which entries of this library belong to which group.
+     * The index is created on first use and kept up to date afterwards.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
     /**
      * @return The path to store the lucene index files. One directory for each library.
      */
@@ -260,6 +299,18 @@ public class BibDatabaseContext {
         return indexPath;
     }
 
+    /**
+     * @return The path to store the number of entries of the library, next to the index of the linked files. Empty for
+     * unsaved libraries, as the number is only of use when the library is opened again.
+     */
+    public Optional<Path> getEntryCountPath() {
+        return getDatabasePath().map(databasePath -> {
+            // the prefix is derived from the full path, so that libraries with the same file name get different records
+            String fileName = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName() + "--entrycount";
+            return JabRefDesktop.getFulltextIndexBaseDirectory().resolve(fileName);
+        });
+    }
+
     @Override
     public String toString() {
         return "BibDatabaseContext{" +
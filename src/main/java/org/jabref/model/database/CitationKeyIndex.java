@@ -0,0 +1,109 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Maps citation keys to the entries of a {@link BibDatabase} carrying that key.
+ * <p>
+ * Entries are tracked by identity, because {@link BibEntry#equals(Object)} compares the (mutable) content.
+ * This way, change events of entries which are no longer part of the database are ignored.
+ */
+class CitationKeyIndex {
+
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    /**
+     * The key under which each entry is currently indexed ({@code null} if the entry has no citation key)
+     */
+    private final Map<BibEntry, String> indexedKeys = new IdentityHashMap<>();
+
+    public synchronized void addEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            if (indexedKeys.containsKey(entry)) {
+                continue;
+            }
+            String key = entry.getCitationKey().orElse(null);
+            indexedKeys.put(entry, key);
+            addToBucket(key, entry);
+        }
+    }
+
+    public synchronized void removeEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            if (indexedKeys.containsKey(entry)) {
+                removeFromBucket(indexedKeys.remove(entry), entry);
+            }
+        }
+    }
+
+    /**
+     * Moves the given entry to the bucket of its current citation key. Does nothing if the entry is not indexed.
+     */
+    public synchronized void updateEntry(BibEntry entry) {
+        if (!indexedKeys.containsKey(entry)) {
+            return;
+        }
+        String newKey = entry.getCitationKey().orElse(null);
+        String oldKey = indexedKeys.put(entry, newKey);
+        if (!Objects.equals(oldKey, newKey)) {
+            removeFromBucket(oldKey, entry);
+            addToBucket(newKey, entry);
+        }
+    }
+
+    /**
+     * Returns the entries having the given key. The order of the list is the insertion order into the index, which
+     * might differ from the order of the database in case of key changes.
+     */
+    public synchronized List<BibEntry> getEntries(String key) {
+        List<BibEntry> bucket = entriesByKey.get(key);
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(bucket);
+    }
+
+    public synchronized Optional<BibEntry> getSingleEntry(String key) {
+        List<BibEntry> bucket = entriesByKey.get(key);
+        if ((bucket == null) || (bucket.size() != 1)) {
+            return Optional.empty();
+        }
+        return Optional.of(bucket.getFirst());
+    }
+
+    public synchronized int getNumberOfEntries(String key) {
+        List<BibEntry> bucket = entriesByKey.get(key);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    private void addToBucket(String key, BibEntry entry) {
+        if (key == null) {
+            return;
+        }
+        entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeFromBucket(String key, BibEntry entry) {
+        if (key == null) {
+            return;
+        }
+        List<BibEntry> bucket = entriesByKey.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.removeIf(candidate -> candidate == entry);
+        if (bucket.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+}
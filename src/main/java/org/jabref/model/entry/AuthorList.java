@@ -1,10 +1,7 @@
 package org.jabref.model.entry;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -12,6 +9,10 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE> or <CODE>editor</CODE> field in bibtex record.
  * <p>
@@ -117,7 +118,22 @@ import org.jabref.logic.importer.AuthorListParser;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList {
 
-    private static final Map<String, AuthorList> AUTHOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * Number of parsed author strings kept. Enough for the names of large libraries, which are parsed again and again
+     * when sorting, formatting, and generating citation keys.
+     */
+    private static final int CACHE_SIZE = 50_000;
+
+    /**
+     * The cache is split into segments, so that threads parsing in parallel rarely wait for each other; reads do not
+     * lock at all. The least recently used author strings are evicted first.
+     */
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                              .maximumSize(CACHE_SIZE)
+                                                                              .concurrencyLevel(Math.max(4, Runtime.getRuntime().availableProcessors()))
+                                                                              .recordStats()
+                                                                              .build();
+
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
@@ -172,8 +188,9 @@ public class AuthorList {
     public static AuthorList parse(final String authors) {
         Objects.requireNonNull(authors);
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
         if (authorList == null) {
+            // Parsing is done outside the cache, as concurrently parsing the same string twice is cheaper than blocking
             AuthorListParser parser = new AuthorListParser();
             authorList = parser.parse(authors);
             AUTHOR_CACHE.put(authors, authorList);
@@ -181,6 +198,21 @@ public class AuthorList {
         return authorList;
     }
 
+    /**
+     * Same as {@link #parse(String)} followed by {@link #latexFree()}. The LaTeX-free list is kept with the cached
+     * list of the given string.
+     */
+    public static AuthorList parseLatexFree(final String authors) {
+        return parse(authors).latexFree();
+    }
+
+    /**
+     * Returns the hit and miss statistics of the cache used by {@link #parse(String)}
+     */
+    public static CacheStats getCacheStats() {
+        return AUTHOR_CACHE.stats();
+    }
+
     /**
      * This is a convenience method for getAuthorsFirstFirst()
      *
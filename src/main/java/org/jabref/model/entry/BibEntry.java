@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -32,6 +31,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -43,8 +43,8 @@ import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.MultiKeyMap;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
@@ -95,30 +95,36 @@ public class BibEntry implements Cloneable {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
-    private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Most entries have only one listener, the library containing them. These entries share one event bus per listener
+     * instead of having an own one, see {@link #registerListener(Object)}. The bus is collected together with the last
+     * entry using it.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private static final Map<Object, EventBus> SHARED_EVENT_BUSES = new MapMaker().weakKeys().weakValues().makeMap();
+
+    private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Caches of derived field values, created on first use
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile FieldCaches fieldCaches;
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Null as long as no listener is registered
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile EventBus eventBus;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * The only listener, if {@link #eventBus} is shared with other entries
+     */
+    private Object sharedEventBusListener;
 
     private String id;
 
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObservableMap<Field, String> fields = FXCollections.observableMap(new CompactFieldMap());
 
     /**
      * The part before the start of the entry
@@ -371,7 +377,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -439,7 +445,7 @@ public class BibEntry implements Cloneable {
         this.type.setValue(newType);
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -463,7 +469,9 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+        }
+        Map<Field, String> latexFreeFields = getFieldCaches().latexFreeFields;
+        if (latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
@@ -622,9 +630,9 @@ public class BibEntry implements Cloneable {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -667,10 +675,56 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
+    /**
+     * Sets the type and the fields of this entry, removing all fields not contained in the given map. In contrast to
+     * setting each field, listeners are notified only once by a {@link FieldsChangedEvent}.
+     *
+     * @param newType     the type to set
+     * @param newFields   the fields to set; fields with an empty value are removed
+     * @param eventSource Source the event is sent from
+     * @return the changes of the type and the fields, empty if the entry already has the given content
+     */
+    public List<FieldChange> setContent(EntryType newType, Map<Field, String> newFields, EntriesEventSource eventSource) {
+        Objects.requireNonNull(newType);
+        Objects.requireNonNull(newFields);
+        Objects.requireNonNull(eventSource);
+
+        List<FieldChange> changes = new ArrayList<>();
+        EntryType oldType = type.get();
+        if (!newType.equals(oldType)) {
+            this.type.setValue(newType);
+            changes.add(new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName()));
+        }
+
+        for (Field field : List.copyOf(fields.keySet())) {
+            String newValue = newFields.get(field);
+            if ((newValue == null) || newValue.isEmpty()) {
+                invalidateFieldCache(field);
+                String oldValue = fields.remove(field);
+                changes.add(new FieldChange(this, field, oldValue, null));
+            }
+        }
+
+        newFields.forEach((field, value) -> {
+            String oldValue = fields.get(field);
+            if (!value.isEmpty() && !value.equals(oldValue)) {
+                invalidateFieldCache(field);
+                fields.put(field, value.intern());
+                changes.add(new FieldChange(this, field, oldValue, value));
+            }
+        });
+
+        if (!changes.isEmpty()) {
+            changed = true;
+            postEvent(new FieldsChangedEvent(this, changes, eventSource));
+        }
+        return changes;
+    }
+
     /**
      * Determines whether this entry has all the given fields present. If a non-null
      * database argument is given, this method will try to look up missing fields in
@@ -692,7 +746,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = FXCollections.observableMap(new CompactFieldMap(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -929,11 +983,43 @@ public class BibEntry implements Cloneable {
         return Objects.hash(commentsBeforeEntry, type.getValue(), fields);
     }
 
-    public void registerListener(Object object) {
-        this.eventBus.register(object);
+    /**
+     * Registers a listener for the events of this entry, see {@link EventBus#register(Object)}.
+     * <p>
+     * As long as the listener is the only one, this entry uses an event bus shared with all other entries having only
+     * this listener. This saves an event bus for each entry of a library, which registers itself at all its entries.
+     */
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            sharedEventBusListener = object;
+            eventBus = SHARED_EVENT_BUSES.computeIfAbsent(object, BibEntry::createEventBus);
+            return;
+        }
+        if (sharedEventBusListener != null) {
+            if (sharedEventBusListener == object) {
+                // same as registering twice at an event bus
+                return;
+            }
+            EventBus ownEventBus = createEventBus(sharedEventBusListener);
+            ownEventBus.register(object);
+            sharedEventBusListener = null;
+            eventBus = ownEventBus;
+            return;
+        }
+        eventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (sharedEventBusListener != null && sharedEventBusListener == object) {
+            sharedEventBusListener = null;
+            eventBus = null;
+            return;
+        }
+        if ((eventBus == null) || (sharedEventBusListener != null)) {
+            // the event source has not been registered, should not prevent shutdown
+            LOGGER.debug("Problem unregistering: {} is not registered", object);
+            return;
+        }
         try {
             this.eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
@@ -942,6 +1028,19 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    private static EventBus createEventBus(Object listener) {
+        EventBus eventBus = new EventBus();
+        eventBus.register(listener);
+        return eventBus;
+    }
+
+    private void postEvent(Object event) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -952,7 +1051,7 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = FXCollections.observableMap(new CompactFieldMap(content));
         this.setChanged(false);
         return this;
     }
@@ -992,6 +1091,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        Map<Field, Set<String>> fieldsAsWords = getFieldCaches().fieldsAsWords;
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1008,20 +1108,16 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
-            if (storedList.isPresent()) {
-                return storedList.get();
-            }
+        Map<Character, KeywordList> keywordsBySeparator = getFieldCaches().fieldsAsKeywords.computeIfAbsent(field, key -> new ConcurrentHashMap<>());
+        KeywordList storedList = keywordsBySeparator.get(keywordSeparator);
+        if (storedList != null) {
+            return storedList;
         }
 
         KeywordList keywords = getField(field)
                 .map(content -> KeywordList.parse(content, keywordSeparator))
                 .orElse(new KeywordList());
-
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
-        }
+        keywordsBySeparator.put(keywordSeparator, keywords);
         return keywords;
     }
 
@@ -1030,12 +1126,22 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        FieldCaches caches = fieldCaches;
+        if (caches != null) {
+            caches.latexFreeFields.remove(field);
+            caches.fieldsAsWords.remove(field);
+            caches.fieldsAsKeywords.remove(field);
+        }
+    }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+    private FieldCaches getFieldCaches() {
+        FieldCaches caches = fieldCaches;
+        if (caches == null) {
+            // if two threads create the caches at the same time, the values cached in one of them are computed again
+            caches = new FieldCaches();
+            fieldCaches = caches;
         }
+        return caches;
     }
 
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
@@ -1190,4 +1296,21 @@ public class BibEntry implements Cloneable {
         }
         return StandardField.AUTOMATIC_FIELDS.containsAll(this.getFields());
     }
+
+    private static final class FieldCaches {
+        /**
+         * Map to store the words in every field
+         */
+        private final Map<Field, Set<String>> fieldsAsWords = new ConcurrentHashMap<>();
+
+        /**
+         * Cache that stores latex free versions of fields.
+         */
+        private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+
+        /**
+         * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+         */
+        private final Map<Field, Map<Character, KeywordList>> fieldsAsKeywords = new ConcurrentHashMap<>();
+    }
 }
@@ -0,0 +1,182 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of a {@link BibEntry} in a single array, keys at even and values at odd indexes.
+ * <p>
+ * An entry has only a few fields, so a linear search is as fast as hashing, and the array needs much less memory than
+ * the table and the nodes of a {@link java.util.concurrent.ConcurrentHashMap}. Like the latter, the map can be read
+ * concurrently: modifications are synchronized and replace the array by a modified copy, reads and iterations work on
+ * the array which is current when they start.
+ * <p>
+ * Null keys and values are not supported. The iteration order is the insertion order.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] keysAndValues = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> fields) {
+        Object[] array = new Object[fields.size() * 2];
+        int i = 0;
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            array[i++] = Objects.requireNonNull(field.getKey());
+            array[i++] = Objects.requireNonNull(field.getValue());
+        }
+        this.keysAndValues = array;
+    }
+
+    private static int indexOf(Object[] array, Object key) {
+        for (int i = 0; i < array.length; i += 2) {
+            if (array[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return keysAndValues.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keysAndValues.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(keysAndValues, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        Object[] array = keysAndValues;
+        int index = indexOf(array, key);
+        return index < 0 ? null : (String) array[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Object[] array = keysAndValues;
+        int index = indexOf(array, key);
+        if (index >= 0) {
+            Object[] newArray = array.clone();
+            newArray[index + 1] = value;
+            keysAndValues = newArray;
+            return (String) array[index + 1];
+        }
+        Object[] newArray = Arrays.copyOf(array, array.length + 2);
+        newArray[array.length] = key;
+        newArray[array.length + 1] = value;
+        keysAndValues = newArray;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        Object[] array = keysAndValues;
+        int index = indexOf(array, key);
+        if (index < 0) {
+            return null;
+        }
+        Object[] newArray = new Object[array.length - 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+        keysAndValues = newArray;
+        return (String) array[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        keysAndValues = EMPTY;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Field, ? super String> action) {
+        Object[] array = keysAndValues;
+        for (int i = 0; i < array.length; i += 2) {
+            action.accept((Field) array[i], (String) array[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Field, String>> iterator() {
+                return new EntryIterator(keysAndValues);
+            }
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<Field, String>> {
+        private final Object[] array;
+        private int next;
+        private Field last;
+
+        EntryIterator(Object[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < array.length;
+        }
+
+        @Override
+        public Map.Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = (Field) array[next];
+            Map.Entry<Field, String> entry = new WriteThroughEntry(last, (String) array[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(last);
+            last = null;
+        }
+    }
+
+    private class WriteThroughEntry extends AbstractMap.SimpleEntry<Field, String> {
+        WriteThroughEntry(Field key, String value) {
+            super(key, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
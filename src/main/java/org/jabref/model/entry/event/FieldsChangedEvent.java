@@ -0,0 +1,31 @@
+package org.jabref.model.entry.event;
+
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * <code>FieldsChangedEvent</code> is fired when several fields (and possibly the type) of a <code>BibEntry</code> have
+ * been changed at once, e.g., when the entry is replaced by its shared version. In contrast to
+ * {@link FieldChangedEvent}, only one event is fired for all changes.
+ */
+public class FieldsChangedEvent extends EntryChangedEvent {
+
+    private final List<FieldChange> changes;
+
+    /**
+     * @param bibEntry Affected BibEntry object
+     * @param changes  the changes of the fields; a change of the type is given as change of
+     *                 {@link org.jabref.model.entry.field.InternalField#TYPE_HEADER}
+     * @param location Location affected by this event
+     */
+    public FieldsChangedEvent(BibEntry bibEntry, List<FieldChange> changes, EntriesEventSource location) {
+        super(bibEntry, location);
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
@@ -17,6 +18,8 @@ import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.OptionalUtil;
 
+import com.google.common.collect.MapMaker;
+
 public class FieldFactory {
 
     /**
@@ -26,6 +29,13 @@ public class FieldFactory {
     private static final String FIELD_OR_SEPARATOR = "/";
     private static final String DELIMITER = ";";
 
+    /**
+     * Unknown fields are shared between all entries having them, instead of creating a new instance for each entry.
+     * The key is the name as written by the user, which is kept as display name. Fields no longer used by any entry are
+     * removed.
+     */
+    private static final Map<String, UnknownField> UNKNOWN_FIELDS = new MapMaker().weakValues().makeMap();
+
     public static String serializeOrFields(Field... fields) {
         return serializeOrFields(new OrFields(fields));
     }
@@ -115,7 +125,7 @@ public class FieldFactory {
               BiblatexSoftwareField.fromName(type, fieldName)),
               BiblatexApaField.fromName(type, fieldName)),
               AMSField.fromName(type, fieldName))
-              .orElse(UnknownField.fromDisplayName(fieldName));
+              .orElseGet(() -> UNKNOWN_FIELDS.computeIfAbsent(fieldName, UnknownField::fromDisplayName));
     }
 
     public static Field parseField(String fieldName) {
@@ -1,5 +1,6 @@
 package org.jabref.model.entry.field;
 
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Objects;
@@ -7,8 +8,12 @@ import java.util.Set;
 
 import org.jabref.model.strings.StringUtil;
 
+/**
+ * A field not known to JabRef. Instances are shared between all entries having the field, see
+ * {@link FieldFactory#parseField(String)}, thus they are immutable.
+ */
 public class UnknownField implements Field {
-    private String name;
+    private final String name;
     private final Set<FieldProperty> properties;
     private final String displayName;
 
@@ -19,7 +24,7 @@ public class UnknownField implements Field {
     public UnknownField(String name, String displayName) {
         this.name = name;
         this.displayName = displayName;
-        this.properties = EnumSet.noneOf(FieldProperty.class);
+        this.properties = Collections.unmodifiableSet(EnumSet.noneOf(FieldProperty.class));
     }
 
     public UnknownField(String name, FieldProperty first, FieldProperty... rest) {
@@ -29,7 +34,7 @@ public class UnknownField implements Field {
     public UnknownField(String name, String displayName, FieldProperty first, FieldProperty... rest) {
         this.name = name;
         this.displayName = displayName;
-        this.properties = EnumSet.of(first, rest);
+        this.properties = Collections.unmodifiableSet(EnumSet.of(first, rest));
     }
 
     public static UnknownField fromDisplayName(String displayName) {
@@ -46,10 +51,6 @@ public class UnknownField implements Field {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     @Override
     public String getDisplayName() {
         return displayName;
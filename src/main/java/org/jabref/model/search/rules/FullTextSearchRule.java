@@ -29,13 +29,15 @@ public abstract class FullTextSearchRule implements SearchRule {
 
     protected final EnumSet<SearchRules.SearchFlags> searchFlags;
 
-    protected String lastQuery;
-    protected List<SearchResult> lastPdfSearchResults;
+    /**
+     * The rule is applied to many entries in parallel, e.g., when filtering the main table. Thus, the query and its
+     * results are replaced together, and the full text index is searched by one thread only.
+     */
+    private volatile FulltextResults lastResults;
 
     public FullTextSearchRule(EnumSet<SearchRules.SearchFlags> searchFlags) {
         this.searchFlags = searchFlags;
-        this.lastQuery = "";
-        lastPdfSearchResults = Collections.emptyList();
+        this.lastResults = new FulltextResults("", Collections.emptyList());
     }
 
     public EnumSet<SearchRules.SearchFlags> getSearchFlags() {
@@ -49,32 +51,48 @@ public abstract class FullTextSearchRule implements SearchRule {
             return new PdfSearchResults();
         }
 
-        if (query.equals(this.lastQuery)) {
-            LOGGER.trace("Reusing fulltext search results (query={}, lastQuery={}).", query, this.lastQuery);
-        } else {
-            LOGGER.trace("Performing full query {}.", query);
-            PdfIndexer pdfIndexer;
-            try {
-                pdfIndexer = PdfIndexerManager.getIndexer(Globals.stateManager.getActiveDatabase().get(), Globals.prefs.getFilePreferences());
-            } catch (IOException e) {
-                LOGGER.error("Could not access full text index.", e);
-                return new PdfSearchResults();
+        // We found a number of PDF files, now we need to relate it to the current BibEntry
+        return new PdfSearchResults(getPdfSearchResults(query).stream()
+                                                              .filter(searchResult -> searchResult.isResultFor(bibEntry))
+                                                              .toList());
+    }
+
+    private List<SearchResult> getPdfSearchResults(String query) {
+        FulltextResults results = lastResults;
+        if (query.equals(results.query())) {
+            LOGGER.trace("Reusing fulltext search results (query={}).", query);
+            return results.pdfSearchResults();
+        }
+        synchronized (this) {
+            results = lastResults;
+            if (query.equals(results.query())) {
+                // another thread searched for the query in the meantime
+                return results.pdfSearchResults();
             }
-            this.lastQuery = query;
-            lastPdfSearchResults = Collections.emptyList();
+            LOGGER.trace("Performing full query {}.", query);
+            List<SearchResult> pdfSearchResults;
             try {
-                PdfSearcher searcher = PdfSearcher.of(pdfIndexer);
-                PdfSearchResults results = searcher.search(query, 5);
-                lastPdfSearchResults = results.getSortedByScore();
+                pdfSearchResults = searchFulltext(query);
             } catch (IOException e) {
                 LOGGER.error("Could not retrieve search results.", e);
-                return new PdfSearchResults();
+                pdfSearchResults = Collections.emptyList();
             }
+            lastResults = new FulltextResults(query, pdfSearchResults);
+            return pdfSearchResults;
         }
+    }
 
-        // We found a number of PDF files, now we need to relate it to the current BibEntry
-        return new PdfSearchResults(lastPdfSearchResults.stream()
-                                                        .filter(searchResult -> searchResult.isResultFor(bibEntry))
-                                                        .toList());
+    /**
+     * Searches the full text index of the active library
+     *
+     * @return the results sorted by score
+     */
+    protected List<SearchResult> searchFulltext(String query) throws IOException {
+        PdfIndexer pdfIndexer = PdfIndexerManager.getIndexer(Globals.stateManager.getActiveDatabase().get(), Globals.prefs.getFilePreferences());
+        PdfSearcher searcher = PdfSearcher.of(pdfIndexer);
+        return searcher.search(query, 5).getSortedByScore();
+    }
+
+    private record FulltextResults(String query, List<SearchResult> pdfSearchResults) {
     }
 }
@@ -5,17 +5,17 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.model.strings.StringUtil;
@@ -38,6 +38,9 @@ import org.slf4j.LoggerFactory;
  * The search query must be specified in an expression that is acceptable by the Search.g4 grammar.
  * <p>
  * This class implements the "Advanced Search Mode" described in the help
+ * <p>
+ * The parsed expression is compiled once per query into a tree of predicates, with the patterns compiled and the
+ * fields resolved, so that matching an entry does not need to walk the parse tree.
  */
 @AllowedToUseLogic("Because access to the lucene index is needed")
 public class GrammarBasedSearchRule extends FullTextSearchRule {
@@ -47,6 +50,7 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
     private final EnumSet<SearchFlags> searchFlags;
 
     private ParseTree tree;
+    private Predicate<BibEntry> compiledExpression;
     private String query;
     private List<SearchResult> searchResults = new ArrayList<>();
 
@@ -92,13 +96,14 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancellationException on parse errors
         tree = parser.start();
+        compiledExpression = new ExpressionCompiler(searchFlags).visit(tree);
         this.query = query;
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(searchFlags, bibEntry).visit(tree);
+            return compiledExpression.test(bibEntry);
         } catch (Exception e) {
             LOGGER.info("Search failed", e);
             return false;
@@ -140,35 +145,69 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
 
+        // The special cases and the field are determined once, as the field pattern does not depend on the entry
+        private final boolean isTypeSearch;
+        private final boolean isKeywordSearch;
+        private final boolean isAnyFieldSearch;
+        private final Optional<Field> resolvedField;
+
         public Comparator(String field, String value, ComparisonOperator operator, EnumSet<SearchFlags> searchFlags) {
             this.operator = operator;
 
             int option = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? StringUtil.stripAccents(field) : "\\Q" + StringUtil.stripAccents(field) + "\\E", option);
             this.valuePattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? StringUtil.stripAccents(value) : "\\Q" + StringUtil.stripAccents(value) + "\\E", option);
+
+            // special case for searching for entrytype=phdthesis
+            this.isTypeSearch = fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+            // special case for searching a single keyword
+            this.isKeywordSearch = fieldPattern.matcher("anykeyword").matches();
+            // special case for searching allfields=cat and title=dog
+            this.isAnyFieldSearch = fieldPattern.matcher("anyfield").matches();
+            this.resolvedField = resolveField(field, searchFlags);
+        }
+
+        /**
+         * A field name which is not a regular expression denotes a single field, which can be looked up directly
+         * instead of matching the names of all fields of the entry. Unknown fields are compared case-insensitively by
+         * their name, hence they are still matched by name.
+         */
+        private Optional<Field> resolveField(String fieldName, EnumSet<SearchFlags> searchFlags) {
+            if (searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION)) {
+                return Optional.empty();
+            }
+            Field field = FieldFactory.parseField(StringUtil.stripAccents(fieldName));
+            if ((field instanceof UnknownField) || !fieldPattern.matcher(field.getName()).matches()) {
+                return Optional.empty();
+            }
+            return Optional.of(field);
         }
 
         public boolean compare(BibEntry entry) {
-            // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (isTypeSearch) {
                 return matchFieldValue(entry.getType().getName());
             }
 
-            // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (isKeywordSearch) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
-            // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
-
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
+            if (!isAnyFieldSearch && resolvedField.isPresent()) {
+                Optional<String> fieldValue = entry.getFieldLatexFree(resolvedField.get());
+                if (fieldValue.isPresent()) {
+                    return matchFieldValue(StringUtil.stripAccents(fieldValue.get()));
+                }
+                // special case of asdf!=whatever and entry does not contain asdf
+                return operator == ComparisonOperator.DOES_NOT_CONTAIN;
             }
 
-            for (Field field : fieldsKeys) {
+            // specification of fieldsKeys to search is done in the search expression itself
+            boolean anyFieldSearched = false;
+            for (Field field : entry.getFields()) {
+                if (!isAnyFieldSearch && !fieldPattern.matcher(field.getName()).matches()) {
+                    continue;
+                }
+                anyFieldSearched = true;
                 Optional<String> fieldValue = entry.getFieldLatexFree(field);
                 if (fieldValue.isPresent()) {
                     if (matchFieldValue(StringUtil.stripAccents(fieldValue.get()))) {
@@ -178,11 +217,7 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
-        }
-
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+            return !anyFieldSearched && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
         public boolean matchFieldValue(String content) {
@@ -200,30 +235,24 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a search expression into a predicate. The comparators are created here, hence the
+     * patterns of a query are compiled only once.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class ExpressionCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final EnumSet<SearchFlags> searchFlags;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(EnumSet<SearchFlags> searchFlags, BibEntry bibEntry) {
+        public ExpressionCompiler(EnumSet<SearchFlags> searchFlags) {
             this.searchFlags = searchFlags;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, searchFlags).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -232,28 +261,35 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
-            } else {
-                return SearchRules.getSearchRule(searchFlags).applyRule(right, entry);
+                Comparator comparator = new Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), searchFlags);
+                return comparator::compare;
+            }
+
+            String term = right;
+            if (searchFlags.contains(SearchFlags.FULLTEXT)) {
+                // the full text rules cache the last results without synchronization, thus they are not shared
+                return entry -> SearchRules.getSearchRule(searchFlags).applyRule(term, entry);
             }
+            SearchRule rule = SearchRules.getSearchRule(searchFlags);
+            return entry -> rule.applyRule(term, entry);
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return visit(ctx.left).and(visit(ctx.right));
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return visit(ctx.left).or(visit(ctx.right));
             }
         }
     }
@@ -1,12 +1,26 @@
 package org.jabref.model.study;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * data model for the view {@link org.jabref.gui.slr.StudyCatalogItem}
+ * <p>
+ * The optional limits of the requests sent to the catalog during a crawl are not part of {@link #equals(Object)}, as
+ * they do not change which catalogs are searched.
  */
 public class StudyDatabase {
     private String name;
     private boolean enabled;
 
+    @JsonProperty("max-concurrent-requests")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer maxConcurrentRequests;
+
+    @JsonProperty("requests-per-minute")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer requestsPerMinute;
+
     public StudyDatabase(String name, boolean enabled) {
         this.name = name;
         this.enabled = enabled;
@@ -36,6 +50,28 @@ public class StudyDatabase {
         this.enabled = enabled;
     }
 
+    /**
+     * @return the maximum number of requests sent to the catalog at the same time, null if not configured
+     */
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(Integer maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * @return the maximum number of requests sent to the catalog per minute, null if not configured
+     */
+    public Integer getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public void setRequestsPerMinute(Integer requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -65,6 +101,8 @@ public class StudyDatabase {
         return "LibraryEntry{" +
                 "name='" + name + '\'' +
                 ", enabled=" + enabled +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", requestsPerMinute=" + requestsPerMinute +
                 '}';
     }
 }
@@ -32,6 +32,7 @@ public class FilePreferences {
     private final StringProperty fileDirectoryPattern = new SimpleStringProperty();
     private final BooleanProperty downloadLinkedFiles = new SimpleBooleanProperty();
     private final BooleanProperty fulltextIndexLinkedFiles = new SimpleBooleanProperty();
+    private final BooleanProperty persistEntryCount = new SimpleBooleanProperty();
     private final ObjectProperty<Path> workingDirectory = new SimpleObjectProperty<>();
     private final ObservableSet<ExternalFileType> externalFileTypes = FXCollections.observableSet(new TreeSet<>(Comparator.comparing(ExternalFileType::getName)));
     private final BooleanProperty createBackup = new SimpleBooleanProperty();
@@ -46,6 +47,7 @@ public class FilePreferences {
                            String fileDirectoryPattern,
                            boolean downloadLinkedFiles,
                            boolean fulltextIndexLinkedFiles,
+                           boolean persistEntryCount,
                            Path workingDirectory,
                            Set<ExternalFileType> externalFileTypes,
                            boolean createBackup,
@@ -59,6 +61,7 @@ public class FilePreferences {
         this.fileDirectoryPattern.setValue(fileDirectoryPattern);
         this.downloadLinkedFiles.setValue(downloadLinkedFiles);
         this.fulltextIndexLinkedFiles.setValue(fulltextIndexLinkedFiles);
+        this.persistEntryCount.setValue(persistEntryCount);
         this.workingDirectory.setValue(workingDirectory);
         this.externalFileTypes.addAll(externalFileTypes);
         this.createBackup.setValue(createBackup);
@@ -151,6 +154,18 @@ public class FilePreferences {
         this.fulltextIndexLinkedFiles.set(shouldFulltextIndexLinkedFiles);
     }
 
+    public boolean shouldPersistEntryCount() {
+        return persistEntryCount.get();
+    }
+
+    public BooleanProperty persistEntryCountProperty() {
+        return persistEntryCount;
+    }
+
+    public void setPersistEntryCount(boolean shouldPersistEntryCount) {
+        this.persistEntryCount.set(shouldPersistEntryCount);
+    }
+
     public Path getWorkingDirectory() {
         return workingDirectory.get();
     }
@@ -429,6 +429,7 @@ public class JabRefPreferences implements PreferencesService {
     private static final String PREFS_EXPORT_PATH = "prefsExportPath";
     private static final String DOWNLOAD_LINKED_FILES = "downloadLinkedFiles";
     private static final String FULLTEXT_INDEX_LINKED_FILES = "fulltextIndexLinkedFiles";
+    private static final String PERSIST_ENTRY_COUNT = "persistEntryCount";
 
     // Helper string
     private static final String USER_HOME = System.getProperty("user.home");
@@ -776,6 +777,7 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(DOWNLOAD_LINKED_FILES, true);
         // Create Fulltext-Index by default
         defaults.put(FULLTEXT_INDEX_LINKED_FILES, true);
+        defaults.put(PERSIST_ENTRY_COUNT, false);
 
         String defaultExpression = "**/.*[citationkey].*\\\\.[extension]";
         defaults.put(AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY, defaultExpression);
@@ -2198,6 +2200,7 @@ public class JabRefPreferences implements PreferencesService {
                 get(IMPORT_FILEDIRPATTERN),
                 getBoolean(DOWNLOAD_LINKED_FILES),
                 getBoolean(FULLTEXT_INDEX_LINKED_FILES),
+                getBoolean(PERSIST_ENTRY_COUNT),
                 Path.of(get(WORKING_DIRECTORY)),
                 ExternalFileTypes.fromString(get(EXTERNAL_FILE_TYPES)),
                 getBoolean(CREATE_BACKUP),
@@ -2213,6 +2216,7 @@ public class JabRefPreferences implements PreferencesService {
         EasyBind.listen(filePreferences.fileDirectoryPatternProperty(), (obs, oldValue, newValue) -> put(IMPORT_FILEDIRPATTERN, newValue));
         EasyBind.listen(filePreferences.downloadLinkedFilesProperty(), (obs, oldValue, newValue) -> putBoolean(DOWNLOAD_LINKED_FILES, newValue));
         EasyBind.listen(filePreferences.fulltextIndexLinkedFilesProperty(), (obs, oldValue, newValue) -> putBoolean(FULLTEXT_INDEX_LINKED_FILES, newValue));
+        EasyBind.listen(filePreferences.persistEntryCountProperty(), (obs, oldValue, newValue) -> putBoolean(PERSIST_ENTRY_COUNT, newValue));
         EasyBind.listen(filePreferences.workingDirectoryProperty(), (obs, oldValue, newValue) -> put(WORKING_DIRECTORY, newValue.toString()));
         filePreferences.getExternalFileTypes().addListener((SetChangeListener<ExternalFileType>) c ->
                 put(EXTERNAL_FILE_TYPES, ExternalFileTypes.toStringList(filePreferences.getExternalFileTypes())));
@@ -0,0 +1,156 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupJournalTest {
+
+    private Path snapshotPath;
+    private BibDatabase database;
+    private BackupJournal journal;
+
+    private final BibEntry first = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("first")
+            .withField(StandardField.TITLE, "First title");
+    private final BibEntry second = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("second")
+            .withField(StandardField.TITLE, "Second title");
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        snapshotPath = tempDir.resolve("library.bib--2023-01-01--00.00.00.bak");
+        database = new BibDatabase(List.of(first, second));
+        journal = new BackupJournal(snapshotPath, List.of(first, second));
+        journal.writeHeader();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                if (event instanceof EntriesEvent entriesEvent) {
+                    journal.record(entriesEvent);
+                }
+            }
+        });
+    }
+
+    /**
+     * Simulates parsing the full backup, which creates new entry objects
+     */
+    private BibDatabase parseSnapshot() {
+        return new BibDatabase(List.of(
+                new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("first")
+                        .withField(StandardField.TITLE, "First title"),
+                new BibEntry(StandardEntryType.Book)
+                        .withCitationKey("second")
+                        .withField(StandardField.TITLE, "Second title")));
+    }
+
+    @Test
+    void newJournalHasNoChanges() throws Exception {
+        assertFalse(BackupJournal.hasChanges(snapshotPath));
+        assertEquals(0, journal.flush());
+    }
+
+    @Test
+    void replayAppliesRecordedChanges() throws Exception {
+        first.setField(StandardField.TITLE, "Changed title");
+        first.setType(StandardEntryType.InProceedings);
+        second.clearField(StandardField.TITLE);
+        database.removeEntry(second);
+        BibEntry added = new BibEntry(StandardEntryType.Misc).withField(StandardField.NOTE, "new entry");
+        database.insertEntry(added);
+        added.setField(StandardField.YEAR, "2023");
+        journal.flush();
+
+        assertTrue(BackupJournal.hasChanges(snapshotPath));
+
+        BibDatabase restored = parseSnapshot();
+        BackupJournal.replay(snapshotPath, restored);
+
+        assertEquals(database.getEntries(), restored.getEntries());
+    }
+
+    @Test
+    void changeOfRemovedEntryIsNotReplayed() throws Exception {
+        database.removeEntry(second);
+        second.setField(StandardField.TITLE, "Changed after removal");
+        journal.flush();
+
+        BibDatabase restored = parseSnapshot();
+        BackupJournal.replay(snapshotPath, restored);
+
+        assertEquals(List.of(first), restored.getEntries());
+    }
+
+    @Test
+    void entryEmptyWhenSnapshotWasWrittenIsAddedOnChange() throws Exception {
+        BibEntry empty = new BibEntry(StandardEntryType.Misc);
+        database.insertEntry(empty);
+        journal = new BackupJournal(snapshotPath, List.of(first, second), List.of(empty));
+        journal.writeHeader();
+
+        empty.setField(StandardField.NOTE, "filled after the snapshot");
+        journal.flush();
+
+        BibDatabase restored = parseSnapshot();
+        BackupJournal.replay(snapshotPath, restored);
+
+        assertEquals(List.of(first, second, empty), restored.getEntries());
+    }
+
+    @Test
+    void consecutiveChangesOfFieldAreRecordedOnce() throws Exception {
+        first.setField(StandardField.TITLE, "C");
+        long sizeOfOneChange = journal.flush();
+
+        first.setField(StandardField.TITLE, "Ch");
+        first.setField(StandardField.TITLE, "Cha");
+
+        assertEquals(sizeOfOneChange + "ha".length(), journal.flush());
+    }
+
+    @Test
+    void incompleteRecordAtEndIsIgnored() throws Exception {
+        first.setField(StandardField.TITLE, "Changed title");
+        journal.flush();
+        second.setField(StandardField.TITLE, "Another changed title");
+        journal.flush();
+        Path journalPath = BackupJournal.getJournalPath(snapshotPath);
+        byte[] content = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(content, content.length - 3));
+
+        BibDatabase restored = parseSnapshot();
+        BackupJournal.replay(snapshotPath, restored);
+
+        assertEquals(List.of(first, parseSnapshot().getEntries().get(1)), restored.getEntries());
+    }
+
+    @Test
+    void journalIsNotAppliedToDifferentSnapshot() throws Exception {
+        first.setField(StandardField.TITLE, "Changed title");
+        journal.flush();
+
+        BibDatabase restored = new BibDatabase(List.of(new BibEntry(StandardEntryType.Article).withCitationKey("first")));
+        BackupJournal.replay(snapshotPath, restored);
+
+        assertEquals(List.of(new BibEntry(StandardEntryType.Article).withCitationKey("first")), restored.getEntries());
+    }
+}
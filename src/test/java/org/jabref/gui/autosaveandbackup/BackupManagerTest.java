@@ -14,7 +14,10 @@ import org.jabref.logic.util.OS;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
@@ -188,4 +191,35 @@ public class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    public void entryChangeIsAppendedToJournalOfLatestBackup(@TempDir Path customDir) throws Exception {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+        Files.writeString(bibFile, "");
+        Files.setLastModifiedTime(bibFile, FileTime.fromMillis(0));
+
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title");
+        var database = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        database.setDatabasePath(bibFile);
+
+        var preferences = mock(PreferencesService.class, Answers.RETURNS_DEEP_STUBS);
+        BackupManager manager = new BackupManager(
+                mock(LibraryTab.class),
+                database,
+                mock(BibEntryTypesManager.class, Answers.RETURNS_DEEP_STUBS),
+                preferences);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        Path fullBackupPath = manager.determineBackupPathForNewBackup(backupDir).orElseThrow();
+        manager.performBackup(fullBackupPath);
+        assertFalse(BackupJournal.hasChanges(fullBackupPath));
+
+        entry.setField(StandardField.TITLE, "Changed title");
+        manager.determineBackupPathForNewBackup(backupDir).ifPresent(manager::performBackup);
+
+        assertEquals(List.of(fullBackupPath, BackupJournal.getJournalPath(fullBackupPath)), Files.list(backupDir).sorted().toList());
+        assertTrue(BackupJournal.hasChanges(fullBackupPath));
+        assertTrue(BackupManager.backupFileDiffers(bibFile, backupDir));
+    }
 }
@@ -9,6 +9,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.duplicationFinder.DuplicateResolverDialog;
 import org.jabref.gui.util.CurrentThreadTaskExecutor;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateIndex;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -58,6 +59,7 @@ class ImportHandlerTest {
         BibDatabase bibDatabase = new BibDatabase();
         when(bibDatabaseContext.getMode()).thenReturn(BibDatabaseMode.BIBTEX);
         when(bibDatabaseContext.getDatabase()).thenReturn(bibDatabase);
+        when(bibDatabaseContext.getDuplicateIndex()).thenReturn(new DuplicateIndex(bibDatabase));
         when(duplicateCheck.isDuplicate(any(), any(), any())).thenReturn(false);
         importHandler = new ImportHandler(
                 bibDatabaseContext,
@@ -0,0 +1,144 @@
+package org.jabref.gui.maintable;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.CurrentThreadTaskExecutor;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.model.search.rules.ContainsBasedSearchRule;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import com.tobiasdiez.easybind.EasyBind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MainTableFilterTest {
+
+    private final BibEntry entryByAuthorA = new BibEntry().withField(StandardField.AUTHOR, "A");
+    private final BibEntry entryByAuthorB = new BibEntry().withField(StandardField.AUTHOR, "B");
+    private ObservableList<BibEntry> entries;
+    private ObservableList<BibEntryTableViewModel> entriesViewModel;
+
+    @BeforeEach
+    void setUp() {
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext();
+        NameDisplayPreferences nameDisplayPreferences = new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL);
+        SimpleObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter = new SimpleObjectProperty<>(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
+        entries = FXCollections.observableArrayList(BibEntry::getObservables);
+        entries.addAll(entryByAuthorA, entryByAuthorB);
+        entriesViewModel = EasyBind.mapBacked(entries, entry -> new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
+    }
+
+    private static List<BibEntry> getShownEntries(MainTableFilter filter) {
+        return filter.getFilteredEntries().stream().map(BibEntryTableViewModel::getEntry).toList();
+    }
+
+    private static Optional<Predicate<BibEntry>> authorIs(String author) {
+        return Optional.of(entry -> entry.getField(StandardField.AUTHOR).equals(Optional.of(author)));
+    }
+
+    @Test
+    void showsOnlyMatchingEntries() {
+        MainTableFilter filter = new MainTableFilter(entriesViewModel, new CurrentThreadTaskExecutor());
+
+        filter.setMatcher(authorIs("A"));
+
+        assertEquals(List.of(entryByAuthorA), getShownEntries(filter));
+    }
+
+    @Test
+    void showsAllEntriesWithoutMatcher() {
+        MainTableFilter filter = new MainTableFilter(entriesViewModel, new CurrentThreadTaskExecutor());
+        filter.setMatcher(authorIs("A"));
+
+        filter.setMatcher(Optional.empty());
+
+        assertEquals(List.of(entryByAuthorA, entryByAuthorB), getShownEntries(filter));
+    }
+
+    @Test
+    void changedAndAddedEntriesAreMatchedAgain() {
+        MainTableFilter filter = new MainTableFilter(entriesViewModel, new CurrentThreadTaskExecutor());
+        filter.setMatcher(authorIs("A"));
+
+        entryByAuthorB.setField(StandardField.AUTHOR, "A");
+        BibEntry addedEntry = new BibEntry().withField(StandardField.AUTHOR, "A");
+        entries.add(addedEntry);
+
+        assertEquals(List.of(entryByAuthorA, entryByAuthorB, addedEntry), getShownEntries(filter));
+    }
+
+    @Test
+    void supersededResultIsDiscarded() {
+        TaskExecutor taskExecutor = mock(TaskExecutor.class);
+        MainTableFilter filter = new MainTableFilter(entriesViewModel, taskExecutor);
+
+        filter.setMatcher(authorIs("A"));
+        filter.setMatcher(authorIs("B"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<BackgroundTask<Object>> tasks = ArgumentCaptor.forClass(BackgroundTask.class);
+        verify(taskExecutor, times(2)).execute(tasks.capture());
+        CurrentThreadTaskExecutor currentThreadTaskExecutor = new CurrentThreadTaskExecutor();
+        currentThreadTaskExecutor.execute(tasks.getAllValues().get(1));
+        currentThreadTaskExecutor.execute(tasks.getAllValues().get(0));
+
+        assertEquals(List.of(entryByAuthorB), getShownEntries(filter));
+    }
+
+    @Test
+    void fulltextHitsAreFoundWhenMatchingInParallel() {
+        SearchResult pdfSearchResult = mock(SearchResult.class);
+        when(pdfSearchResult.isResultFor(any())).thenAnswer(invocation ->
+                invocation.<BibEntry>getArgument(0).getFiles().stream().anyMatch(file -> "hit.pdf".equals(file.getLink())));
+        ContainsBasedSearchRule rule = new ContainsBasedSearchRule(EnumSet.of(SearchFlags.FULLTEXT)) {
+            @Override
+            protected List<SearchResult> searchFulltext(String query) {
+                try {
+                    // a slow index gives the other threads the chance to ask for the results in the meantime
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(pdfSearchResult);
+            }
+        };
+        List<BibEntry> entriesWithHit = new ArrayList<>();
+        entries.clear();
+        for (int i = 0; i < 10_000; i++) {
+            BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Title " + i);
+            if (i % 10 == 0) {
+                entry.addFile(new LinkedFile("", Path.of("hit.pdf"), "PDF"));
+                entriesWithHit.add(entry);
+            }
+            entries.add(entry);
+        }
+        MainTableFilter filter = new MainTableFilter(entriesViewModel, new CurrentThreadTaskExecutor());
+
+        filter.setMatcher(Optional.of(entry -> rule.applyRule("quantum", entry)));
+
+        assertEquals(entriesWithHit, getShownEntries(filter));
+    }
+}
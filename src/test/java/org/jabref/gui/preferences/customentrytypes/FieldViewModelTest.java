@@ -0,0 +1,26 @@
+package org.jabref.gui.preferences.customentrytypes;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.FieldPriority;
+import org.jabref.model.entry.field.FieldProperty;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldViewModelTest {
+
+    @Test
+    void multilineUnknownFieldDoesNotChangeParsedField() {
+        Field parsedField = FieldFactory.parseField("customMultilineField");
+        FieldViewModel fieldViewModel = new FieldViewModel(parsedField, FieldViewModel.Mandatory.OPTIONAL, FieldPriority.IMPORTANT, true);
+
+        Field customizedField = fieldViewModel.toField();
+
+        assertTrue(customizedField.getProperties().contains(FieldProperty.MULTILINE_TEXT));
+        assertFalse(parsedField.getProperties().contains(FieldProperty.MULTILINE_TEXT));
+        assertFalse(FieldFactory.parseField("customMultilineField").getProperties().contains(FieldProperty.MULTILINE_TEXT));
+    }
+}
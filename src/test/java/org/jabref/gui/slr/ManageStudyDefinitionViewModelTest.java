@@ -88,9 +88,24 @@ class ManageStudyDefinitionViewModelTest {
         ), manageStudyDefinitionViewModel.getCatalogs());
     }
 
+    @Test
+    public void saveStudyKeepsLimitsOfCatalogs(@TempDir Path tempDir) {
+        StudyDatabase acmPortal = new StudyDatabase("ACM Portal", true);
+        acmPortal.setMaxConcurrentRequests(2);
+        acmPortal.setRequestsPerMinute(30);
+        ManageStudyDefinitionViewModel manageStudyDefinitionViewModel = getManageStudyDefinitionViewModel(tempDir, List.of(acmPortal));
+
+        StudyDatabase savedDatabase = manageStudyDefinitionViewModel.saveStudy().getStudy().getDatabases().getFirst();
+
+        assertEquals(2, savedDatabase.getMaxConcurrentRequests());
+        assertEquals(30, savedDatabase.getRequestsPerMinute());
+    }
+
     private ManageStudyDefinitionViewModel getManageStudyDefinitionViewModel(Path tempDir) {
-        List<StudyDatabase> databases = List.of(
-                new StudyDatabase("ACM Portal", true));
+        return getManageStudyDefinitionViewModel(tempDir, List.of(new StudyDatabase("ACM Portal", true)));
+    }
+
+    private ManageStudyDefinitionViewModel getManageStudyDefinitionViewModel(Path tempDir, List<StudyDatabase> databases) {
         Study study = new Study(
                 List.of("Name"),
                 "title",
@@ -1,10 +1,24 @@
 package org.jabref.http.server;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumSet;
+import java.util.List;
+
 import org.jabref.http.JabrefMediaType;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -15,9 +29,15 @@ class LibraryResourceTest extends ServerTest {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
+    @AfterEach
+    void resetAvailableLibraries() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.GENERAL_SERVER_TEST));
+    }
+
     @Test
     void getJson() {
         assertEquals("""
@@ -36,4 +56,79 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void getNdJsonWritesOneEntryPerLine() {
+        String ndJson = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.NDJSON).get(String.class);
+
+        assertEquals(1, ndJson.lines().count());
+        assertEquals("Author2023test", JsonParser.parseString(ndJson.strip()).getAsJsonObject().get("citationKey").getAsString());
+    }
+
+    @Test
+    void getJsonIsStreamedAsArray() {
+        String json = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get(String.class);
+
+        JsonArray entries = JsonParser.parseString(json).getAsJsonArray();
+        assertEquals(1, entries.size());
+        assertEquals("Author2023test", entries.get(0).getAsJsonObject().get("citationKey").getAsString());
+    }
+
+    @Test
+    void getClsItemJsonPage() {
+        String libraryUrl = "/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id;
+        Response response = target(libraryUrl).queryParam("offset", 1).request(JabrefMediaType.JSON_CSL_ITEM).get();
+
+        assertEquals("[]", response.readEntity(String.class));
+        assertEquals("1", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    void negativeLimitIsRejected() {
+        String libraryUrl = "/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id;
+        Response response = target(libraryUrl).queryParam("limit", -1).request(JabrefMediaType.JSON_CSL_ITEM).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getClsItemJsonOfEntry() {
+        assertEquals("""
+                {"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
+    }
+
+    @Test
+    void unknownEntryIsNotFound() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Unknown").request(JabrefMediaType.JSON_CSL_ITEM).get();
+
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void unchangedLibraryIsNotModified() {
+        String libraryUrl = "/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id;
+        String entityTag = target(libraryUrl).request(JabrefMediaType.JSON_CSL_ITEM).get().getHeaderString(HttpHeaders.ETAG);
+
+        Response response = target(libraryUrl).request(JabrefMediaType.JSON_CSL_ITEM).header(HttpHeaders.IF_NONE_MATCH, entityTag).get();
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain(@TempDir Path directory) throws IOException {
+        Path library = directory.resolve("library.bib");
+        Files.writeString(library, "@Misc{First, title = {First}}");
+        setAvailableLibraries(List.of(library));
+        String libraryUrl = "/libraries/" + LibraryCache.getId(library);
+        String entityTag = target(libraryUrl).request(JabrefMediaType.JSON_CSL_ITEM).get().getHeaderString(HttpHeaders.ETAG);
+
+        Files.writeString(library, "@Misc{Second, title = {Second}}");
+        // the file system might not notice the modification within the same millisecond
+        Files.setLastModifiedTime(library, FileTime.fromMillis(Files.getLastModifiedTime(library).toMillis() + 1000));
+        Response secondResponse = target(libraryUrl).request(JabrefMediaType.JSON_CSL_ITEM).header(HttpHeaders.IF_NONE_MATCH, entityTag).get();
+
+        assertEquals(Response.Status.OK.getStatusCode(), secondResponse.getStatus());
+        assertEquals("""
+                [{"id":"Second","type":"article","title":"Second"}]""", secondResponse.readEntity(String.class));
+    }
 }
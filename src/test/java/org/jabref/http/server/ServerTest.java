@@ -1,5 +1,6 @@
 package org.jabref.http.server;
 
+import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +10,7 @@ import javafx.collections.FXCollections;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.preferences.BibEntryPreferences;
 import org.jabref.preferences.GuiPreferences;
 import org.jabref.preferences.PreferencesService;
@@ -27,7 +29,7 @@ import static org.mockito.Mockito.when;
  * Abstract test class to
  * <ul>
  *   <li>Initialize the JCL to SLF4J bridge</li>
- *   <li>Provide injection capabilities of JabRef's preferences and Gson<./li>
+ *   <li>Provide injection capabilities of JabRef's preferences, Gson and the library cache<./li>
  * </ul>
  * <p>More information on testing with Jersey is available at <a href="https://eclipse-ee4j.github.io/jersey.github.io/documentation/latest/test-framework.html">the Jersey's testing documentation</a></p>.
  */
@@ -63,12 +65,23 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(new LibraryCache()).to(LibraryCache.class);
+            }
+        });
+    }
+
     protected void setAvailableLibraries(EnumSet<TestBibFile> files) {
-        when(guiPreferences.getLastFilesOpened()).thenReturn(
-                FXCollections.observableArrayList(
-                        files.stream()
-                             .map(file -> file.path)
-                             .collect(Collectors.toList())));
+        setAvailableLibraries(files.stream()
+                                   .map(file -> file.path)
+                                   .collect(Collectors.toList()));
+    }
+
+    protected void setAvailableLibraries(List<Path> libraries) {
+        when(guiPreferences.getLastFilesOpened()).thenReturn(FXCollections.observableArrayList(libraries));
     }
 
     private static void initializePreferencesService() {
@@ -90,6 +103,8 @@ abstract class ServerTest extends JerseyTest {
         // used twice, once for reading and once for writing
         when(importFormatPreferences.fieldPreferences()).thenReturn(fieldContentFormatterPreferences);
 
+        when(preferencesService.getCustomEntryTypesRepository()).thenReturn(new BibEntryTypesManager());
+
         guiPreferences = mock(GuiPreferences.class);
         when(preferencesService.getGuiPreferences()).thenReturn(guiPreferences);
 
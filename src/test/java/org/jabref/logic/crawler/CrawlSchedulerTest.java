@@ -0,0 +1,220 @@
+package org.jabref.logic.crawler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Crawls local stub fetchers, which only wait for a given latency, to measure the wall time and pacing of a crawl
+ */
+class CrawlSchedulerTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int PAGES_PER_QUERY = 3;
+    private static final List<String> QUERIES = List.of("Quantum", "Cloud Computing", "Software Engineering");
+
+    @Test
+    void pagesAndQueriesAreFetchedConcurrently() {
+        int requests = QUERIES.size() * PAGES_PER_QUERY;
+        StubFetcher fetcher = new StubFetcher("Stub", page -> 0, 0);
+        // each request waits until all requests started, which only happens if they are all sent at the same time
+        fetcher.awaitOtherRequests(requests);
+
+        crawl(List.of(fetcher), new CrawlLimits(requests, 0));
+
+        assertEquals(requests, fetcher.requestStarts.size());
+        assertEquals(requests, fetcher.maxRequestsInFlight.get());
+    }
+
+    @Test
+    void concurrentRequestsAreLimited() {
+        StubFetcher fetcher = new StubFetcher("Stub", page -> 20, 0);
+
+        crawl(List.of(fetcher), new CrawlLimits(2, 0));
+
+        assertTrue(fetcher.maxRequestsInFlight.get() <= 2);
+    }
+
+    @Test
+    void requestsArePaced() {
+        StubFetcher fetcher = new StubFetcher("Stub", page -> 0, 0);
+        // one request every 50 ms
+        CrawlLimits limits = new CrawlLimits(QUERIES.size() * PAGES_PER_QUERY, 1200);
+
+        long start = System.nanoTime();
+        crawl(List.of(fetcher), limits);
+
+        List<Long> requestStarts = new ArrayList<>(fetcher.requestStarts);
+        long lastStart = requestStarts.stream().mapToLong(Long::longValue).max().orElseThrow();
+        long minimumSpan = limits.getMinimumInterval().toNanos() * (requestStarts.size() - 1);
+        assertTrue(lastStart - start >= minimumSpan, "requests started within " + TimeUnit.NANOSECONDS.toMillis(lastStart - start) + " ms");
+    }
+
+    @Test
+    void failedRequestsAreRetried() {
+        StubFetcher fetcher = new StubFetcher("Stub", page -> 0, 2);
+
+        List<QueryResult> results = crawl(List.of(fetcher), CrawlLimits.DEFAULT);
+
+        assertEquals(QUERIES.size() * PAGES_PER_QUERY * 3, fetcher.requestStarts.size());
+        assertEquals(PAGE_SIZE * PAGES_PER_QUERY, results.getFirst().getResultsPerFetcher().getFirst().getFetchResult().getEntryCount());
+    }
+
+    @Test
+    void fetcherIsMissingAfterRepeatedFailures() {
+        StubFetcher failingFetcher = new StubFetcher("Failing", page -> 0, Integer.MAX_VALUE);
+        StubFetcher workingFetcher = new StubFetcher("Working", page -> 0, 0);
+
+        List<QueryResult> results = crawl(List.of(failingFetcher, workingFetcher), CrawlLimits.DEFAULT);
+
+        for (QueryResult result : results) {
+            assertEquals(List.of("Working"), result.getResultsPerFetcher().stream().map(FetchResult::getFetcherName).toList());
+        }
+    }
+
+    @Test
+    void completeResultsAreWrittenAsTheyArrive() {
+        StubFetcher failingFetcher = new StubFetcher("Failing", page -> 0, Integer.MAX_VALUE);
+        StubFetcher workingFetcher = new StubFetcher("Working", page -> 0, 0);
+        Map<String, FetchResult> writtenResults = new ConcurrentHashMap<>();
+
+        List<QueryResult> results = crawl(List.of(failingFetcher, workingFetcher), CrawlLimits.DEFAULT,
+                (query, fetchResult) -> writtenResults.put(query + "/" + fetchResult.getFetcherName(), fetchResult));
+
+        assertEquals(Set.copyOf(QUERIES.stream().map(query -> query + "/Working").toList()), writtenResults.keySet());
+        for (QueryResult result : results) {
+            FetchResult fetchResult = result.getResultsPerFetcher().getFirst();
+            assertEquals(PAGE_SIZE * PAGES_PER_QUERY, fetchResult.getFetchResult().getEntryCount());
+            // the written result is returned, as the citation keys are generated when writing it
+            assertSame(writtenResults.get(result.getQuery() + "/Working"), fetchResult);
+        }
+    }
+
+    @Test
+    void pagesAreOrderedIndependentOfTheirArrival() {
+        // the first page arrives last
+        StubFetcher fetcher = new StubFetcher("Stub", page -> (PAGES_PER_QUERY - page) * 30, 0);
+
+        List<QueryResult> results = crawl(List.of(fetcher), new CrawlLimits(QUERIES.size() * PAGES_PER_QUERY, 0));
+
+        for (QueryResult result : results) {
+            List<String> citationKeys = result.getResultsPerFetcher().getFirst().getFetchResult().getEntries().stream()
+                                              .map(entry -> entry.getCitationKey().orElseThrow())
+                                              .toList();
+            List<String> expected = new ArrayList<>();
+            for (int page = 0; page < PAGES_PER_QUERY; page++) {
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    expected.add(result.getQuery() + "-" + page + "-" + i);
+                }
+            }
+            assertEquals(expected, citationKeys);
+        }
+    }
+
+    private static List<QueryResult> crawl(List<SearchBasedFetcher> fetchers, CrawlLimits limits) {
+        return crawl(fetchers, limits, (query, fetchResult) -> {
+        });
+    }
+
+    private static List<QueryResult> crawl(List<SearchBasedFetcher> fetchers, CrawlLimits limits, CrawlResults.FetchResultWriter writer) {
+        Map<String, CrawlLimits> limitsByFetcherName = new ConcurrentHashMap<>();
+        fetchers.forEach(fetcher -> limitsByFetcherName.put(fetcher.getName().toLowerCase(Locale.ROOT), limits));
+        CrawlScheduler crawlScheduler = new CrawlScheduler(limitsByFetcherName, PAGE_SIZE * PAGES_PER_QUERY, 3, Duration.ofMillis(1));
+        CrawlResults crawlResults = new CrawlResults(QUERIES, fetchers.stream().map(SearchBasedFetcher::getName).toList(), writer);
+        crawlScheduler.crawl(fetchers, QUERIES, crawlResults);
+        return crawlResults.getQueryResults();
+    }
+
+    /**
+     * Returns {@link #PAGE_SIZE} entries per page after the latency of the page. The first requests of each page fail.
+     */
+    private static class StubFetcher implements PagedSearchBasedFetcher {
+        private final String name;
+        private final IntUnaryOperator latencyMillisOfPage;
+        private final int failuresPerPage;
+
+        private final Queue<Long> requestStarts = new ConcurrentLinkedQueue<>();
+        private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final AtomicInteger requestsInFlight = new AtomicInteger();
+        private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+        private CountDownLatch allRequestsStarted = new CountDownLatch(0);
+
+        StubFetcher(String name, IntUnaryOperator latencyMillisOfPage, int failuresPerPage) {
+            this.name = name;
+            this.latencyMillisOfPage = latencyMillisOfPage;
+            this.failuresPerPage = failuresPerPage;
+        }
+
+        /**
+         * Lets each request wait until the given number of requests started. A request gives up waiting after a few
+         * seconds, so that a crawl sending the requests one after another does not hang.
+         */
+        void awaitOtherRequests(int requests) {
+            allRequestsStarted = new CountDownLatch(requests);
+        }
+
+        @Override
+        public Page<BibEntry> performSearchPaged(String searchQuery, int pageNumber) throws FetcherException {
+            requestStarts.add(System.nanoTime());
+            maxRequestsInFlight.accumulateAndGet(requestsInFlight.incrementAndGet(), Math::max);
+            try {
+                allRequestsStarted.countDown();
+                allRequestsStarted.await(5, TimeUnit.SECONDS);
+                Thread.sleep(latencyMillisOfPage.applyAsInt(pageNumber));
+                if (attempts.computeIfAbsent(searchQuery + pageNumber, key -> new AtomicInteger()).getAndIncrement() < failuresPerPage) {
+                    throw new FetcherException("Service unavailable");
+                }
+                List<BibEntry> entries = new ArrayList<>();
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    entries.add(new BibEntry().withCitationKey(searchQuery + "-" + pageNumber + "-" + i));
+                }
+                return new Page<>(searchQuery, pageNumber, entries);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FetcherException("Interrupted", e);
+            } finally {
+                requestsInFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Page<BibEntry> performSearchPaged(QueryNode luceneQuery, int pageNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getPageSize() {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package org.jabref.logic.crawler;
 
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.study.Study;
@@ -60,4 +62,21 @@ class StudyYamlParserTest {
         Study study = new StudyYamlParser().parseStudyYamlFile(Path.of(studyDefinition.toURI()));
         assertEquals(expectedStudy, study);
     }
+
+    @Test
+    public void readsCrawlLimits() throws Exception {
+        Path studyFile = testDirectory.resolve("study-with-limits.yml");
+        Files.writeString(studyFile, """
+                title: TestStudyName
+                databases:
+                  - name: ArXiv
+                    max-concurrent-requests: 1
+                    requests-per-minute: 20
+                  - name: Springer
+                """);
+
+        Study study = new StudyYamlParser().parseStudyYamlFile(studyFile);
+
+        assertEquals(Map.of("arxiv", new CrawlLimits(1, 20), "springer", CrawlLimits.DEFAULT), CrawlLimits.byFetcherName(study.getDatabases()));
+    }
 }
@@ -0,0 +1,70 @@
+package org.jabref.logic.database;
+
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockingKeyGeneratorTest {
+
+    private final BlockingKeyGenerator generator = new BlockingKeyGenerator();
+
+    @Test
+    void entriesWithSameDoiInDifferentCaseShareKey() {
+        BibEntry one = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1109/CLOUD.2017.89");
+        BibEntry two = new BibEntry(StandardEntryType.Misc).withField(StandardField.DOI, "10.1109/cloud.2017.89");
+
+        assertTrue(generator.generateKeys(two).contains("doi:10.1109/cloud.2017.89"));
+        assertTrue(generator.generateKeys(one).contains("doi:10.1109/cloud.2017.89"));
+    }
+
+    @Test
+    void entriesWithSameFirstAuthorAndYearShareKey() {
+        BibEntry one = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Oliver Kopp and Stefan Kolb")
+                .withField(StandardField.YEAR, "2017");
+        BibEntry two = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Kopp, O.")
+                .withField(StandardField.YEAR, "2017");
+
+        assertTrue(generator.generateKeys(one).contains("author:article:kopp:2017"));
+        assertTrue(generator.generateKeys(two).contains("author:article:kopp:2017"));
+    }
+
+    @Test
+    void similarTitlesShareKey() {
+        Set<String> one = generator.generateKeys(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "A serious paper about something"));
+        Set<String> two = generator.generateKeys(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "A {S}erious paper about something."));
+
+        assertEquals(one, two);
+    }
+
+    @Test
+    void differentTitlesDoNotShareKey() {
+        Set<String> one = generator.generateKeys(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "A serious paper about something"));
+        Set<String> two = generator.generateKeys(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla"));
+
+        assertFalse(one.stream().anyMatch(two::contains));
+    }
+
+    @Test
+    void entryWithoutInformationGetsTypeKey() {
+        assertEquals(Set.of("type:misc"), generator.generateKeys(new BibEntry(StandardEntryType.Misc)));
+    }
+
+    @Test
+    void normalizeRemovesPunctuationAndCase() {
+        assertEquals("a serious paper about something", BlockingKeyGenerator.normalize(" A serious paper: about -- something. "));
+    }
+}
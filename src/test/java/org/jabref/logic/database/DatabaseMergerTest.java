@@ -1,7 +1,9 @@
 package org.jabref.logic.database;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -84,6 +86,32 @@ class DatabaseMergerTest {
         assertEquals(List.of(entry1, entry4), database.getEntries());
     }
 
+    @Test
+    void mergeEntriesKeepsOrderOfNewEntries() {
+        List<BibEntry> existingEntries = IntStream.range(0, 50)
+                                                  .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                          .withField(StandardField.AUTHOR, "Author" + i)
+                                                          .withField(StandardField.TITLE, "Existing title number " + i))
+                                                  .toList();
+        List<BibEntry> newEntries = IntStream.range(0, 50)
+                                             .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                     .withField(StandardField.AUTHOR, "Other author" + i)
+                                                     .withField(StandardField.TITLE, "New title about something else " + i))
+                                             .toList();
+        List<BibEntry> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(newEntries.get(i));
+            batch.add((BibEntry) existingEntries.get(i).clone());
+        }
+        BibDatabase database = new BibDatabase(existingEntries);
+
+        new DatabaseMerger(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).mergeEntries(database, batch);
+
+        List<BibEntry> expected = new ArrayList<>(existingEntries);
+        expected.addAll(newEntries);
+        assertEquals(expected, database.getEntries());
+    }
+
     @Test
     void mergeBibTexStringsWithSameNameAreImportedWithModifiedName() {
         BibtexString targetString = new BibtexString("name", "content1");
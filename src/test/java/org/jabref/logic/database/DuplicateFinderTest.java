@@ -0,0 +1,84 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.database.DuplicateFinder.EntryPair;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFinderTest {
+
+    private final DuplicateFinder duplicateFinder = new DuplicateFinder(new BibEntryTypesManager());
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry articleDuplicate = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Author, Single")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+    private final BibEntry doiEntry = new BibEntry(StandardEntryType.Misc)
+            .withField(StandardField.DOI, "10.1109/CLOUD.2017.89");
+    private final BibEntry doiDuplicate = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.DOI, "10.1109/cloud.2017.89")
+            .withField(StandardField.TITLE, "Something else");
+
+    @Test
+    void findDuplicatesFindsSameResultAsPairwiseComparison() {
+        List<BibEntry> entries = List.of(article, unrelatedArticle, doiEntry, articleDuplicate, doiDuplicate);
+
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        List<EntryPair> expected = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    expected.add(new EntryPair(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+
+        assertEquals(List.of(new EntryPair(article, articleDuplicate), new EntryPair(doiEntry, doiDuplicate)), expected);
+        assertEquals(expected, duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void getCandidatesDoesNotContainUnrelatedPairs() {
+        List<EntryPair> candidates = duplicateFinder.getCandidates(List.of(article, unrelatedArticle, articleDuplicate));
+
+        assertEquals(List.of(new EntryPair(article, articleDuplicate)), candidates);
+    }
+
+    @Test
+    void findDuplicatesStopsWhenCancelled() {
+        List<EntryPair> found = new ArrayList<>();
+
+        List<EntryPair> duplicates = duplicateFinder.findDuplicates(List.of(article, articleDuplicate), BibDatabaseMode.BIBTEX,
+                (first, second) -> found.add(new EntryPair(first, second)), () -> true);
+
+        assertEquals(List.of(), found);
+        assertEquals(List.of(), duplicates);
+    }
+
+    @Test
+    void findDuplicatesReturnsPairsInOrderOfEntries() {
+        List<BibEntry> entries = List.of(doiEntry, article, doiDuplicate, articleDuplicate);
+
+        List<EntryPair> duplicates = duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> {
+        }, () -> false);
+
+        assertEquals(List.of(new EntryPair(doiEntry, doiDuplicate), new EntryPair(article, articleDuplicate)), duplicates);
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateIndexTest {
+
+    private BibDatabase database;
+    private DuplicateIndex duplicateIndex;
+    private final DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        database.insertEntry(unrelatedArticle);
+        duplicateIndex = new DuplicateIndex(database);
+    }
+
+    @Test
+    void findsDuplicateOfEntryAddedAfterCreation() {
+        database.insertEntry(article);
+
+        BibEntry toImport = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author, Single")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(List.of(article), duplicateIndex.getCandidates(toImport));
+        assertEquals(Optional.of(article), duplicateCheck.containsDuplicate(duplicateIndex, toImport, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void doesNotFindRemovedEntry() {
+        database.insertEntry(article);
+        database.removeEntry(article);
+
+        assertEquals(List.of(), duplicateIndex.getCandidates(article));
+    }
+
+    @Test
+    void findsEntryByChangedDoi() {
+        BibEntry toImport = new BibEntry(StandardEntryType.Misc).withField(StandardField.DOI, "10.1109/cloud.2017.89");
+        assertEquals(Optional.empty(), duplicateCheck.containsDuplicate(duplicateIndex, toImport, BibDatabaseMode.BIBTEX));
+
+        unrelatedArticle.setField(StandardField.DOI, "10.1109/CLOUD.2017.89");
+
+        assertEquals(Optional.of(unrelatedArticle), duplicateCheck.containsDuplicate(duplicateIndex, toImport, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void ignoresChangesOfRemovedEntries() {
+        database.removeEntry(unrelatedArticle);
+
+        unrelatedArticle.setField(StandardField.DOI, "10.1109/CLOUD.2017.89");
+
+        assertEquals(List.of(), duplicateIndex.getCandidates(unrelatedArticle));
+    }
+}
@@ -0,0 +1,59 @@
+package org.jabref.logic.database;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PersistentEntryCountTest {
+
+    @TempDir
+    Path directory;
+
+    private Path library;
+    private Path record;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        library = directory.resolve("library.bib");
+        record = directory.resolve("index").resolve("library--entrycount");
+        Files.writeString(library, "@Article{Einstein1905, year = {1905}}");
+    }
+
+    @Test
+    void numberOfEntriesIsReadForUnchangedLibrary() throws IOException {
+        PersistentEntryCount.write(record, library, 1);
+
+        assertEquals(Optional.of(1), PersistentEntryCount.read(record, library));
+    }
+
+    @Test
+    void numberOfEntriesIsIgnoredForChangedLibrary() throws IOException {
+        PersistentEntryCount.write(record, library, 1);
+
+        Files.writeString(library, "@Article{Einstein1905, year = {1906}}");
+
+        assertEquals(Optional.empty(), PersistentEntryCount.read(record, library));
+    }
+
+    @Test
+    void missingRecordIsIgnored() throws IOException {
+        assertEquals(Optional.empty(), PersistentEntryCount.read(record, library));
+    }
+
+    @Test
+    void checksumChangesWithContent() throws IOException {
+        String checksum = PersistentEntryCount.checksumOf(library);
+
+        Files.writeString(library, "@Article{Einstein1905, year = {1906}}");
+
+        assertNotEquals(checksum, PersistentEntryCount.checksumOf(library));
+    }
+}
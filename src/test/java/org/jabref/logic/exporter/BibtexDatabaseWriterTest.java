@@ -613,6 +613,32 @@ public class BibtexDatabaseWriterTest {
         assertEquals(bibEntry, stringWriter.toString());
     }
 
+    @Test
+    void onlyChangedEntryIsSerializedAgain() throws Exception {
+        String bibtex = "@Article{first,\n" +
+                "  title    =   { Whitespace is kept },\n" +
+                "}\n" +
+                "\n" +
+                "@Article{second,\n" +
+                "  title    =   {Old title},\n" +
+                "}\n";
+        ParserResult result = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtex));
+        result.getDatabase().getEntryByCitationKey("second").get().setField(StandardField.TITLE, "New title");
+        BibDatabaseContext context = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+
+        bibWriter = new BibWriter(stringWriter, "\n");
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(context);
+
+        assertEquals("@Article{first,\n" +
+                "  title    =   { Whitespace is kept },\n" +
+                "}\n" +
+                "\n" +
+                "@Article{second,\n" +
+                "  title = {New title},\n" +
+                "}\n", stringWriter.toString());
+    }
+
     @Test
     void roundtripWithUserCommentAndEntryChange() throws Exception {
         Path testBibtexFile = Path.of("src/test/resources/testbib/bibWithUserComments.bib");
@@ -0,0 +1,95 @@
+package org.jabref.logic.groups;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.MatcherSets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibEntry entryWithA = new BibEntry().withField(StandardField.KEYWORDS, "a");
+    private final BibEntry entryWithB = new BibEntry().withField(StandardField.KEYWORDS, "b");
+    private final BibEntry entryWithAAndB = new BibEntry().withField(StandardField.KEYWORDS, "a, b");
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode groupA;
+    private GroupTreeNode groupB;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(entryWithA, entryWithB, entryWithAAndB));
+        index = new GroupMembershipIndex(database);
+        GroupTreeNode root = GroupTreeNode.fromGroup(DefaultGroupsFactory.getAllEntriesGroup());
+        groupA = root.addSubgroup(keywordGroup("a"));
+        groupB = root.addSubgroup(keywordGroup("b"));
+    }
+
+    private static WordKeywordGroup keywordGroup(String keyword) {
+        return new WordKeywordGroup(keyword, GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+
+    @Test
+    void hitCountIsNumberOfMatchedEntries() {
+        assertEquals(2, index.getHitCount(groupA));
+        assertEquals(2, index.getHitCount(groupB));
+    }
+
+    @Test
+    void changedEntryIsMatchedAgain() {
+        index.getHitCount(groupA);
+
+        entryWithB.setField(StandardField.KEYWORDS, "a");
+
+        assertEquals(3, index.getHitCount(groupA));
+        assertTrue(index.isMember(groupA, entryWithB));
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreConsidered() {
+        index.getHitCount(groupA);
+
+        BibEntry addedEntry = new BibEntry().withField(StandardField.KEYWORDS, "a");
+        database.insertEntry(addedEntry);
+        database.removeEntry(entryWithA);
+
+        assertEquals(List.of(entryWithAAndB, addedEntry), index.getMembers(groupA));
+    }
+
+    @Test
+    void changedGroupIsMatchedAgain() {
+        index.getHitCount(groupA);
+
+        groupA.setGroup(keywordGroup("b"), false, false, database.getEntries());
+
+        assertEquals(2, index.getHitCount(groupA));
+        assertFalse(index.isMember(groupA, entryWithA));
+    }
+
+    @Test
+    void intersectionMatchesEntriesInAllGroups() {
+        SearchMatcher matcher = index.createMatcher(List.of(groupA, groupB), MatcherSets.MatcherType.AND);
+
+        assertEquals(List.of(entryWithAAndB), database.getEntries().stream().filter(matcher::isMatch).toList());
+    }
+
+    @Test
+    void unionMatchesEntriesInAnyGroup() {
+        SearchMatcher matcher = index.createMatcher(List.of(groupA, groupB), MatcherSets.MatcherType.OR);
+        entryWithB.setField(StandardField.KEYWORDS, "c");
+
+        assertEquals(List.of(entryWithA, entryWithAAndB), database.getEntries().stream().filter(matcher::isMatch).toList());
+    }
+}
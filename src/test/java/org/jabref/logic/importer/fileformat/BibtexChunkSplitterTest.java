@@ -0,0 +1,84 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexChunkSplitterTest {
+
+    private static List<String> split(String content, int targetChunkSize) {
+        int[] chunkStarts = BibtexChunkSplitter.split(content, targetChunkSize);
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < chunkStarts.length; i++) {
+            int chunkEnd = (i + 1) < chunkStarts.length ? chunkStarts[i + 1] : content.length();
+            chunks.add(content.substring(chunkStarts[i], chunkEnd));
+        }
+        return chunks;
+    }
+
+    @Test
+    void splitsBehindEachItemIncludingNewline() {
+        String content = """
+                @Article{a, title = {A}}
+                % comment of b
+                @Article{b, title = {B}}
+                """;
+
+        assertEquals(List.of("@Article{a, title = {A}}\n", "% comment of b\n@Article{b, title = {B}}\n"),
+                split(content, 1));
+    }
+
+    @Test
+    void doesNotSplitBehindComment() {
+        String content = """
+                @Comment{some comment}
+                @Article{a, title = {A}}
+                """;
+
+        assertEquals(List.of(content), split(content, 1));
+    }
+
+    @Test
+    void doesNotSplitInsideNestedBraces() {
+        String content = """
+                @Article{a, title = {A {nested}
+                @Article{b}}}
+                @Article{c}
+                """;
+
+        assertEquals(List.of("@Article{a, title = {A {nested}\n@Article{b}}}\n", "@Article{c}\n"),
+                split(content, 1));
+    }
+
+    @Test
+    void handlesRoundBrackets() {
+        String content = """
+                @Article(a, title = "A (with) brackets")
+                @Article{b}
+                """;
+
+        assertEquals(List.of("@Article(a, title = \"A (with) brackets\")\n", "@Article{b}\n"),
+                split(content, 1));
+    }
+
+    @Test
+    void keepsRemainingContentOfUnbalancedItem() {
+        String content = """
+                @Article{a, title = {A}
+                @Article{b}
+                """;
+
+        assertEquals(List.of(content), split(content, 1));
+    }
+
+    @Test
+    void respectsTargetChunkSize() {
+        String content = "@Misc{a}\n@Misc{b}\n@Misc{c}\n@Misc{d}\n";
+
+        assertEquals(List.of("@Misc{a}\n@Misc{b}\n", "@Misc{c}\n@Misc{d}\n"),
+                split(content, 18));
+    }
+}
@@ -1,9 +1,11 @@
 package org.jabref.logic.importer.fileformat;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +22,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -52,6 +55,24 @@ public class BibtexImporterTest {
         assertTrue(importer.isRecognizedFormat(file));
     }
 
+    @Test
+    public void importLargeLibraryReturnsSameEntriesAsSequentialParsing(@TempDir Path directory) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            content.append("@Article{key").append(i).append(",\n")
+                   .append("  author = {Firstname Lastname and Other Author ").append(i).append("},\n")
+                   .append("  title  = {A {Title} with some words ").append(i).append("},\n")
+                   .append("}\n\n");
+        }
+        Path file = directory.resolve("large.bib");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+
+        List<BibEntry> expected = new BibtexParser(mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS))
+                .parse(new StringReader(content.toString())).getDatabase().getEntries();
+
+        assertEquals(expected, importer.importDatabase(file).getDatabase().getEntries());
+    }
+
     @Test
     public void importEntries() throws IOException, URISyntaxException {
         Path file = Path.of(BibtexImporterTest.class.getResource("BibtexImporter.examples.bib").toURI());
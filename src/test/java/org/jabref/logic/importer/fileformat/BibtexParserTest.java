@@ -1863,4 +1863,51 @@ class BibtexParserTest {
         ParserResult result = parser.parse(new StringReader(entries));
         assertEquals(List.of(expectedEntryFirst, expectedEntrySecond), result.getDatabase().getEntries());
     }
+
+    @Test
+    void parseInParallelReturnsSameResultAsSequentialParsing() throws Exception {
+        StringBuilder content = new StringBuilder("% Encoding: UTF-8\n\n@String{jp = {Journal of Parsing}}\n\n@Preamble{some preamble}\n\n");
+        for (int i = 0; i < 3000; i++) {
+            content.append("% comment before entry ").append(i).append("\n")
+                   .append("@Article{key").append(i).append(",\n")
+                   .append("  author  = {Firstname Lastname and Other {Author} ").append(i).append("},\n")
+                   .append("  title   = {A {Title} with \\{escaped\\} braces ").append(i).append("},\n")
+                   .append("  journal = jp,\n")
+                   .append("}\n\n");
+        }
+        content.append("@Comment{jabref-meta: databaseType:bibtex;}\n");
+
+        ParserResult sequential = new BibtexParser(importFormatPreferences).parse(new StringReader(content.toString()));
+        ParserResult parallel = new BibtexParser(importFormatPreferences).parseInParallel(new StringReader(content.toString()));
+
+        assertEquals(sequential.getDatabase().getEntries(), parallel.getDatabase().getEntries());
+        assertEquals(sequential.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                parallel.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(sequential.getDatabase().getPreamble(), parallel.getDatabase().getPreamble());
+        assertEquals(sequential.getDatabase().getStringCount(), parallel.getDatabase().getStringCount());
+        assertEquals(sequential.getDatabase().getEpilog(), parallel.getDatabase().getEpilog());
+        assertEquals(sequential.getMetaData().getMode(), parallel.getMetaData().getMode());
+        assertEquals(sequential.warnings(), parallel.warnings());
+    }
+
+    @Test
+    void parseInParallelReportsMalformedEntryLikeSequentialParsing() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            content.append("@Article{key").append(i).append(",\n")
+                   .append("  author = {Firstname Lastname ").append(i).append("},\n")
+                   .append(i == 1500 ? "  title  = {Missing comma}\n" : "  title  = {A Title},\n")
+                   .append("  year   = {2023}\n")
+                   .append("}\n\n");
+        }
+
+        ParserResult sequential = new BibtexParser(importFormatPreferences).parse(new StringReader(content.toString()));
+        ParserResult parallel = new BibtexParser(importFormatPreferences).parseInParallel(new StringReader(content.toString()));
+
+        assertEquals(sequential.getDatabase().getEntries(), parallel.getDatabase().getEntries());
+        assertEquals(sequential.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                parallel.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(sequential.getDatabase().getEpilog(), parallel.getDatabase().getEpilog());
+        assertEquals(sequential.warnings(), parallel.warnings());
+    }
 }
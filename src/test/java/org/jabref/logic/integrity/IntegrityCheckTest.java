@@ -149,6 +149,51 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void changedEntryIsCheckedAgain() throws Exception {
+        BibDatabaseContext context = withMode(createContext(StandardField.YEAR, "2023", StandardEntryType.Article), BibDatabaseMode.BIBTEX);
+        try (PredatoryJournalRepository predatoryJournalRepository = PredatoryJournalListLoader.loadRepository()) {
+            IntegrityCheck check = new IntegrityCheck(context,
+                    mock(FilePreferences.class),
+                    createCitationKeyPatternPreferences(),
+                    JournalAbbreviationLoader.loadBuiltInRepository(),
+                    predatoryJournalRepository, false);
+            assertEquals(List.of(), check.check());
+
+            BibEntry entry = context.getEntries().get(0);
+            entry.setField(StandardField.YEAR, "abc");
+
+            assertEquals(List.of(new IntegrityMessage("should contain a four digit number", entry, StandardField.YEAR)), check.check());
+        }
+    }
+
+    @Test
+    void duplicateCitationKeysAreFoundInAllPartitions() throws Exception {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < 1000; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("key" + i));
+        }
+        BibEntry duplicate = new BibEntry(StandardEntryType.Article).withCitationKey("key5");
+        database.insertEntry(duplicate);
+        BibDatabaseContext context = withMode(new BibDatabaseContext(database), BibDatabaseMode.BIBTEX);
+
+        List<IntegrityMessage> messages;
+        try (PredatoryJournalRepository predatoryJournalRepository = PredatoryJournalListLoader.loadRepository()) {
+            messages = new IntegrityCheck(context,
+                    mock(FilePreferences.class),
+                    createCitationKeyPatternPreferences(),
+                    JournalAbbreviationLoader.loadBuiltInRepository(),
+                    predatoryJournalRepository, false)
+                    .check();
+        }
+
+        List<BibEntry> entriesWithDuplicateKey = messages.stream()
+                                                         .filter(message -> message.getField() == StandardField.KEY)
+                                                         .map(IntegrityMessage::getEntry)
+                                                         .toList();
+        assertEquals(List.of(database.getEntries().get(5), duplicate), entriesWithDuplicateKey);
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
@@ -0,0 +1,67 @@
+package org.jabref.logic.journals;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalAbbreviationIndexTest {
+
+    private MVStore store;
+    private MVMap<String, Abbreviation> fullToAbbreviation;
+
+    @BeforeEach
+    void setUp() {
+        store = new MVStore.Builder().open();
+        fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
+        fullToAbbreviation.put("Journal of Physics", new Abbreviation("Journal of Physics", "J. Phys."));
+        fullToAbbreviation.put("Journal of Physics A", new Abbreviation("Journal of Physics A", "J. Phys. A", "J Phys A"));
+        fullToAbbreviation.put("Zeitschrift für Physik", new Abbreviation("Zeitschrift für Physik", "Z. Phys."));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void findsPositionOfJournal() throws Exception {
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.build(fullToAbbreviation);
+
+        assertEquals(0, index.findFullName("Journal of Physics"));
+        assertEquals(1, index.findFullName("Journal of Physics A"));
+        assertEquals(2, index.findFullName("Zeitschrift für Physik"));
+        assertEquals(1, index.findAbbreviation("J Phys A"));
+        assertEquals(2, index.findAbbreviation("Z Phys"));
+    }
+
+    @Test
+    void doesNotFindPrefixOrUnknownName() throws Exception {
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.build(fullToAbbreviation);
+
+        assertEquals(-1, index.findFullName("Journal of"));
+        assertEquals(-1, index.findFullName("Journal of Physics B"));
+        assertEquals(-1, index.findAbbreviation("Journal of Physics"));
+        assertEquals(-1, index.findFullName("journal of physics"));
+    }
+
+    @Test
+    void storedIndexIsUsed() throws Exception {
+        JournalAbbreviationIndex.write(store);
+        assertTrue(store.hasMap(JournalAbbreviationIndex.INDEX_MAP_NAME));
+
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.load(store, fullToAbbreviation);
+
+        assertEquals(1, index.findFullName("Journal of Physics A"));
+        assertEquals(0, index.findAbbreviation("J. Phys."));
+    }
+
+    @Test
+    void normalizeUnescapesAmpersand() {
+        assertEquals("Antioxidants & Redox Signaling", JournalAbbreviationIndex.normalize(" Antioxidants \\& Redox Signaling "));
+    }
+}
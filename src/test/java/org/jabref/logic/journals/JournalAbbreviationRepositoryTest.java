@@ -1,5 +1,6 @@
 package org.jabref.logic.journals;
 
+import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.undo.CompoundEdit;
@@ -164,6 +165,53 @@ class JournalAbbreviationRepositoryTest {
         assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("Am. J. Public Health").get());
     }
 
+    @Test
+    void getOfCustomAbbreviationIgnoresCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals(new Abbreviation("Long Name", "L. N.", "LN"), repository.get("long name").get());
+    }
+
+    @Test
+    void repositoriesShareBuiltInList() {
+        JournalAbbreviationRepository otherRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        otherRepository.close();
+
+        // closing a repository does not close the built-in list used by the other repositories
+        assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("Am. J. Public Health").get());
+    }
+
+    @Test
+    void getIgnoresSurroundingWhitespace() {
+        assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("  Am. J. Public Health ").get());
+    }
+
+    @Test
+    void unknownNameIsNotFound() {
+        assertEquals(Optional.empty(), repository.get("American Journal of Public"));
+        assertFalse(repository.isKnownName("American Journal of Public Health and More"));
+    }
+
+    @Test
+    void customAbbreviationAddedAfterLookupIsFound() {
+        assertFalse(repository.isKnownName("Long Name"));
+
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+
+        assertTrue(repository.isKnownName("Long Name"));
+        assertTrue(repository.isAbbreviatedName("L. N."));
+        assertFalse(repository.isAbbreviatedName("Long Name"));
+    }
+
+    @Test
+    void demonstrationRepository() {
+        JournalAbbreviationRepository demonstrationRepository = new JournalAbbreviationRepository();
+
+        assertEquals(Optional.of("Demo"), demonstrationRepository.getDefaultAbbreviation("Demonstration"));
+        assertEquals(Optional.of("Demonstration"), demonstrationRepository.get("Dem").map(Abbreviation::getName));
+        assertEquals(Set.of("Demonstration"), demonstrationRepository.getFullNames());
+    }
+
     @Test
     void abbreviationsWithEscapedAmpersand() {
         assertEquals(new Abbreviation("ACS Applied Materials & Interfaces", "ACS Appl. Mater. Interfaces"), repository.get("ACS Applied Materials & Interfaces").get());
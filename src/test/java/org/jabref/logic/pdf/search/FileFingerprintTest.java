@@ -0,0 +1,52 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class FileFingerprintTest {
+
+    private static final Path THESIS = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+
+    @Test
+    void fingerprintDoesNotChangeWhenFileIsTouched(@TempDir Path directory) throws IOException {
+        Path file = Files.copy(THESIS, directory.resolve("thesis.pdf"));
+        String fingerprint = FileFingerprint.of(file);
+
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+
+        assertEquals(fingerprint, FileFingerprint.of(file));
+    }
+
+    @Test
+    void fingerprintOfCopyIsEqual(@TempDir Path directory) throws IOException {
+        Path copy = Files.copy(THESIS, directory.resolve("copy.pdf"));
+
+        assertEquals(FileFingerprint.of(THESIS), FileFingerprint.of(copy));
+    }
+
+    @Test
+    void fingerprintChangesWhenEndOfFileChanges(@TempDir Path directory) throws IOException {
+        byte[] content = Files.readAllBytes(THESIS);
+        content[content.length - 1]++;
+        Path changedFile = Files.write(directory.resolve("changed.pdf"), content);
+
+        assertNotEquals(FileFingerprint.of(THESIS), FileFingerprint.of(changedFile));
+    }
+
+    @Test
+    void fingerprintOfSmallFilesDiffers(@TempDir Path directory) throws IOException {
+        Path first = Files.writeString(directory.resolve("first.pdf"), "first");
+        Path second = Files.writeString(directory.resolve("second.pdf"), "other");
+
+        assertNotEquals(FileFingerprint.of(first), FileFingerprint.of(second));
+    }
+}
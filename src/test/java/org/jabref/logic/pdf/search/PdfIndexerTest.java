@@ -1,9 +1,16 @@
 package org.jabref.logic.pdf.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
@@ -11,10 +18,15 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
 
+import org.apache.lucene.document.Document;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -154,4 +166,101 @@ public class PdfIndexerTest {
             assertEquals(34, reader.numDocs());
         }
     }
+
+    @Test
+    public void addToIndexIndexesAllFilesAndReportsProgress() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(
+                        new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName()),
+                        new LinkedFile("Online file", "https://www.example.org/paper.pdf", StandardFileType.PDF.getName())));
+        database.insertEntries(exampleThesis, metadata);
+        indexer.createIndex();
+        List<IndexingProgress> progress = new ArrayList<>();
+
+        // when
+        indexer.addToIndex(database.getEntries(), progress::add, () -> false);
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(34, reader.numDocs());
+        }
+        assertEquals(2, progress.getLast().indexedFiles());
+        assertEquals(2, progress.getLast().totalFiles());
+    }
+
+    @Test
+    public void addToIndexDoesNotIndexAfterCancellation() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(exampleThesis);
+        indexer.createIndex();
+
+        // when
+        indexer.addToIndex(database.getEntries(), progress -> {
+        }, () -> true);
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(indexer.indexWriter)) {
+            assertEquals(0, reader.numDocs());
+        }
+    }
+
+    @Test
+    public void touchedFileIsReplacedInIndex(@TempDir Path fileDirectory) throws IOException {
+        // given
+        Path file = Files.copy(Path.of("src/test/resources/pdfs/thesis-example.pdf"), fileDirectory.resolve("thesis.pdf"));
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(Collections.singletonList(new LinkedFile("Example Thesis", file.toString(), StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.rebuildIndex();
+
+        // when
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+        indexer.addToIndex(database.getEntries());
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(indexer.indexWriter)) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
+
+    @Test
+    public void movedFileIsIndexedUsingStoredContent(@TempDir Path fileDirectory) throws IOException {
+        // given
+        Path file = Files.copy(Path.of("src/test/resources/pdfs/thesis-example.pdf"), fileDirectory.resolve("thesis.pdf"));
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(Collections.singletonList(new LinkedFile("Example Thesis", file.toString(), StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.rebuildIndex();
+        List<String> indexedContent = getIndexedContent();
+
+        // when
+        Path movedFile = Files.move(file, fileDirectory.resolve("moved.pdf"));
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", movedFile.toString(), StandardFileType.PDF.getName())));
+        indexer.addToIndex(database.getEntries());
+        indexer.removeFromIndex(file.toString());
+
+        // then
+        assertEquals(Set.of(movedFile.toString()), indexer.getListOfFilePaths());
+        try (IndexReader reader = DirectoryReader.open(indexer.indexWriter)) {
+            assertEquals(33, reader.numDocs());
+        }
+        assertEquals(indexedContent, getIndexedContent());
+    }
+
+    private List<String> getIndexedContent() throws IOException {
+        List<String> content = new ArrayList<>();
+        try (IndexReader reader = DirectoryReader.open(indexer.indexWriter)) {
+            for (ScoreDoc scoreDoc : new IndexSearcher(reader).search(new MatchAllDocsQuery(), Integer.MAX_VALUE).scoreDocs) {
+                Document document = reader.document(scoreDoc.doc);
+                content.add(document.get(SearchFieldConstants.PAGE_NUMBER) + ":" + document.get(SearchFieldConstants.CONTENT));
+            }
+        }
+        content.sort(String::compareTo);
+        return content;
+    }
 }
@@ -0,0 +1,143 @@
+package org.jabref.logic.search;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntrySearchIndexTest {
+
+    private BibDatabase database;
+    private EntrySearchIndex searchIndex;
+
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Harrer2018")
+            .withField(StandardField.AUTHOR, "Simon Harrer")
+            .withField(StandardField.TITLE, "Java by Comparison")
+            .withField(StandardField.YEAR, "2018");
+    private final BibEntry mueller = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.AUTHOR, "Hans M{\\\"u}ller")
+            .withField(StandardField.TITLE, "Effective Search Engines")
+            .withField(StandardField.YEAR, "2018");
+    private final BibEntry tonho = new BibEntry(StandardEntryType.InCollection)
+            .withField(StandardField.AUTHOR, "Tonho")
+            .withField(StandardField.JOURNAL, "Journal of Comparison");
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        database.insertEntries(harrer, mueller);
+        searchIndex = new EntrySearchIndex(database);
+        database.insertEntry(tonho);
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("comparison", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("COMPARISON java", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("Comparison", EnumSet.of(SearchFlags.CASE_SENSITIVE)),
+                Arguments.of("comparison", EnumSet.of(SearchFlags.CASE_SENSITIVE)),
+                Arguments.of("muller", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("arr", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("harrer2018", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("ar", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("mül", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("author=harrer", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("author=harrer or journal=comparison", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("year=2018 and not author=harrer", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("title==\"java by comparison\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("author!=harrer", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("entrytype=book", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("(tonho) and anyfield=journal", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of("h.*rer", EnumSet.of(SearchFlags.REGULAR_EXPRESSION)),
+                Arguments.of("author=h.*rer", EnumSet.of(SearchFlags.REGULAR_EXPRESSION)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void getMatchesReturnsSameResultAsScan(String query, EnumSet<SearchFlags> searchFlags) {
+        SearchQuery searchQuery = new SearchQuery(query, searchFlags);
+        List<BibEntry> expected = database.getEntries().stream().filter(searchQuery::isMatch).toList();
+
+        assertEquals(expected, searchIndex.getMatches(searchQuery));
+        for (BibEntry entry : database.getEntries()) {
+            assertEquals(searchQuery.isMatch(entry), searchIndex.isMatch(searchQuery, entry));
+        }
+    }
+
+    @Test
+    void getMatchesKeepsOrderOfLibrary() {
+        SearchQuery searchQuery = new SearchQuery("2018", EnumSet.noneOf(SearchFlags.class));
+
+        assertEquals(List.of(harrer, mueller), searchIndex.getMatches(searchQuery));
+    }
+
+    @Test
+    void findsEntryAfterFieldChange() {
+        SearchQuery searchQuery = new SearchQuery("indexing", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(List.of(), searchIndex.getMatches(searchQuery));
+
+        mueller.setField(StandardField.TITLE, "Incremental Indexing");
+
+        assertEquals(List.of(mueller), searchIndex.getMatches(searchQuery));
+        assertTrue(searchIndex.isMatch(searchQuery, mueller));
+    }
+
+    @Test
+    void doesNotFindEntryAfterFieldChange() {
+        SearchQuery searchQuery = new SearchQuery("engines", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(List.of(mueller), searchIndex.getMatches(searchQuery));
+
+        mueller.clearField(StandardField.TITLE);
+
+        assertEquals(List.of(), searchIndex.getMatches(searchQuery));
+        assertFalse(searchIndex.isMatch(searchQuery, mueller));
+    }
+
+    @Test
+    void doesNotFindRemovedEntry() {
+        database.removeEntry(harrer);
+
+        assertEquals(List.of(), searchIndex.getMatches(new SearchQuery("harrer", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void doesNotFindEntryAfterFieldChangeWithLatex() {
+        SearchQuery searchQuery = new SearchQuery("muller", EnumSet.noneOf(SearchFlags.class));
+
+        mueller.setField(StandardField.AUTHOR, "Hans Meier");
+
+        assertEquals(List.of(), searchIndex.getMatches(searchQuery));
+        assertFalse(searchIndex.isMatch(searchQuery, mueller));
+    }
+
+    @Test
+    void findsEntriesInOrderOfLibraryAfterRemovingEntries() {
+        database.removeEntries(List.of(harrer, tonho));
+        BibEntry knuth = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Donald Knuth")
+                .withField(StandardField.YEAR, "2018");
+        database.insertEntry(knuth);
+
+        SearchQuery searchQuery = new SearchQuery("2018", EnumSet.noneOf(SearchFlags.class));
+
+        assertEquals(List.of(mueller, knuth), searchIndex.getMatches(searchQuery));
+        assertTrue(searchIndex.isMatch(searchQuery, knuth));
+        assertFalse(searchIndex.isMatch(new SearchQuery("harrer", EnumSet.noneOf(SearchFlags.class)), mueller));
+    }
+}
@@ -0,0 +1,107 @@
+package org.jabref.logic.shared;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChangeLogPositionTest {
+
+    private MutableClock clock;
+    private ChangeLogPosition position;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        position = new ChangeLogPosition(clock);
+    }
+
+    private static DBMSProcessor.SharedChanges changes(Map<Long, Integer> sharedIDs) {
+        return new DBMSProcessor.SharedChanges(new TreeMap<>(sharedIDs));
+    }
+
+    @Test
+    void allEntriesAreComparedWithoutPosition() {
+        assertEquals(OptionalLong.empty(), position.getChangesStart());
+    }
+
+    @Test
+    void changesAreReadAfterLatestChange() {
+        position.reset(10, changes(Map.of(9L, 1, 10L, 2)));
+
+        assertEquals(Set.of(3, 4), position.update(changes(Map.of(11L, 3, 12L, 4))));
+        assertEquals(OptionalLong.of(12), position.getChangesStart());
+    }
+
+    @Test
+    void changeCommittedLateIsPulled() {
+        position.reset(10, changes(Map.of(10L, 1)));
+        // the transaction of change 11 is not committed yet
+        position.update(changes(Map.of(12L, 2)));
+        assertEquals(OptionalLong.of(10), position.getChangesStart());
+
+        assertEquals(Set.of(3), position.update(changes(Map.of(11L, 3, 12L, 2))));
+        assertEquals(OptionalLong.of(12), position.getChangesStart());
+    }
+
+    @Test
+    void changeRunningDuringComparisonIsPulled() {
+        // the transaction of change 9 is not committed yet
+        position.reset(10, changes(Map.of(8L, 1, 10L, 2)));
+        assertEquals(OptionalLong.of(8), position.getChangesStart());
+
+        assertEquals(Set.of(3), position.update(changes(Map.of(9L, 3, 10L, 2))));
+    }
+
+    @Test
+    void changeOfRolledBackTransactionIsGivenUp() {
+        position.reset(10, changes(Map.of(10L, 1)));
+        position.update(changes(Map.of(12L, 2)));
+
+        clock.advance(ChangeLogPosition.MISSING_CHANGE_TIMEOUT.plusSeconds(1));
+
+        assertEquals(OptionalLong.of(12), position.getChangesStart());
+    }
+
+    @Test
+    void tooManyMissingChangesLeadToComparingAllEntries() {
+        position.reset(10, changes(Map.of(10L, 1)));
+
+        position.update(changes(Map.of(12L + ChangeLogPosition.MAX_MISSING_CHANGES, 2)));
+
+        assertEquals(OptionalLong.empty(), position.getChangesStart());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
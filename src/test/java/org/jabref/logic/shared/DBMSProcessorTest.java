@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -197,6 +198,46 @@ class DBMSProcessorTest {
         assertEquals(Optional.of(expectedBibEntry), actualBibEntryOptional);
     }
 
+    @Test
+    void updateEntriesRefusesOnlyNewerEntries() throws Exception {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+
+        firstEntry.setField(StandardField.YEAR, "1993");
+        firstEntry.clearField(StandardField.BOOKTITLE);
+        // simulate older version
+        secondEntry.getSharedBibEntryData().setVersion(0);
+        secondEntry.setField(StandardField.YEAR, "1993");
+
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(List.of(firstEntry, secondEntry));
+
+        assertEquals(1, refusedUpdates.size());
+        assertEquals(secondEntry, refusedUpdates.getFirst().getLocalBibEntry());
+        assertEquals(Optional.of(firstEntry), dbmsProcessor.getSharedEntry(firstEntry.getSharedBibEntryData().getSharedID()));
+        assertEquals(Optional.of(getBibEntryExample2()), dbmsProcessor.getSharedEntry(secondEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void changesAreRecordedInChangeLog() throws Exception {
+        assertEquals(Optional.of(0L), dbmsProcessor.getLatestChangeNumber());
+
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+        firstEntry.setField(StandardField.YEAR, "1993");
+        dbmsProcessor.updateEntry(firstEntry);
+        dbmsProcessor.removeEntries(List.of(secondEntry));
+
+        long latestChangeNumber = dbmsProcessor.getLatestChangeNumber().orElseThrow();
+        SortedMap<Long, Integer> changes = dbmsProcessor.getChangesSince(0).orElseThrow().sharedIDs();
+        int firstSharedID = firstEntry.getSharedBibEntryData().getSharedID();
+        int secondSharedID = secondEntry.getSharedBibEntryData().getSharedID();
+        // one change per entry and transaction: insertion of both entries, update of the first, removal of the second
+        assertEquals(List.of(firstSharedID, secondSharedID, firstSharedID, secondSharedID), List.copyOf(changes.values()));
+        assertEquals(latestChangeNumber, changes.lastKey());
+    }
+
     @Test
     void removeAllEntries() throws SQLException {
         BibEntry firstEntry = getBibEntryExample();
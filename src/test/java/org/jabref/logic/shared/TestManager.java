@@ -24,10 +24,12 @@ public class TestManager {
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS `JABREF_FIELD`");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS `JABREF_ENTRY`");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS `JABREF_METADATA`");
+            dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS `JABREF_CHANGELOG`");
         } else if (dbmsType == DBMSType.POSTGRESQL) {
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"FIELD\"");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"ENTRY\"");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"METADATA\"");
+            dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"CHANGELOG\"");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP SCHEMA IF EXISTS jabref");
         } else if (dbmsType == DBMSType.ORACLE) {
             dbmsConnection.getConnection().createStatement()
@@ -42,11 +44,19 @@ public class TestManager {
                           .executeUpdate("BEGIN\n"
                                   + "EXECUTE IMMEDIATE 'DROP TABLE \"METADATA\"';\n" + "EXCEPTION\n" + "WHEN OTHERS THEN\n"
                                   + "IF SQLCODE != -942 THEN\n" + "RAISE;\n" + "END IF;\n" + "END;\n");
+            dbmsConnection.getConnection().createStatement()
+                          .executeUpdate("BEGIN\n"
+                                  + "EXECUTE IMMEDIATE 'DROP TABLE \"CHANGELOG\"';\n" + "EXCEPTION\n" + "WHEN OTHERS THEN\n"
+                                  + "IF SQLCODE != -942 THEN\n" + "RAISE;\n" + "END IF;\n" + "END;\n");
             dbmsConnection.getConnection().createStatement()
                           // Sequence does not exist has a different error code than table does not exist
                           .executeUpdate("BEGIN\n"
                                   + "EXECUTE IMMEDIATE 'DROP SEQUENCE \"ENTRY_SEQ\"';\n" + "EXCEPTION\n" + "WHEN OTHERS THEN\n"
                                   + "IF SQLCODE != -2289 THEN\n" + "RAISE;\n" + "END IF;\n" + "END;\n");
+            dbmsConnection.getConnection().createStatement()
+                          .executeUpdate("BEGIN\n"
+                                  + "EXECUTE IMMEDIATE 'DROP SEQUENCE \"CHANGELOG_SEQ\"';\n" + "EXCEPTION\n" + "WHEN OTHERS THEN\n"
+                                  + "IF SQLCODE != -2289 THEN\n" + "RAISE;\n" + "END IF;\n" + "END;\n");
         }
     }
 }
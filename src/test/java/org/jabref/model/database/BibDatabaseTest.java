@@ -45,6 +45,29 @@ class BibDatabaseTest {
         assertEquals(entry, database.getEntries().get(0));
     }
 
+    @Test
+    void entriesSnapshotContainsCurrentEntries() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        database.insertEntries(entry1, entry2);
+        database.removeEntry(entry1);
+
+        assertEquals(List.of(entry2), database.getEntriesSnapshot());
+    }
+
+    @Test
+    void entriesSnapshotIsNotAffectedByLaterChanges() {
+        BibEntry entry1 = new BibEntry();
+        database.insertEntry(entry1);
+        List<BibEntry> snapshot = database.getEntriesSnapshot();
+
+        BibEntry entry2 = new BibEntry();
+        database.insertEntry(entry2);
+
+        assertEquals(List.of(entry1), snapshot);
+        assertEquals(List.of(entry1, entry2), database.getEntriesSnapshot());
+    }
+
     @Test
     void containsEntryIdFindsEntry() {
         BibEntry entry = new BibEntry();
@@ -345,6 +368,51 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void getEntryByCitationKeyFindsEntryAfterKeyChange() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntryByCitationKeyFindsEntryWhoseKeyWasAddedAfterInsertion() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+
+        entry.setCitationKey("AAA");
+
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void getEntryByCitationKeyIgnoresKeyChangesOfRemovedEntry() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("BBB").withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "second");
+        database.insertEntries(first, second);
+
+        first.setCitationKey("AAA");
+
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -1225,4 +1225,21 @@ public class AuthorListTest {
         assertEquals("al-Khw{\\={a}}rizm{\\={i}}, M. and C. B{\\\"o}hm and K. G{\\\"{o}}del",
                 THREE_AUTHORS_WITH_LATEX.getAsLastFirstFirstLastNamesWithAnd(true));
     }
+
+    @Test
+    public void parseLatexFreeReturnsLatexFreeVersionOfCachedList() {
+        String authors = "Kurt G{\\\"{o}}del and Corrado B{\\\"o}hm";
+        assertEquals(AuthorList.parse(authors).latexFree(), AuthorList.parseLatexFree(authors));
+        assertEquals("Gödel and Böhm", AuthorList.parseLatexFree(authors).getAsLastNames(false));
+    }
+
+    @Test
+    public void repeatedParseIsCacheHit() {
+        String authors = "Cache Hit Test Author and Another Author";
+        AuthorList.parse(authors);
+        long hitCount = AuthorList.getCacheStats().hitCount();
+
+        assertSame(AuthorList.parse(authors), AuthorList.parse(authors));
+        assertTrue(AuthorList.getCacheStats().hitCount() >= hitCount + 2);
+    }
 }
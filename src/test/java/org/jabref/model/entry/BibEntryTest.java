@@ -13,6 +13,8 @@ import java.util.stream.Stream;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldPriority;
@@ -24,6 +26,7 @@ import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -846,4 +849,72 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void setContentReturnsAllChanges() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.AUTHOR, "Foo")
+                .withField(StandardField.TITLE, "Old title");
+
+        List<FieldChange> changes = entry.setContent(StandardEntryType.Article,
+                Map.of(StandardField.TITLE, "New title", StandardField.YEAR, "2024"),
+                EntriesEventSource.SHARED);
+
+        assertEquals(Set.of(
+                        new FieldChange(entry, InternalField.TYPE_HEADER, "Misc", "Article"),
+                        new FieldChange(entry, StandardField.AUTHOR, "Foo", null),
+                        new FieldChange(entry, StandardField.TITLE, "Old title", "New title"),
+                        new FieldChange(entry, StandardField.YEAR, null, "2024")),
+                Set.copyOf(changes));
+        assertEquals(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "New title")
+                .withField(StandardField.YEAR, "2024"), entry);
+    }
+
+    @Test
+    void setContentWithSameContentReturnsNoChange() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title");
+
+        assertEquals(List.of(), entry.setContent(StandardEntryType.Article, Map.of(StandardField.TITLE, "Title"), EntriesEventSource.SHARED));
+    }
+
+    @Test
+    void listenersAreNotifiedAboutChangesOfTheirEntriesOnly() {
+        FieldChangeRecorder listener = new FieldChangeRecorder();
+        BibEntry otherEntry = new BibEntry();
+        entry.registerListener(listener);
+        otherEntry.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "Title");
+        otherEntry.setField(StandardField.YEAR, "2024");
+        entry.unregisterListener(listener);
+        entry.setField(StandardField.TITLE, "Other title");
+
+        assertEquals(List.of(StandardField.TITLE, StandardField.YEAR), listener.changedFields);
+    }
+
+    @Test
+    void secondListenerDoesNotReplaceFirstListener() {
+        FieldChangeRecorder firstListener = new FieldChangeRecorder();
+        FieldChangeRecorder secondListener = new FieldChangeRecorder();
+        entry.registerListener(firstListener);
+        entry.registerListener(secondListener);
+
+        entry.setField(StandardField.TITLE, "Title");
+        entry.unregisterListener(firstListener);
+        entry.setField(StandardField.YEAR, "2024");
+
+        assertEquals(List.of(StandardField.TITLE), firstListener.changedFields);
+        assertEquals(List.of(StandardField.TITLE, StandardField.YEAR), secondListener.changedFields);
+    }
+
+    private static class FieldChangeRecorder {
+        private final List<Field> changedFields = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            changedFields.add(event.getField());
+        }
+    }
 }
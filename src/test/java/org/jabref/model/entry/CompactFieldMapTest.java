@@ -0,0 +1,71 @@
+package org.jabref.model.entry;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CompactFieldMapTest {
+
+    private final CompactFieldMap map = new CompactFieldMap();
+
+    @Test
+    void putReplacesValueOfExistingField() {
+        map.put(StandardField.TITLE, "Title");
+        map.put(StandardField.YEAR, "2024");
+
+        assertEquals("Title", map.put(StandardField.TITLE, "New title"));
+        assertEquals(Map.of(StandardField.TITLE, "New title", StandardField.YEAR, "2024"), map);
+    }
+
+    @Test
+    void removeKeepsOtherFieldsInOrder() {
+        map.put(StandardField.AUTHOR, "Author");
+        map.put(StandardField.TITLE, "Title");
+        map.put(StandardField.YEAR, "2024");
+
+        assertEquals("Title", map.remove(StandardField.TITLE));
+        assertNull(map.remove(StandardField.TITLE));
+        assertEquals(List.of(StandardField.AUTHOR, StandardField.YEAR), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    void unknownFieldsAreComparedByName() {
+        map.put(new UnknownField("custom"), "Value");
+
+        assertEquals("Value", map.get(new UnknownField("Custom")));
+    }
+
+    @Test
+    void iterationIsNotAffectedByModifications() {
+        map.put(StandardField.AUTHOR, "Author");
+        map.put(StandardField.TITLE, "Title");
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        map.put(StandardField.YEAR, "2024");
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(StandardField.TITLE, iterator.next().getKey());
+        assertFalse(iterator.hasNext());
+        assertEquals(Map.of(StandardField.TITLE, "Title", StandardField.YEAR, "2024"), map);
+    }
+
+    @Test
+    void settingValueOfEntryWritesThrough() {
+        map.put(StandardField.TITLE, "Title");
+
+        map.entrySet().iterator().next().setValue("New title");
+
+        assertEquals("New title", map.get(StandardField.TITLE));
+    }
+}
@@ -4,6 +4,7 @@ import java.util.EnumSet;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Disabled;
@@ -91,6 +92,32 @@ public class GrammarBasedSearchRuleTest {
         assertTrue(searchRule.applyRule(query, new BibEntry(StandardEntryType.PhdThesis)));
     }
 
+    @Test
+    void searchForFieldIgnoresCaseOfFieldName() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+        String query = "Title=larviculture and YEAR==2001";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void searchForMissingFieldMatchesOnlyDoesNotContain() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+        assertTrue(searchRule.validateSearchStrings("journal!=nature"));
+        assertTrue(searchRule.applyRule("journal!=nature", makeBibtexEntry()));
+        assertTrue(searchRule.validateSearchStrings("journal=nature"));
+        assertFalse(searchRule.applyRule("journal=nature", makeBibtexEntry()));
+    }
+
+    @Test
+    void searchForUnknownFieldWorks() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+        String query = "customfield=value";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, new BibEntry()
+                .withField(new UnknownField("customField"), "some value")));
+    }
+
     public BibEntry makeBibtexEntry() {
         return new BibEntry(StandardEntryType.InCollection)
                 .withCitationKey("shields01")